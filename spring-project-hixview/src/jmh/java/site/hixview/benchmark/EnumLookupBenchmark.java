@@ -0,0 +1,41 @@
+package site.hixview.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import site.hixview.domain.entity.Press;
+import site.hixview.util.EnumUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Korean value to constant conversion as done by the press filters and the bulk-add loops, against the
+ * per-call reflective scan over getValue that it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumLookupBenchmark {
+
+    @Param({"지디넷코리아", "ZDNET_KOREA"})
+    private String press;
+
+    @Benchmark
+    public String reflectiveScan() throws Exception {
+        Method method = Press.class.getMethod("getValue");
+        for (Press constant : Press.class.getEnumConstants()) {
+            if (method.invoke(constant).equals(press)) {
+                for (Press converted : Press.class.getEnumConstants()) {
+                    if (method.invoke(converted).equals(press)) {
+                        return converted.name();
+                    }
+                }
+            }
+        }
+        return press;
+    }
+
+    @Benchmark
+    public String registryLookup() {
+        return EnumUtils.inEnumValues(Press.class, press) ? EnumUtils.convertToEnum(Press.class, press).name() : press;
+    }
+}
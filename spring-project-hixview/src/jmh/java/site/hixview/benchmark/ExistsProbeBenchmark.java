@@ -0,0 +1,106 @@
+package site.hixview.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import site.hixview.domain.entity.Press;
+import site.hixview.domain.entity.article.CompanyArticle;
+import site.hixview.domain.repository.CompanyArticleRepository;
+import site.hixview.repository.jdbc.CompanyArticleRepositoryImpl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-add query cost of the presence checks: the add validator looks up name and link, then the service's
+ * duplicate check looks up the name again. Runs against an in-memory H2 database in MySQL mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExistsProbeBenchmark {
+
+    private static final int ROW_COUNT = 10_000;
+    private static final String TABLE = "company_articles";
+    private static final String COMPANY_TABLE = "companies";
+
+    @Param({"true", "false"})
+    private boolean present;
+
+    private SingleConnectionDataSource dataSource;
+    private AnnotationConfigApplicationContext context;
+    private CompanyArticleRepository articleRepository;
+    private String name;
+    private String link;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:exists-probe;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=DATE,NUMBER", true);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        namedJdbcTemplate.getJdbcTemplate().execute("drop table if exists " + TABLE);
+        namedJdbcTemplate.getJdbcTemplate().execute("drop table if exists " + COMPANY_TABLE);
+        namedJdbcTemplate.getJdbcTemplate().execute("create table " + COMPANY_TABLE + " (" +
+                "code char(6) primary key, name varchar(30) not null unique)");
+        namedJdbcTemplate.getJdbcTemplate().execute("insert into " + COMPANY_TABLE + " values ('005930', '삼성전자')");
+        namedJdbcTemplate.getJdbcTemplate().execute("create table " + TABLE + " (" +
+                "number bigint auto_increment primary key, name varchar(80) not null unique, " +
+                "press varchar(30) not null, link varchar(400) not null unique, date date not null, " +
+                "importance int not null, subjectCompany varchar(30) not null, subjectCompanyCode char(6))");
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Map.of("schema.article.companies", TABLE,
+                        "schema.article.mains", "article_mains", "schema.companies", COMPANY_TABLE)));
+        context.registerBean(NamedParameterJdbcTemplate.class, () -> namedJdbcTemplate);
+        context.register(CompanyArticleRepositoryImpl.class);
+        context.refresh();
+        articleRepository = context.getBean(CompanyArticleRepository.class);
+
+        List<CompanyArticle> articles = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            articles.add(article(i));
+        }
+        articleRepository.saveArticles(articles);
+
+        CompanyArticle probe = article(present ? ROW_COUNT / 2 : ROW_COUNT);
+        name = probe.getName();
+        link = probe.getLink();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public boolean fullRowLookups() {
+        boolean nameExists = articleRepository.getArticleByName(name).isPresent();
+        boolean linkExists = articleRepository.getArticleByLink(link).isPresent();
+        return nameExists | linkExists | articleRepository.getArticleByName(name).isPresent();
+    }
+
+    @Benchmark
+    public boolean existsProbes() {
+        boolean nameExists = articleRepository.existsByName(name);
+        boolean linkExists = articleRepository.existsByLink(link);
+        return nameExists | linkExists | articleRepository.existsByName(name);
+    }
+
+    private static CompanyArticle article(int index) {
+        return CompanyArticle.builder()
+                .name("기업 기사 " + index)
+                .press(Press.values()[index % Press.values().length])
+                .link("https://www.hixview.site/articles/" + index)
+                .date(LocalDate.of(2024, 1, 1).plusDays(index % 365))
+                .importance(0)
+                .subjectCompany("삼성전자")
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package site.hixview.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import site.hixview.domain.entity.Press;
+import site.hixview.domain.entity.article.NameDatePress;
+import site.hixview.util.NameDatePressTokenizer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.System.lineSeparator;
+
+/**
+ * Parsing a pasted name/date/press list into names, dates and presses, with the split and replaceAll parser
+ * that the string bulk-add used before against the single-pass tokenizer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameDatePressParserBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private String nameDatePressString;
+
+    @Setup
+    public void setUp() {
+        Press[] presses = Press.values();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) builder.append(lineSeparator());
+            builder.append("삼성전자 기사 ").append(i).append(lineSeparator())
+                    .append("(2024-").append(i % 12 + 1).append('-').append(i % 28 + 1).append(", ")
+                    .append(presses[i % presses.length].name()).append(')');
+        }
+        nameDatePressString = builder.toString();
+    }
+
+    @Benchmark
+    public List<NameDatePress> regexSplit() {
+        List<String> dividedArticle = List.of(nameDatePressString.split("\\R"));
+        List<List<String>> parsedArticle = new ArrayList<>();
+        for (int i = 0; i < dividedArticle.size(); i++) {
+            if (i % 2 == 0) {
+                parsedArticle.add(new ArrayList<>(List.of(dividedArticle.get(i))));
+            } else {
+                parsedArticle.getLast().addAll(List.of(dividedArticle.get(i)
+                        .replaceAll("^\\(|\\)$", "").split(",\\s|-")));
+            }
+        }
+        List<NameDatePress> pairs = new ArrayList<>(parsedArticle.size());
+        for (int i = 0; i < parsedArticle.size(); i++) {
+            List<String> partialArticle = parsedArticle.get(i);
+            pairs.add(NameDatePress.of(2 * i + 1, partialArticle.get(0).strip(),
+                    LocalDate.of(Integer.parseInt(partialArticle.get(1)), Integer.parseInt(partialArticle.get(2)),
+                            Integer.parseInt(partialArticle.get(3))),
+                    Press.valueOf(partialArticle.get(4).toUpperCase())));
+        }
+        return pairs;
+    }
+
+    @Benchmark
+    public List<NameDatePress> singlePassTokenizer() {
+        return NameDatePressTokenizer.tokenize(nameDatePressString);
+    }
+}
@@ -0,0 +1,117 @@
+package site.hixview.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import site.hixview.SpringProjectHixviewApplication;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static site.hixview.domain.vo.Word.AFTER;
+import static site.hixview.domain.vo.manager.RequestURL.SELECT_COMPANY_ARTICLE_URL;
+import static site.hixview.domain.vo.user.RequestUrl.COMPANY_SEARCH_URL;
+
+/**
+ * Requests served by the whole application over HTTP, with Tomcat on its platform thread pool
+ * (server.tomcat.threads.max) against one virtual thread per request. Throughput mode gives requests per
+ * millisecond and sample time mode the p0.99 latency. Client threads outnumber the platform pool so requests
+ * queue in that mode; change the count with -t.
+ * The home page and company search are answered from the snapshot, company and rendered page caches after the
+ * first request, so they measure request handling alone. The company article page reads one keyset page from the
+ * database per request, starting after a random article number, so it waits on the connection pool.
+ * Runs against the MySQL database of DATABASE_URL, DATABASE_USERNAME and DATABASE_PASSWORD, and only reads; the
+ * article page needs company articles there. The company searched for is set with -p companyCodeOrName.
+ * Responses other than 200, e.g. a 500 after a request times out waiting on the connection pool, are reported as
+ * failed next to each score, so a run that overloads the pool does not pass them off as served requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class VirtualThreadRequestBenchmark {
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"005930"})
+    private String companyCodeOrName;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest homePageRequest;
+    private HttpRequest companySearchRequest;
+    private String companyArticlePageUrl;
+    private long maxArticleNumber;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringProjectHixviewApplication.class)
+                .properties("server.port=0", "spring.threads.virtual.enabled=" + virtualThreads,
+                        "logging.level.root=WARN")
+                .run();
+        String baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        homePageRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/")).GET().build();
+        companySearchRequest = HttpRequest.newBuilder(URI.create(baseUrl + COMPANY_SEARCH_URL
+                + URLEncoder.encode(companyCodeOrName, StandardCharsets.UTF_8).replace("+", "%20"))).GET().build();
+        companyArticlePageUrl = baseUrl + SELECT_COMPANY_ARTICLE_URL + "?" + AFTER + "=";
+        Long maxNumber = context.getBean(JdbcTemplate.class).queryForObject("select max(number) from "
+                + context.getEnvironment().getRequiredProperty("schema.article.companies"), Long.class);
+        maxArticleNumber = maxNumber == null ? 0 : maxNumber;
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int homePage(Responses responses) throws IOException, InterruptedException {
+        return send(homePageRequest, responses);
+    }
+
+    @Benchmark
+    public int companySearch(Responses responses) throws IOException, InterruptedException {
+        return send(companySearchRequest, responses);
+    }
+
+    @Benchmark
+    public int companyArticlePage(Responses responses) throws IOException, InterruptedException {
+        long after = ThreadLocalRandom.current().nextLong(maxArticleNumber + 1);
+        return send(HttpRequest.newBuilder(URI.create(companyArticlePageUrl + after)).GET().build(), responses);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Responses {
+
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            failed = 0;
+        }
+    }
+
+    /**
+     * Other private methods
+     */
+    private int send(HttpRequest request, Responses responses) throws IOException, InterruptedException {
+        int statusCode = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (statusCode != 200) {
+            responses.failed++;
+        }
+        return statusCode;
+    }
+}
@@ -1,14 +1,20 @@
 package site.hixview.domain.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+import site.hixview.web.cache.ImportResultStore;
+import site.hixview.web.cache.RenderedPageCache;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,6 +29,18 @@ public class AppConfig {
         return messageSource;
     }
 
+    @Bean
+    public RenderedPageCache renderedPageCache(@Value("${cache.rendered-page.maximum-size:1000}") long maximumSize,
+                                               ObjectProvider<ThymeleafViewResolver> viewResolver) {
+        return new RenderedPageCache(maximumSize, viewResolver);
+    }
+
+    @Bean
+    public ImportResultStore importResultStore(@Value("${cache.import-result.ttl:PT30M}") Duration timeToLive,
+                                               @Value("${cache.import-result.maximum-size:1000}") long maximumSize) {
+        return new ImportResultStore(timeToLive, maximumSize);
+    }
+
     private String[] getMessageResourceBaseNames() throws IOException {
         List<String> baseNames = new ArrayList<>();
         PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
@@ -1,21 +1,162 @@
 package site.hixview.domain.config;
 
-import org.springframework.boot.jdbc.DataSourceBuilder;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import site.hixview.util.QueryUtils;
 
 import javax.sql.DataSource;
 
+import static site.hixview.util.QueryUtils.STREAMING_JDBC_TEMPLATE;
+
 @Configuration
 public class DatabaseConfig {
 
+    private static final String MYSQL_DRIVER_CLASS_NAME = "com.mysql.cj.jdbc.Driver";
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${spring.datasource.hikari.pool-name}")
+    private String poolName;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private int maximumPoolSize;
+
+    @Value("${spring.datasource.hikari.minimum-idle}")
+    private int minimumIdle;
+
+    @Value("${spring.datasource.hikari.connection-timeout}")
+    private long connectionTimeout;
+
+    @Value("${spring.datasource.hikari.idle-timeout}")
+    private long idleTimeout;
+
+    @Value("${spring.datasource.hikari.max-lifetime}")
+    private long maxLifetime;
+
+    @Value("${spring.datasource.hikari.leak-detection-threshold}")
+    private long leakDetectionThreshold;
+
+    @Value("${spring.datasource.export.pool-name}")
+    private String exportPoolName;
+
+    @Value("${spring.datasource.export.maximum-pool-size}")
+    private int exportMaximumPoolSize;
+
+    @Value("${spring.datasource.export.leak-detection-threshold}")
+    private long exportLeakDetectionThreshold;
+
+    @Value("${spring.datasource.mysql.prep-stmt-cache-size}")
+    private int prepStmtCacheSize;
+
+    @Value("${spring.datasource.mysql.prep-stmt-cache-sql-limit}")
+    private int prepStmtCacheSqlLimit;
+
+    @Value("${spring.datasource.mysql.rewrite-batched-statements}")
+    private boolean rewriteBatchedStatements;
+
+    @Value("${schema.migrations}")
+    private String migrationSchema;
+
+    /**
+     * Connection pool of the repositories, apart from the streaming exports. The pool starts lazily on the first borrowed connection,
+     * so pool gauges (active, idle, pending) can be bound before it opens; they are exposed as
+     * hikaricp.connections.* through the metrics endpoint and as the pool MBean.
+     * With virtual request threads this pool, not the request threads, bounds how many requests use the database
+     * at once; the others wait up to connection-timeout for a connection.
+     */
     @Bean
+    @Primary
     public DataSource dataSource() {
-        return DataSourceBuilder.create()
-                .driverClassName("com.mysql.cj.jdbc.Driver")
-                .url("jdbc:mysql://localhost:3306/project1build")
-                .username("JunHyeok")
-                .password("1growwhigh!")
-                .build();
+        HikariConfig config = hikariConfig();
+        config.setPoolName(poolName);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(minimumIdle);
+        config.setLeakDetectionThreshold(leakDetectionThreshold);
+        HikariDataSource dataSource = new HikariDataSource();
+        config.copyStateTo(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * Small pool for the CSV and text exports, which stream a whole table over one connection for as long as the
+     * download takes. Downloads wait here instead of holding connections of the main pool, and the leak detection
+     * threshold of this pool is set above the length of a slow download rather than that of a request.
+     */
+    @Bean
+    public DataSource exportDataSource() {
+        HikariConfig config = hikariConfig();
+        config.setPoolName(exportPoolName);
+        config.setMaximumPoolSize(exportMaximumPoolSize);
+        config.setMinimumIdle(0);
+        config.setLeakDetectionThreshold(exportLeakDetectionThreshold);
+        HikariDataSource dataSource = new HikariDataSource();
+        config.copyStateTo(dataSource);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate(dataSource());
+    }
+
+    @Bean(STREAMING_JDBC_TEMPLATE)
+    public JdbcTemplate streamingJdbcTemplate() {
+        return QueryUtils.streamingJdbcTemplate(exportDataSource());
+    }
+
+    @Bean
+    public NamedParameterJdbcTemplate namedParameterJdbcTemplate() {
+        return new NamedParameterJdbcTemplate(jdbcTemplate());
+    }
+
+    @Bean(initMethod = "migrate")
+    @ConditionalOnProperty(name = "schema.migration.enabled", havingValue = "true", matchIfMissing = true)
+    public SchemaMigrationRunner schemaMigrationRunner(Environment environment) {
+        return new SchemaMigrationRunner(jdbcTemplate(), environment, migrationSchema);
+    }
+
+    /**
+     * Other private methods
+     */
+    private HikariConfig hikariConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(MYSQL_DRIVER_CLASS_NAME);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+
+        config.setConnectionTimeout(connectionTimeout);
+        config.setIdleTimeout(idleTimeout);
+        config.setMaxLifetime(maxLifetime);
+        config.setRegisterMbeans(true);
+
+        config.addDataSourceProperty("cachePrepStmts", true);
+        config.addDataSourceProperty("useServerPrepStmts", true);
+        config.addDataSourceProperty("prepStmtCacheSize", prepStmtCacheSize);
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", prepStmtCacheSqlLimit);
+        config.addDataSourceProperty("rewriteBatchedStatements", rewriteBatchedStatements);
+        config.addDataSourceProperty("cacheResultSetMetadata", true);
+        config.addDataSourceProperty("cacheServerConfiguration", true);
+        config.addDataSourceProperty("useLocalSessionState", true);
+        config.addDataSourceProperty("elideSetAutoCommits", true);
+        config.addDataSourceProperty("maintainTimeStats", false);
+        return config;
     }
-}
\ No newline at end of file
+}
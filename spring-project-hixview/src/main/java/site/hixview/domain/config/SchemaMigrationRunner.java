@@ -0,0 +1,171 @@
+package site.hixview.domain.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Applies the scripts under db/migration at startup, in version order and once each, and records them in the
+ * migrations table. Table names in the scripts are ${schema.*} placeholders, so the test tables get the same DDL.
+ * A named lock keeps two instances starting together from applying a script twice.
+ * A script may have a query of the same file name under db/migration/precheck; when that query returns rows, the
+ * script is not applied and startup stops with the rows in the message, e.g. duplicates a new unique index rejects.
+ */
+public class SchemaMigrationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrationRunner.class);
+
+    private static final String MIGRATION_LOCATION = "classpath:db/migration/V*__*.sql";
+    private static final String PRECHECK_LOCATION = "classpath:db/migration/precheck/";
+    private static final Pattern MIGRATION_FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final String MIGRATION_LOCK = "hixview_schema_migration";
+    private static final int MIGRATION_LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String CANNOT_ACQUIRE_MIGRATION_LOCK = "스키마 마이그레이션 잠금을 얻지 못했습니다.";
+    private static final String CANNOT_READ_MIGRATION = "스키마 마이그레이션 파일을 읽을 수 없습니다: ";
+    private static final String INVALID_MIGRATION_NAME = "스키마 마이그레이션 파일 이름이 올바르지 않습니다: ";
+    private static final String DUPLICATE_MIGRATION_VERSION = "스키마 마이그레이션 버전이 중복됩니다: ";
+    private static final String CHANGED_MIGRATION = "이미 적용된 스키마 마이그레이션이 변경되었습니다: ";
+    private static final String FAILED_MIGRATION_PRECHECK =
+            "스키마 마이그레이션을 적용하기 전에 정리해야 할 행이 있습니다: ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Environment environment;
+    private final String migrationSchema;
+
+    public SchemaMigrationRunner(JdbcTemplate jdbcTemplate, Environment environment, String migrationSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.environment = environment;
+        this.migrationSchema = migrationSchema;
+    }
+
+    public void migrate() {
+        List<Migration> migrations = loadMigrations();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate connectionJdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Integer locked = connectionJdbcTemplate.queryForObject("select get_lock(?, ?)", Integer.class,
+                    MIGRATION_LOCK, MIGRATION_LOCK_TIMEOUT_SECONDS);
+            if (locked == null || locked != 1) {
+                throw new IllegalStateException(CANNOT_ACQUIRE_MIGRATION_LOCK);
+            }
+            try {
+                applyPendingMigrations(connection, connectionJdbcTemplate, migrations);
+            } finally {
+                connectionJdbcTemplate.queryForObject("select release_lock(?)", Integer.class, MIGRATION_LOCK);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Other private methods
+     */
+    private void applyPendingMigrations(Connection connection, JdbcTemplate connectionJdbcTemplate,
+                                        List<Migration> migrations) {
+        connectionJdbcTemplate.execute("create table if not exists " + migrationSchema + " (" +
+                "version int not null, description varchar(100) not null, checksum bigint not null, " +
+                "installedAt datetime not null, primary key (version))");
+        Map<Integer, Long> appliedChecksums = new HashMap<>();
+        connectionJdbcTemplate.query("select version, checksum from " + migrationSchema, resultSet -> {
+            appliedChecksums.put(resultSet.getInt("version"), resultSet.getLong("checksum"));
+        });
+
+        for (Migration migration : migrations) {
+            Long appliedChecksum = appliedChecksums.get(migration.version());
+            if (appliedChecksum != null) {
+                if (appliedChecksum != migration.checksum()) {
+                    throw new IllegalStateException(CHANGED_MIGRATION + migration.fileName());
+                }
+                continue;
+            }
+            precheck(connectionJdbcTemplate, migration);
+            String script = environment.resolveRequiredPlaceholders(migration.script());
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(
+                    new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+            connectionJdbcTemplate.update("insert into " + migrationSchema +
+                            " (version, description, checksum, installedAt) values (?, ?, ?, ?)",
+                    migration.version(), migration.description(), migration.checksum(), Timestamp.from(Instant.now()));
+            log.info("Applied schema migration {}", migration.fileName());
+        }
+    }
+
+    private void precheck(JdbcTemplate connectionJdbcTemplate, Migration migration) {
+        Resource precheck = new PathMatchingResourcePatternResolver()
+                .getResource(PRECHECK_LOCATION + migration.fileName());
+        if (!precheck.exists()) {
+            return;
+        }
+        String query;
+        try {
+            query = environment.resolveRequiredPlaceholders(precheck.getContentAsString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(CANNOT_READ_MIGRATION + PRECHECK_LOCATION + migration.fileName(), e);
+        }
+        List<Map<String, Object>> rows = connectionJdbcTemplate.queryForList(query);
+        if (!rows.isEmpty()) {
+            throw new IllegalStateException(FAILED_MIGRATION_PRECHECK + migration.fileName() + "\n" +
+                    rows.stream().map(Map::toString).collect(Collectors.joining("\n")));
+        }
+    }
+
+    private List<Migration> loadMigrations() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(MIGRATION_LOCATION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(CANNOT_READ_MIGRATION + MIGRATION_LOCATION, e);
+        }
+        List<Migration> migrations = new ArrayList<>(resources.length);
+        for (Resource resource : resources) {
+            String fileName = resource.getFilename();
+            Matcher matcher = MIGRATION_FILE_NAME.matcher(fileName == null ? "" : fileName);
+            if (!matcher.matches()) {
+                throw new IllegalStateException(INVALID_MIGRATION_NAME + fileName);
+            }
+            String script;
+            try {
+                script = resource.getContentAsString(StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(CANNOT_READ_MIGRATION + fileName, e);
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(script.getBytes(StandardCharsets.UTF_8));
+            migrations.add(new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                    fileName, script, checksum.getValue()));
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version() == migrations.get(i - 1).version()) {
+                throw new IllegalStateException(DUPLICATE_MIGRATION_VERSION + migrations.get(i).fileName());
+            }
+        }
+        return migrations;
+    }
+
+    private record Migration(int version, String description, String fileName, String script, long checksum) {
+    }
+}
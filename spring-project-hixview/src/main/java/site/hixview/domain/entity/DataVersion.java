@@ -0,0 +1,36 @@
+package site.hixview.domain.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Version of a piece of data served to users, advanced on every write. The modification time is kept to the second
+ * because that is all an HTTP date carries.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class DataVersion {
+
+    private final long number;
+    private final Instant modifiedAt;
+
+    public static DataVersion initial() {
+        return new DataVersion(0L, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public DataVersion next() {
+        return new DataVersion(number + 1, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * Version of data drawn from two sources. Both numbers only grow, so their sum changes whenever either does.
+     */
+    public DataVersion plus(DataVersion other) {
+        return new DataVersion(number + other.number,
+                modifiedAt.isAfter(other.modifiedAt) ? modifiedAt : other.modifiedAt);
+    }
+}
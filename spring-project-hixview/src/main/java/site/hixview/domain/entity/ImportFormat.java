@@ -0,0 +1,22 @@
+package site.hixview.domain.entity;
+
+import java.util.Locale;
+
+/**
+ * Layout of an uploaded import file, told apart by its extension: NDJSON for .ndjson and .jsonl, CSV with a header
+ * row otherwise.
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static ImportFormat ofFileName(String fileName) {
+        if (fileName != null) {
+            String lowerCase = fileName.toLowerCase(Locale.ROOT);
+            if (lowerCase.endsWith(".ndjson") || lowerCase.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,71 @@
+package site.hixview.domain.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A pasted bulk-add submitted for background processing. The subject is the subject company of company articles
+ * or the first category of industry articles. Rows before processedRows are committed; errors holds the rejected
+ * rows as "#row error", one per line.
+ * With upsert, articles whose name or link is already stored overwrite those rows instead of being rejected.
+ */
+@Getter
+@Builder(access = AccessLevel.PUBLIC)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImportJob {
+
+    private final Long id;
+    private final ImportJobTarget target;
+    private final ImportJobStatus status;
+    private final String subject;
+    private final String subjectSecondCategories;
+    private final String nameDatePressString;
+    private final String linkString;
+    private final int totalRows;
+    private final int processedRows;
+    private final int insertedRows;
+    private final String errors;
+    private final boolean upsert;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public List<String> getErrorList() {
+        return errors == null || errors.isEmpty() ? Collections.emptyList() : List.of(errors.split("\n"));
+    }
+
+    public int getFailedRows() {
+        return processedRows - insertedRows;
+    }
+
+    public int getProgressPercent() {
+        return totalRows == 0 ? 100 : (int) (100L * processedRows / totalRows);
+    }
+
+    public static class ImportJobBuilder {
+        public ImportJobBuilder() {}
+
+        public ImportJobBuilder importJob(ImportJob importJob) {
+            id = importJob.getId();
+            target = importJob.getTarget();
+            status = importJob.getStatus();
+            subject = importJob.getSubject();
+            subjectSecondCategories = importJob.getSubjectSecondCategories();
+            nameDatePressString = importJob.getNameDatePressString();
+            linkString = importJob.getLinkString();
+            totalRows = importJob.getTotalRows();
+            processedRows = importJob.getProcessedRows();
+            insertedRows = importJob.getInsertedRows();
+            errors = importJob.getErrors();
+            upsert = importJob.isUpsert();
+            createdAt = importJob.getCreatedAt();
+            updatedAt = importJob.getUpdatedAt();
+            return this;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package site.hixview.domain.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum ImportJobStatus {
+    QUEUED("대기"),
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String statusValue;
+
+    ImportJobStatus(String statusValue) {
+        this.statusValue = statusValue;
+    }
+
+    public String getValue() {
+        return statusValue;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
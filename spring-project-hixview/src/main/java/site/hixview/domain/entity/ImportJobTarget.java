@@ -0,0 +1,19 @@
+package site.hixview.domain.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum ImportJobTarget {
+    COMPANY_ARTICLE("기업 기사"),
+    INDUSTRY_ARTICLE("산업 기사");
+
+    private final String targetValue;
+
+    ImportJobTarget(String targetValue) {
+        this.targetValue = targetValue;
+    }
+
+    public String getValue() {
+        return targetValue;
+    }
+}
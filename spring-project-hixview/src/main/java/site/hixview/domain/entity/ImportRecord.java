@@ -0,0 +1,82 @@
+package site.hixview.domain.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static site.hixview.util.ImportUtils.LIST_SEPARATOR;
+
+/**
+ * One record of an uploaded import file, numbered from 1 in file order. A record that could not be read carries
+ * the reason instead of its fields.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImportRecord {
+
+    private static final Pattern LIST_SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(LIST_SEPARATOR));
+
+    private final long row;
+    private final Map<String, String> fields;
+    private final String error;
+
+    public static ImportRecord of(long row, Map<String, String> fields) {
+        return new ImportRecord(row, fields, null);
+    }
+
+    public static ImportRecord malformed(long row, String error) {
+        return new ImportRecord(row, Collections.emptyMap(), error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+
+    /**
+     * The stripped value of a column, or null when it is missing or blank.
+     */
+    public String get(String column) {
+        String value = fields.get(column);
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    public Integer getInteger(String column) {
+        String value = get(column);
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw typeMismatch(column);
+        }
+    }
+
+    /**
+     * A yyyy-MM-dd value of a column.
+     */
+    public LocalDate getDate(String column) {
+        String value = get(column);
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw typeMismatch(column);
+        }
+    }
+
+    public List<String> getList(String column) {
+        String value = get(column);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        return LIST_SEPARATOR_PATTERN.splitAsStream(value).map(String::strip).filter(item -> !item.isEmpty()).toList();
+    }
+
+    private static IllegalArgumentException typeMismatch(String column) {
+        return new IllegalArgumentException(column + ": typeMismatch");
+    }
+}
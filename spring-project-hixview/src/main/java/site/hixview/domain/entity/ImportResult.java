@@ -0,0 +1,45 @@
+package site.hixview.domain.entity;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * What a bulk-add reports to its finish page: the names it registered, the rejected rows and the form-level error.
+ * Both lists are read a page at a time, with the same page index.
+ */
+@Getter
+public class ImportResult {
+
+    private final List<String> nameList;
+    private final List<String> errorList;
+    private final boolean beanValidationError;
+    private final String errorSingle;
+
+    public ImportResult(List<String> nameList, List<String> errorList, boolean beanValidationError, String errorSingle) {
+        this.nameList = List.copyOf(nameList);
+        this.errorList = List.copyOf(errorList);
+        this.beanValidationError = beanValidationError;
+        this.errorSingle = errorSingle;
+    }
+
+    public int getPageCount(int size) {
+        return Math.max(1, (Math.max(nameList.size(), errorList.size()) + size - 1) / size);
+    }
+
+    public List<String> getNamePage(int page, int size) {
+        return pageOf(nameList, page, size);
+    }
+
+    public List<String> getErrorPage(int page, int size) {
+        return pageOf(errorList, page, size);
+    }
+
+    /**
+     * Other private methods
+     */
+    private static List<String> pageOf(List<String> list, int page, int size) {
+        int from = (int) Math.min((long) Math.max(page, 0) * size, list.size());
+        return list.subList(from, Math.min(from + size, list.size()));
+    }
+}
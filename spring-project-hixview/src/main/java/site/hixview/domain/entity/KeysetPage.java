@@ -0,0 +1,46 @@
+package site.hixview.domain.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of rows ordered by a unique key, with the keys to request the neighbouring pages.
+ * A null cursor means there is no page in that direction.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetPage<T, K> {
+
+    private final List<T> content;
+    private final K previousCursor;
+    private final K nextCursor;
+
+    /**
+     * Build a page from rows fetched after a cursor with limit size + 1; the extra row only signals a next page.
+     */
+    public static <T, K> KeysetPage<T, K> forward(List<T> rows, int size, boolean hasCursor, Function<T, K> keyOf) {
+        List<T> content = rows.size() > size ? rows.subList(0, size) : rows;
+        if (content.isEmpty()) {
+            return new KeysetPage<>(content, null, null);
+        }
+        return new KeysetPage<>(content, hasCursor ? keyOf.apply(content.getFirst()) : null,
+                rows.size() > size ? keyOf.apply(content.getLast()) : null);
+    }
+
+    /**
+     * Build a page from rows fetched before a cursor with limit size + 1, in ascending order;
+     * the extra leading row only signals a previous page.
+     */
+    public static <T, K> KeysetPage<T, K> backward(List<T> rows, int size, Function<T, K> keyOf) {
+        List<T> content = rows.size() > size ? rows.subList(rows.size() - size, rows.size()) : rows;
+        if (content.isEmpty()) {
+            return new KeysetPage<>(content, null, null);
+        }
+        return new KeysetPage<>(content, rows.size() > size ? keyOf.apply(content.getFirst()) : null,
+                keyOf.apply(content.getLast()));
+    }
+}
@@ -2,28 +2,48 @@ package site.hixview.domain.entity;
 
 import lombok.Getter;
 
+import java.util.Collection;
+
 @Getter
 public enum SecondCategory {
-    BANK("은행"),
-    CATHODE_MATERIAL_MANUFACTURING("양극재 제조"),
-    DISPLAY_EQUIPMENT("디스플레이 장비"),
-    DISPLAY_PANEL("디스플레이 패널"),
-    ELECTRIC_VEHICLE_MANUFACTURING("전기차 제조"),
-    FIFTH_GENERATION_SERVICE("5G 서비스"),
-    GENERAL_CONSTRUCTION("종합건설"),
-    INTERACTIVE_MEDIA_AND_SERVICE("양방향 미디어와 서비스"),
-    MOBILE_COMMUNICATION_SERVICE("이동 통신 서비스"),
-    SECONDARY_BATTERY_MANUFACTURING("2차전지 제조"),
-    SEMICONDUCTOR_MANUFACTURING("반도체 제조"),
-    SIXTH_GENERATION_SERVICE("6G 서비스"),
-    SPECIALTY_CONSTRUCTION("전문건설"),
-    STOCK("증권"),
-    TELECOMMUNICATION_EQUIPMENT("통신 장비");
+    BANK("은행", 0),
+    CATHODE_MATERIAL_MANUFACTURING("양극재 제조", 1),
+    DISPLAY_EQUIPMENT("디스플레이 장비", 2),
+    DISPLAY_PANEL("디스플레이 패널", 3),
+    ELECTRIC_VEHICLE_MANUFACTURING("전기차 제조", 4),
+    FIFTH_GENERATION_SERVICE("5G 서비스", 5),
+    GENERAL_CONSTRUCTION("종합건설", 6),
+    INTERACTIVE_MEDIA_AND_SERVICE("양방향 미디어와 서비스", 7),
+    MOBILE_COMMUNICATION_SERVICE("이동 통신 서비스", 8),
+    SECONDARY_BATTERY_MANUFACTURING("2차전지 제조", 9),
+    SEMICONDUCTOR_MANUFACTURING("반도체 제조", 10),
+    SIXTH_GENERATION_SERVICE("6G 서비스", 11),
+    SPECIALTY_CONSTRUCTION("전문건설", 12),
+    STOCK("증권", 13),
+    TELECOMMUNICATION_EQUIPMENT("통신 장비", 14);
 
     private final String secondCategoryValue;
 
-    SecondCategory(String secondCategoryValue) {
+    /**
+     * Bit position in the stored subjectSecondCategoryMask column; fixed per constant so it never follows reordering.
+     */
+    private final int maskBit;
+
+    SecondCategory(String secondCategoryValue, int maskBit) {
         this.secondCategoryValue = secondCategoryValue;
+        this.maskBit = maskBit;
+    }
+
+    public long getMask() {
+        return 1L << maskBit;
+    }
+
+    public static long toMask(Collection<SecondCategory> secondCategories) {
+        long mask = 0L;
+        for (SecondCategory secondCategory : secondCategories) {
+            mask |= secondCategory.getMask();
+        }
+        return mask;
     }
 
     public String getValue() {
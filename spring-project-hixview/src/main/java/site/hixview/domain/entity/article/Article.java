@@ -8,7 +8,6 @@ import site.hixview.domain.entity.Press;
 import site.hixview.domain.validation.annotation.ImportanceConstraint;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 
 import static site.hixview.domain.vo.Regex.URL_REGEX;
 import static site.hixview.domain.vo.Word.NAME;
@@ -38,16 +37,6 @@ public abstract class Article {
     @ImportanceConstraint
     protected final Integer importance;
 
-    protected HashMap<String, Object> toMapWithNoNumber() {
-        return new HashMap<>() {{
-            put(NAME, name);
-            put(PRESS, press);
-            put(LINK, link);
-            put(DATE, date);
-            put(IMPORTANCE, importance);
-        }};
-    }
-
     public static String[] getFieldNamesWithNoNumber() {
         return new String[]{NAME, PRESS, LINK, DATE, IMPORTANCE};
     }
@@ -9,11 +9,6 @@ import site.hixview.domain.entity.Classification;
 import site.hixview.domain.entity.article.dto.ArticleMainDto;
 import site.hixview.domain.validation.annotation.ClassificationConstraint;
 
-import java.util.HashMap;
-
-import static site.hixview.domain.vo.name.EntityName.Article.*;
-import static site.hixview.domain.vo.Word.NAME;
-
 @Getter
 @Builder(access = AccessLevel.PUBLIC)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -42,15 +37,6 @@ public class ArticleMain {
         return companyArticleDto;
     }
 
-    public HashMap<String, Object> toMapWithNoNumber() {
-        return new HashMap<>() {{
-            put(NAME, name);
-            put(IMAGE_PATH, imagePath);
-            put(SUMMARY, summary);
-            put(ARTICLE_CLASS_NAME, classification);
-        }};
-    }
-
     public static final class ArticleMainBuilder {
         public ArticleMainBuilder() {}
 
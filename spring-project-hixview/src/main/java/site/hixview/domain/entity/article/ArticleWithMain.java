@@ -0,0 +1,14 @@
+package site.hixview.domain.entity.article;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public class ArticleWithMain<T extends Article> {
+
+    private final T article;
+
+    private final ArticleMain articleMain;
+}
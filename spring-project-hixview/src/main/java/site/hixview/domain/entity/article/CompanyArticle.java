@@ -9,7 +9,6 @@ import site.hixview.domain.entity.Press;
 import site.hixview.domain.entity.article.dto.CompanyArticleDto;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 
 import static site.hixview.domain.vo.name.EntityName.Article.*;
 
@@ -34,14 +33,6 @@ public class CompanyArticle extends Article {
         return companyArticleDto;
     }
 
-    @Override
-    public HashMap<String, Object> toMapWithNoNumber() {
-        return new HashMap<>() {{
-            putAll(CompanyArticle.super.toMapWithNoNumber());
-            put(SUBJECT_COMPANY, subjectCompany);
-        }};
-    }
-
     public static String[] getFieldNamesWithNoNumber() {
         String[] superArr = Article.getFieldNamesWithNoNumber();
         String[] arr = {SUBJECT_COMPANY};
@@ -1,41 +1,33 @@
 package site.hixview.domain.entity.article;
 
-import site.hixview.domain.entity.Press;
 import site.hixview.domain.entity.article.dto.CompanyArticleDto;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.lang.System.lineSeparator;
+import static site.hixview.util.NameDatePressTokenizer.tokenize;
+import static site.hixview.util.NameDatePressWriter.appendNameDatePress;
 
 public class CompanyArticleBufferComplex {
 
-    private final StringBuffer nameDatePressBuffer;
-    private final StringBuffer subjectCompanyBuffer;
-    private final StringBuffer linkBuffer;
-    private final StringBuffer importanceBuffer;
+    private final StringBuilder nameDatePressBuffer;
+    private final StringBuilder subjectCompanyBuffer;
+    private final StringBuilder linkBuffer;
+    private final StringBuilder importanceBuffer;
 
     private List<CompanyArticle> parsedArticles() {
-        List<String> nameDatePressElement = List.of(this.nameDatePressBuffer.toString().split("\\R"));
+        List<NameDatePress> nameDatePressElement = tokenize(nameDatePressBuffer);
         List<String> subjectCompanyElement = List.of(subjectCompanyBuffer.toString().split("\\R"));
         List<String> linkElement = List.of(linkBuffer.toString().split("\\R"));
         List<Integer> importanceElement = Stream.of(importanceBuffer.toString().split("\\R")).map(Integer::parseInt).toList();
 
-        ArrayList<CompanyArticle> articleList = new ArrayList<>();
-        for (int i = 0; i < linkElement.size(); i++) {
-            List<String> datePressElement = List.of(nameDatePressElement.get(2 * i + 1)
-                    .replaceAll("^\\(|\\)$", "").split(",\\s|-"));
-
-            articleList.add(CompanyArticle.builder()
-                    .name(nameDatePressElement.get(2 * i)).press(Press.valueOf(datePressElement.getLast()))
-                    .subjectCompany(subjectCompanyElement.get(i)).link(linkElement.get(i))
-                    .date(LocalDate.of(Integer.parseInt(datePressElement.getFirst()),
-                            Integer.parseInt(datePressElement.get(1)), Integer.parseInt(datePressElement.get(2))))
-                    .importance(importanceElement.get(i)).build());
-        }
-        return articleList;
+        return IntStream.range(0, linkElement.size()).mapToObj(i -> CompanyArticle.builder()
+                .name(nameDatePressElement.get(i).getName()).press(nameDatePressElement.get(i).getPress())
+                .subjectCompany(subjectCompanyElement.get(i)).link(linkElement.get(i))
+                .date(nameDatePressElement.get(i).getDate())
+                .importance(importanceElement.get(i)).build()).toList();
     }
 
     public String getNameDatePressString() {
@@ -58,7 +50,7 @@ public class CompanyArticleBufferComplex {
         return new CompanyArticleBufferComplexBuilder();
     }
 
-    private CompanyArticleBufferComplex(StringBuffer nameDatePressBuffer, StringBuffer subjectCompanyBuffer, StringBuffer linkBuffer, StringBuffer importanceBuffer) {
+    private CompanyArticleBufferComplex(StringBuilder nameDatePressBuffer, StringBuilder subjectCompanyBuffer, StringBuilder linkBuffer, StringBuilder importanceBuffer) {
         this.nameDatePressBuffer = nameDatePressBuffer;
         this.subjectCompanyBuffer = subjectCompanyBuffer;
         this.linkBuffer = linkBuffer;
@@ -66,16 +58,16 @@ public class CompanyArticleBufferComplex {
     }
 
     public static final class CompanyArticleBufferComplexBuilder {
-        private StringBuffer nameDatePressBuffer;
-        private StringBuffer subjectCompanyBuffer;
-        private StringBuffer linkBuffer;
-        private StringBuffer importanceBuffer;
+        private StringBuilder nameDatePressBuffer;
+        private StringBuilder subjectCompanyBuffer;
+        private StringBuilder linkBuffer;
+        private StringBuilder importanceBuffer;
 
         public CompanyArticleBufferComplexBuilder() {}
 
         public CompanyArticleBufferComplexBuilder nameDatePressString(String nameDatePressString) {
             if (this.nameDatePressBuffer == null) {
-                this.nameDatePressBuffer = new StringBuffer(nameDatePressString);
+                this.nameDatePressBuffer = new StringBuilder(nameDatePressString);
             } else {
                 this.nameDatePressBuffer.append(lineSeparator()).append(nameDatePressString);
             }
@@ -84,7 +76,7 @@ public class CompanyArticleBufferComplex {
 
         public CompanyArticleBufferComplexBuilder subjectCompanyString(String subjectCompanyString) {
             if (this.subjectCompanyBuffer == null) {
-                this.subjectCompanyBuffer = new StringBuffer(subjectCompanyString);
+                this.subjectCompanyBuffer = new StringBuilder(subjectCompanyString);
             } else {
                 this.subjectCompanyBuffer.append(lineSeparator()).append(subjectCompanyString);
             }
@@ -93,7 +85,7 @@ public class CompanyArticleBufferComplex {
 
         public CompanyArticleBufferComplexBuilder linkString(String linkString) {
             if (this.linkBuffer == null) {
-                this.linkBuffer = new StringBuffer(linkString);
+                this.linkBuffer = new StringBuilder(linkString);
             } else {
                 this.linkBuffer.append(lineSeparator()).append(linkString);
             }
@@ -102,7 +94,7 @@ public class CompanyArticleBufferComplex {
 
         public CompanyArticleBufferComplexBuilder importanceString(String importanceString) {
             if (this.importanceBuffer == null) {
-                this.importanceBuffer = new StringBuffer(importanceString);
+                this.importanceBuffer = new StringBuilder(importanceString);
             } else {
                 this.importanceBuffer.append(lineSeparator()).append(importanceString);
             }
@@ -110,14 +102,14 @@ public class CompanyArticleBufferComplex {
         }
 
         public CompanyArticleBufferComplexBuilder article(CompanyArticle article) {
-            String concatenatedNameDatePress = article.getName() + lineSeparator() +
-                    "(" + article.getDate().getYear() + "-" + article.getDate().getMonthValue() + "-" +
-                    article.getDate().getDayOfMonth() + ", " + article.getPress() + ")";
+            String concatenatedNameDatePress = appendNameDatePress(new StringBuilder(), lineSeparator(),
+                    article.getName(), article.getDate().getYear(), article.getDate().getMonthValue(),
+                    article.getDate().getDayOfMonth(), article.getPress().name()).toString();
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(concatenatedNameDatePress);
-                subjectCompanyBuffer = new StringBuffer(article.getSubjectCompany());
-                linkBuffer = new StringBuffer(article.getLink());
-                importanceBuffer = new StringBuffer(article.getImportance());
+                nameDatePressBuffer = new StringBuilder(concatenatedNameDatePress);
+                subjectCompanyBuffer = new StringBuilder(article.getSubjectCompany());
+                linkBuffer = new StringBuilder(article.getLink());
+                importanceBuffer = new StringBuilder(article.getImportance());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(concatenatedNameDatePress);
                 subjectCompanyBuffer.append(lineSeparator()).append(article.getSubjectCompany());
@@ -138,10 +130,10 @@ public class CompanyArticleBufferComplex {
             String concatenatedNameDatePress = articleDto.getName() + lineSeparator() +
                     "(" + articleDto.getYear() + "-" + articleDto.getMonth() + "-" + articleDto.getDays() + ", " + articleDto.getPress() + ")";
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(concatenatedNameDatePress);
-                subjectCompanyBuffer = new StringBuffer(articleDto.getSubjectCompany());
-                linkBuffer = new StringBuffer(articleDto.getLink());
-                importanceBuffer = new StringBuffer(articleDto.getImportance());
+                nameDatePressBuffer = new StringBuilder(concatenatedNameDatePress);
+                subjectCompanyBuffer = new StringBuilder(articleDto.getSubjectCompany());
+                linkBuffer = new StringBuilder(articleDto.getLink());
+                importanceBuffer = new StringBuilder(articleDto.getImportance());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(concatenatedNameDatePress);
                 subjectCompanyBuffer.append(lineSeparator()).append(articleDto.getSubjectCompany());
@@ -153,10 +145,10 @@ public class CompanyArticleBufferComplex {
 
         public CompanyArticleBufferComplexBuilder articleBuffer(CompanyArticleBufferComplex articleBuffer) {
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(articleBuffer.getNameDatePressString());
-                subjectCompanyBuffer = new StringBuffer(articleBuffer.getSubjectCompanyString());
-                linkBuffer = new StringBuffer(articleBuffer.getLinkString());
-                importanceBuffer = new StringBuffer(articleBuffer.getImportanceString());
+                nameDatePressBuffer = new StringBuilder(articleBuffer.getNameDatePressString());
+                subjectCompanyBuffer = new StringBuilder(articleBuffer.getSubjectCompanyString());
+                linkBuffer = new StringBuilder(articleBuffer.getLinkString());
+                importanceBuffer = new StringBuilder(articleBuffer.getImportanceString());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(articleBuffer.getNameDatePressString());
                 subjectCompanyBuffer.append(lineSeparator()).append(articleBuffer.getSubjectCompanyString());
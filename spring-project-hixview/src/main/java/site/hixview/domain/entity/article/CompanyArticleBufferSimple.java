@@ -1,40 +1,32 @@
 package site.hixview.domain.entity.article;
 
 import lombok.Getter;
-import site.hixview.domain.entity.Press;
 import site.hixview.domain.entity.article.dto.CompanyArticleDto;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static java.lang.System.lineSeparator;
+import static site.hixview.util.NameDatePressTokenizer.tokenize;
+import static site.hixview.util.NameDatePressWriter.appendNameDatePress;
 
 public class CompanyArticleBufferSimple {
 
-    private final StringBuffer nameDatePressBuffer;
-    private final StringBuffer linkBuffer;
+    private final StringBuilder nameDatePressBuffer;
+    private final StringBuilder linkBuffer;
 
     @Getter private final Integer importance;
     @Getter private final String subjectCompany;
 
     private List<CompanyArticle> parsedArticles() {
-        List<String> nameDatePressElement = List.of(this.nameDatePressBuffer.toString().split("\\R"));
+        List<NameDatePress> nameDatePressElement = tokenize(nameDatePressBuffer);
         List<String> linkElement = List.of(linkBuffer.toString().split("\\R"));
 
-        ArrayList<CompanyArticle> articleList = new ArrayList<>();
-        for (int i = 0; i < linkElement.size(); i++) {
-            List<String> datePressElement = List.of(nameDatePressElement.get(2 * i + 1)
-                    .replaceAll("^\\(|\\)$", "").split(",\\s|-"));
-
-            articleList.add(CompanyArticle.builder()
-                    .name(nameDatePressElement.get(2 * i)).press(Press.valueOf(datePressElement.getLast()))
-                    .date(LocalDate.of(Integer.parseInt(datePressElement.getFirst()),
-                            Integer.parseInt(datePressElement.get(1)), Integer.parseInt(datePressElement.get(2))))
-                    .importance(importance)
-                    .subjectCompany(subjectCompany).link(linkElement.get(i)).build());
-        }
-        return articleList;
+        return IntStream.range(0, linkElement.size()).mapToObj(i -> CompanyArticle.builder()
+                .name(nameDatePressElement.get(i).getName()).press(nameDatePressElement.get(i).getPress())
+                .date(nameDatePressElement.get(i).getDate())
+                .importance(importance)
+                .subjectCompany(subjectCompany).link(linkElement.get(i)).build()).toList();
     }
 
     public String getNameDatePressString() {
@@ -49,7 +41,7 @@ public class CompanyArticleBufferSimple {
         return new CompanyArticleBufferSimpleBuilder();
     }
 
-    private CompanyArticleBufferSimple(StringBuffer nameDatePressBuffer, StringBuffer linkBuffer, Integer importance, String subjectCompany) {
+    private CompanyArticleBufferSimple(StringBuilder nameDatePressBuffer, StringBuilder linkBuffer, Integer importance, String subjectCompany) {
         this.nameDatePressBuffer = nameDatePressBuffer;
         this.linkBuffer = linkBuffer;
         this.importance = importance;
@@ -57,8 +49,8 @@ public class CompanyArticleBufferSimple {
     }
 
     public static final class CompanyArticleBufferSimpleBuilder {
-        private StringBuffer nameDatePressBuffer;
-        private StringBuffer linkBuffer;
+        private StringBuilder nameDatePressBuffer;
+        private StringBuilder linkBuffer;
         private Integer importance;
         private String subjectCompany;
 
@@ -66,7 +58,7 @@ public class CompanyArticleBufferSimple {
 
         public CompanyArticleBufferSimpleBuilder nameDatePressString(String nameDatePressString) {
             if (this.nameDatePressBuffer == null) {
-                this.nameDatePressBuffer = new StringBuffer(nameDatePressString);
+                this.nameDatePressBuffer = new StringBuilder(nameDatePressString);
             } else {
                 this.nameDatePressBuffer.append(lineSeparator()).append(nameDatePressString);
             }
@@ -75,7 +67,7 @@ public class CompanyArticleBufferSimple {
 
         public CompanyArticleBufferSimpleBuilder linkString(String linkString) {
             if (this.linkBuffer == null) {
-                this.linkBuffer = new StringBuffer(linkString);
+                this.linkBuffer = new StringBuilder(linkString);
             } else {
                 this.linkBuffer.append(lineSeparator()).append(linkString);
             }
@@ -93,12 +85,12 @@ public class CompanyArticleBufferSimple {
         }
 
         public CompanyArticleBufferSimpleBuilder article(CompanyArticle article) {
-            String concatenatedNameDatePress = article.getName() + lineSeparator() +
-                    "(" + article.getDate().getYear() + "-" + article.getDate().getMonthValue() + "-" +
-                    article.getDate().getDayOfMonth() + ", " + article.getPress() + ")";
+            String concatenatedNameDatePress = appendNameDatePress(new StringBuilder(), lineSeparator(),
+                    article.getName(), article.getDate().getYear(), article.getDate().getMonthValue(),
+                    article.getDate().getDayOfMonth(), article.getPress().name()).toString();
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(concatenatedNameDatePress);
-                linkBuffer = new StringBuffer(article.getLink());
+                nameDatePressBuffer = new StringBuilder(concatenatedNameDatePress);
+                linkBuffer = new StringBuilder(article.getLink());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(concatenatedNameDatePress);
                 linkBuffer.append(lineSeparator()).append(article.getLink());
@@ -119,8 +111,8 @@ public class CompanyArticleBufferSimple {
             String concatenatedNameDatePress = articleDto.getName() + lineSeparator() +
                     "(" + articleDto.getYear() + "-" + articleDto.getMonth() + "-" + articleDto.getDays() + ", " + articleDto.getPress() + ")";
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(concatenatedNameDatePress);
-                linkBuffer = new StringBuffer(articleDto.getLink());
+                nameDatePressBuffer = new StringBuilder(concatenatedNameDatePress);
+                linkBuffer = new StringBuilder(articleDto.getLink());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(concatenatedNameDatePress);
                 linkBuffer.append(lineSeparator()).append(articleDto.getLink());
@@ -132,8 +124,8 @@ public class CompanyArticleBufferSimple {
 
         public CompanyArticleBufferSimpleBuilder articleBuffer(CompanyArticleBufferSimple articleBuffer) {
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(articleBuffer.getNameDatePressString());
-                linkBuffer = new StringBuffer(articleBuffer.getLinkString());
+                nameDatePressBuffer = new StringBuilder(articleBuffer.getNameDatePressString());
+                linkBuffer = new StringBuilder(articleBuffer.getLinkString());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(articleBuffer.getNameDatePressString());
                 linkBuffer.append(lineSeparator()).append(articleBuffer.getLinkString());
@@ -0,0 +1,30 @@
+package site.hixview.domain.entity.article;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import site.hixview.domain.entity.DataVersion;
+
+import java.util.Optional;
+
+/**
+ * Latest featured company and industry articles as shown on the home page, computed once per article write.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public class HomePageSnapshot {
+
+    @Getter
+    private final DataVersion version;
+
+    private final ArticleWithMain<CompanyArticle> latestCompanyArticle;
+
+    private final ArticleWithMain<IndustryArticle> latestIndustryArticle;
+
+    public Optional<ArticleWithMain<CompanyArticle>> getLatestCompanyArticle() {
+        return Optional.ofNullable(latestCompanyArticle);
+    }
+
+    public Optional<ArticleWithMain<IndustryArticle>> getLatestIndustryArticle() {
+        return Optional.ofNullable(latestIndustryArticle);
+    }
+}
@@ -1,41 +1,45 @@
 package site.hixview.domain.entity.article;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import site.hixview.domain.entity.FirstCategory;
 import site.hixview.domain.entity.Press;
 import site.hixview.domain.entity.SecondCategory;
 import site.hixview.domain.entity.article.dto.IndustryArticleDto;
 
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static site.hixview.domain.vo.name.EntityName.Article.*;
-import static site.hixview.util.JsonUtils.deserializeWithOneMapToList;
+import static site.hixview.util.JsonUtils.deserializeWithOneMapToEnumSet;
 import static site.hixview.util.JsonUtils.serializeEnumWithOneMap;
 
 @Getter
 @Builder(access = AccessLevel.PUBLIC)
 public class IndustryArticle extends Article {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
     @NotNull
     private final FirstCategory subjectFirstCategory;
 
+    /**
+     * Held as an unmodifiable EnumSet, so it iterates in declaration order whatever order it was given in.
+     */
     @NotNull
-    private final List<SecondCategory> subjectSecondCategories;
+    private final Set<SecondCategory> subjectSecondCategories;
 
     public String getSerializedSubjectSecondCategories() {
-        return serializeEnumWithOneMap(objectMapper, SUBJECT_SECOND_CATEGORY, subjectSecondCategories);
+        return serializeEnumWithOneMap(SUBJECT_SECOND_CATEGORY, subjectSecondCategories);
+    }
+
+    public long getSubjectSecondCategoryMask() {
+        return SecondCategory.toMask(subjectSecondCategories);
     }
 
-    @SneakyThrows
     public IndustryArticleDto toDto() {
         IndustryArticleDto IndustryArticleDto = new IndustryArticleDto();
         IndustryArticleDto.setName(name);
@@ -50,23 +54,6 @@ public class IndustryArticle extends Article {
         return IndustryArticleDto;
     }
 
-    @Override
-    public HashMap<String, Object> toMapWithNoNumber() {
-        return new HashMap<>() {{
-            putAll(IndustryArticle.super.toMapWithNoNumber());
-            put(SUBJECT_FIRST_CATEGORY, subjectFirstCategory);
-            put(SUBJECT_SECOND_CATEGORIES, subjectSecondCategories);
-        }};
-    }
-
-    public HashMap<String, Object> toSerializedMapWithNoNumber() {
-        return new HashMap<>() {{
-            putAll(IndustryArticle.super.toMapWithNoNumber());
-            put(SUBJECT_FIRST_CATEGORY, subjectFirstCategory);
-            put(SUBJECT_SECOND_CATEGORIES, getSerializedSubjectSecondCategories());
-        }};
-    }
-
     public static String[] getFieldNamesWithNoNumber() {
         String[] superArr = Article.getFieldNamesWithNoNumber();
         String[] arr = {SUBJECT_FIRST_CATEGORY, SUBJECT_SECOND_CATEGORIES};
@@ -77,15 +64,16 @@ public class IndustryArticle extends Article {
     }
 
     private IndustryArticle(Long number, String name, Press press, String link, LocalDate date,
-                            Integer importance, FirstCategory subjectFirstCategory, List<SecondCategory> subjectSecondCategories) {
+                            Integer importance, FirstCategory subjectFirstCategory, Set<SecondCategory> subjectSecondCategories) {
         super(number, name, press, link, date, importance);
         this.subjectFirstCategory = subjectFirstCategory;
-        this.subjectSecondCategories = subjectSecondCategories;
+        this.subjectSecondCategories = subjectSecondCategories == null ? null
+                : Collections.unmodifiableSet(subjectSecondCategories);
     }
 
     public static final class IndustryArticleBuilder extends ArticleBuilder {
         private FirstCategory subjectFirstCategory;
-        private List<SecondCategory> subjectSecondCategories;
+        private EnumSet<SecondCategory> subjectSecondCategories;
 
         public IndustryArticleBuilder() {}
 
@@ -119,13 +107,13 @@ public class IndustryArticle extends Article {
             return this;
         }
 
-        public IndustryArticleBuilder subjectSecondCategories(final List<SecondCategory> subjectSecondCategories) {
-            this.subjectSecondCategories = subjectSecondCategories;
+        public IndustryArticleBuilder subjectSecondCategories(final Collection<SecondCategory> subjectSecondCategories) {
+            this.subjectSecondCategories = toEnumSet(subjectSecondCategories);
             return this;
         }
 
         public IndustryArticleBuilder subjectSecondCategories(final SecondCategory subjectSecondCategory) {
-            this.subjectSecondCategories = List.of(subjectSecondCategory);
+            this.subjectSecondCategories = EnumSet.of(subjectSecondCategory);
             return this;
         }
 
@@ -137,7 +125,7 @@ public class IndustryArticle extends Article {
             date = article.getDate();
             importance = article.getImportance();
             subjectFirstCategory = article.getSubjectFirstCategory();
-            subjectSecondCategories = article.getSubjectSecondCategories();
+            subjectSecondCategories = toEnumSet(article.getSubjectSecondCategories());
             return this;
         }
 
@@ -148,7 +136,7 @@ public class IndustryArticle extends Article {
             date = LocalDate.of(articleDto.getYear(), articleDto.getMonth(), articleDto.getDays());
             importance = articleDto.getImportance();
             subjectFirstCategory = FirstCategory.valueOf(articleDto.getSubjectFirstCategory());
-            subjectSecondCategories = deserializeWithOneMapToList(new ObjectMapper(), SUBJECT_SECOND_CATEGORY,
+            subjectSecondCategories = deserializeWithOneMapToEnumSet(SUBJECT_SECOND_CATEGORY,
                     articleDto.getSubjectSecondCategories(), SecondCategory.class);
             return this;
         }
@@ -157,5 +145,14 @@ public class IndustryArticle extends Article {
             return new IndustryArticle(this.number, this.name, this.press, this.link,
                     this.date, this.importance, this.subjectFirstCategory, this.subjectSecondCategories);
         }
+
+        private static EnumSet<SecondCategory> toEnumSet(Collection<SecondCategory> subjectSecondCategories) {
+            if (subjectSecondCategories == null) {
+                return null;
+            }
+            EnumSet<SecondCategory> enumSet = EnumSet.noneOf(SecondCategory.class);
+            enumSet.addAll(subjectSecondCategories);
+            return enumSet;
+        }
     }
 }
@@ -1,48 +1,40 @@
 package site.hixview.domain.entity.article;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
 import site.hixview.domain.entity.FirstCategory;
-import site.hixview.domain.entity.Press;
 import site.hixview.domain.entity.SecondCategory;
 import site.hixview.domain.entity.article.dto.IndustryArticleDto;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static java.lang.System.lineSeparator;
+import static site.hixview.util.NameDatePressTokenizer.tokenize;
+import static site.hixview.util.NameDatePressWriter.appendNameDatePress;
 import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_SECOND_CATEGORY;
-import static site.hixview.util.JsonUtils.deserializeWithOneMapToList;
+import static site.hixview.util.JsonUtils.deserializeWithOneMapToEnumSet;
 
 public class IndustryArticleBufferSimple {
 
-    private final StringBuffer nameDatePressBuffer;
-    private final StringBuffer linkBuffer;
+    private final StringBuilder nameDatePressBuffer;
+    private final StringBuilder linkBuffer;
 
     @Getter private final Integer importance;
     @Getter private final String subjectFirstCategory;
     @Getter private final String subjectSecondCategories;
 
     private List<IndustryArticle> parsedArticles() {
-        List<String> nameDatePressElement = List.of(this.nameDatePressBuffer.toString().split("\\R"));
+        List<NameDatePress> nameDatePressElement = tokenize(nameDatePressBuffer);
         List<String> linkElement = List.of(linkBuffer.toString().split("\\R"));
-        List<SecondCategory> subjectSecondCategories = deserializeWithOneMapToList(new ObjectMapper(), SUBJECT_SECOND_CATEGORY, this.subjectSecondCategories, SecondCategory.class);
-
-        ArrayList<IndustryArticle> articleList = new ArrayList<>();
-        for (int i = 0; i < linkElement.size(); i++) {
-            List<String> datePressElement = List.of(nameDatePressElement.get(2 * i + 1)
-                    .replaceAll("^\\(|\\)$", "").split(",\\s|-"));
-
-            articleList.add(IndustryArticle.builder()
-                    .name(nameDatePressElement.get(2 * i)).press(Press.valueOf(datePressElement.getLast()))
-                    .date(LocalDate.of(Integer.parseInt(datePressElement.getFirst()),
-                            Integer.parseInt(datePressElement.get(1)), Integer.parseInt(datePressElement.get(2))))
-                    .importance(importance)
-                    .subjectFirstCategory(FirstCategory.valueOf(subjectFirstCategory))
-                    .subjectSecondCategories(subjectSecondCategories).link(linkElement.get(i)).build());
-        }
-        return articleList;
+        EnumSet<SecondCategory> subjectSecondCategories = deserializeWithOneMapToEnumSet(SUBJECT_SECOND_CATEGORY, this.subjectSecondCategories, SecondCategory.class);
+
+        return IntStream.range(0, linkElement.size()).mapToObj(i -> IndustryArticle.builder()
+                .name(nameDatePressElement.get(i).getName()).press(nameDatePressElement.get(i).getPress())
+                .date(nameDatePressElement.get(i).getDate())
+                .importance(importance)
+                .subjectFirstCategory(FirstCategory.valueOf(subjectFirstCategory))
+                .subjectSecondCategories(subjectSecondCategories).link(linkElement.get(i)).build()).toList();
     }
 
     public String getNameDatePressString() {
@@ -57,7 +49,7 @@ public class IndustryArticleBufferSimple {
         return new IndustryArticleBufferSimpleBuilder();
     }
 
-    private IndustryArticleBufferSimple(StringBuffer nameDatePressBuffer, StringBuffer linkBuffer, Integer importance, String subjectFirstCategory, String subjectSecondCategories) {
+    private IndustryArticleBufferSimple(StringBuilder nameDatePressBuffer, StringBuilder linkBuffer, Integer importance, String subjectFirstCategory, String subjectSecondCategories) {
         this.nameDatePressBuffer = nameDatePressBuffer;
         this.linkBuffer = linkBuffer;
         this.importance = importance;
@@ -66,8 +58,8 @@ public class IndustryArticleBufferSimple {
     }
 
     public static final class IndustryArticleBufferSimpleBuilder {
-        private StringBuffer nameDatePressBuffer;
-        private StringBuffer linkBuffer;
+        private StringBuilder nameDatePressBuffer;
+        private StringBuilder linkBuffer;
         private Integer importance;
         private String subjectFirstCategory;
         private String subjectSecondCategories;
@@ -76,7 +68,7 @@ public class IndustryArticleBufferSimple {
 
         public IndustryArticleBufferSimpleBuilder nameDatePressString(String nameDatePressString) {
             if (this.nameDatePressBuffer == null) {
-                this.nameDatePressBuffer = new StringBuffer(nameDatePressString);
+                this.nameDatePressBuffer = new StringBuilder(nameDatePressString);
             } else {
                 this.nameDatePressBuffer.append(lineSeparator()).append(nameDatePressString);
             }
@@ -85,7 +77,7 @@ public class IndustryArticleBufferSimple {
 
         public IndustryArticleBufferSimpleBuilder linkString(String linkString) {
             if (this.linkBuffer == null) {
-                this.linkBuffer = new StringBuffer(linkString);
+                this.linkBuffer = new StringBuilder(linkString);
             } else {
                 this.linkBuffer.append(lineSeparator()).append(linkString);
             }
@@ -108,12 +100,12 @@ public class IndustryArticleBufferSimple {
         }
 
         public IndustryArticleBufferSimpleBuilder article(IndustryArticle article) {
-            String concatenatedNameDatePress = article.getName() + lineSeparator() +
-                    "(" + article.getDate().getYear() + "-" + article.getDate().getMonthValue() + "-" +
-                    article.getDate().getDayOfMonth() + ", " + article.getPress() + ")";
+            String concatenatedNameDatePress = appendNameDatePress(new StringBuilder(), lineSeparator(),
+                    article.getName(), article.getDate().getYear(), article.getDate().getMonthValue(),
+                    article.getDate().getDayOfMonth(), article.getPress().name()).toString();
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(concatenatedNameDatePress);
-                linkBuffer = new StringBuffer(article.getLink());
+                nameDatePressBuffer = new StringBuilder(concatenatedNameDatePress);
+                linkBuffer = new StringBuilder(article.getLink());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(concatenatedNameDatePress);
                 linkBuffer.append(lineSeparator()).append(article.getLink());
@@ -135,8 +127,8 @@ public class IndustryArticleBufferSimple {
             String concatenatedNameDatePress = articleDto.getName() + lineSeparator() +
                     "(" + articleDto.getYear() + "-" + articleDto.getMonth() + "-" + articleDto.getDays() + ", " + articleDto.getPress() + ")";
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(concatenatedNameDatePress);
-                linkBuffer = new StringBuffer(articleDto.getLink());
+                nameDatePressBuffer = new StringBuilder(concatenatedNameDatePress);
+                linkBuffer = new StringBuilder(articleDto.getLink());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(concatenatedNameDatePress);
                 linkBuffer.append(lineSeparator()).append(articleDto.getLink());
@@ -149,8 +141,8 @@ public class IndustryArticleBufferSimple {
 
         public IndustryArticleBufferSimpleBuilder articleBuffer(IndustryArticleBufferSimple articleBuffer) {
             if (nameDatePressBuffer == null) {
-                nameDatePressBuffer = new StringBuffer(articleBuffer.getNameDatePressString());
-                linkBuffer = new StringBuffer(articleBuffer.getLinkString());
+                nameDatePressBuffer = new StringBuilder(articleBuffer.getNameDatePressString());
+                linkBuffer = new StringBuilder(articleBuffer.getLinkString());
             } else {
                 nameDatePressBuffer.append(lineSeparator()).append(articleBuffer.getNameDatePressString());
                 linkBuffer.append(lineSeparator()).append(articleBuffer.getLinkString());
@@ -0,0 +1,52 @@
+package site.hixview.domain.entity.article;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import site.hixview.domain.entity.Press;
+
+import java.time.LocalDate;
+
+/**
+ * One name/date/press pair of a pasted article list, with the line its name is on.
+ * A pair that could not be read carries the failure instead of a date and press.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class NameDatePress {
+
+    private final int line;
+    private final String name;
+    private final LocalDate date;
+    private final Press press;
+    private final Failure failure;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Failure {
+        MALFORMED("날짜와 언론사가 (yyyy-m-d, 언론사) 형식이 아닙니다."),
+        INVALID_DATE("존재하지 않는 날짜입니다."),
+        UNKNOWN_PRESS("해당 언론사가 없습니다.");
+
+        private final String message;
+    }
+
+    public static NameDatePress of(int line, String name, LocalDate date, Press press) {
+        return new NameDatePress(line, name, date, press, null);
+    }
+
+    public static NameDatePress failed(int line, String name, Failure failure) {
+        return new NameDatePress(line, name, null, null, failure);
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * The failure with its line, e.g. "5번째 줄: 존재하지 않는 날짜입니다.", or null for a pair that was read.
+     */
+    public String getError() {
+        return failure == null ? null : line + "번째 줄: " + failure.getMessage();
+    }
+}
@@ -14,11 +14,6 @@ import site.hixview.domain.entity.SecondCategory;
 import site.hixview.domain.entity.company.dto.CompanyDto;
 import site.hixview.domain.validation.annotation.CodeConstraint;
 
-import java.util.HashMap;
-
-import static site.hixview.domain.vo.name.EntityName.Company.*;
-import static site.hixview.domain.vo.Word.NAME;
-
 @Getter
 @Builder(access = AccessLevel.PUBLIC)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -53,17 +48,6 @@ public class Company {
         return companyDto;
     }
 
-    public HashMap<String, Object> toMap() {
-        return new HashMap<>() {{
-            put(CODE, code);
-            put(COUNTRY, country);
-            put(SCALE, scale);
-            put(NAME, name);
-            put(FIRST_CATEGORY, firstCategory);
-            put(SECOND_CATEGORY, secondCategory);
-        }};
-    }
-
     public static class CompanyBuilder {
         public CompanyBuilder() {}
 
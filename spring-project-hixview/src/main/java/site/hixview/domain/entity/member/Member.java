@@ -12,12 +12,9 @@ import site.hixview.domain.entity.member.dto.MemberDto;
 import site.hixview.domain.vo.Regex;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 
-import static site.hixview.domain.vo.name.EntityName.Member.ID;
 import static site.hixview.domain.vo.Regex.NAME_REGEX;
 import static site.hixview.domain.vo.Regex.PW_REGEX;
-import static site.hixview.domain.vo.Word.NAME;
 
 @Getter
 @Builder(access = AccessLevel.PUBLIC)
@@ -56,16 +53,6 @@ public class Member {
         return memberDto;
     }
 
-    public HashMap<String, Object> toMapWithNoIdentifier() {
-        return new HashMap<>() {{
-            put(ID, id);
-            put("password", password);
-            put(NAME, name);
-            put("birthday", birthday);
-            put("phoneNumber", phoneNumber.toStringWithDash());
-        }};
-    }
-
     public static class MemberBuilder {
         public MemberBuilder() {}
 
@@ -0,0 +1,7 @@
+package site.hixview.domain.error;
+
+public class ImportJobCheckpointMovedException extends RuntimeException {
+    public ImportJobCheckpointMovedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,90 @@
+package site.hixview.domain.importer;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static site.hixview.util.ThreadUtils.VIRTUAL_THREADS_ENABLED;
+import static site.hixview.util.ThreadUtils.threadFactory;
+
+/**
+ * Validates the rows of a paste on a fixed number of threads shared by all bulk-adds, so a large paste neither
+ * takes over the common fork-join pool nor starts threads of its own. Small pastes stay on the calling thread.
+ */
+@Component
+public class ImportValidationExecutor {
+
+    private static final int MIN_ROWS_PER_TASK = 64;
+
+    private final ExecutorService executor;
+    private final int threads;
+
+    public ImportValidationExecutor(@Value("${import.validation.threads:4}") int threads,
+                                    @Value(VIRTUAL_THREADS_ENABLED) boolean virtualThreads) {
+        this.threads = threads;
+        executor = Executors.newFixedThreadPool(threads, threadFactory("import-validation-", virtualThreads));
+    }
+
+    /**
+     * Apply the function to 0 until size, in contiguous ranges on the pool, and return the results in index order.
+     */
+    public <T> List<T> map(int size, IntFunction<T> function) {
+        int tasks = Math.min(threads, (size + MIN_ROWS_PER_TASK - 1) / MIN_ROWS_PER_TASK);
+        Object[] results = new Object[size];
+        if (tasks <= 1) {
+            fill(results, 0, size, function);
+            return toList(results);
+        }
+        int rowsPerTask = (size + tasks - 1) / tasks;
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        for (int from = 0; from < size; from += rowsPerTask) {
+            int start = from;
+            int end = Math.min(from + rowsPerTask, size);
+            futures.add(executor.submit(() -> fill(results, start, end, function)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return toList(results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Other private methods
+     */
+    private static <T> void fill(Object[] results, int from, int to, IntFunction<T> function) {
+        for (int i = from; i < to; i++) {
+            results[i] = function.apply(i);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> toList(Object[] results) {
+        return (List<T>) Arrays.asList(results);
+    }
+}
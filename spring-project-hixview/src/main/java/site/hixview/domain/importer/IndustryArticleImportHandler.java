@@ -0,0 +1,273 @@
+package site.hixview.domain.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Validator;
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.ImportJobTarget;
+import site.hixview.domain.entity.ImportRecord;
+import site.hixview.domain.entity.Press;
+import site.hixview.domain.entity.article.IndustryArticle;
+import site.hixview.domain.entity.article.NameDatePress;
+import site.hixview.domain.entity.article.NameDatePress.Failure;
+import site.hixview.domain.entity.article.dto.IndustryArticleDto;
+import site.hixview.domain.error.AlreadyExistException;
+import site.hixview.domain.service.IndustryArticleService;
+import site.hixview.domain.service.ImportJobHandler;
+import site.hixview.domain.validation.validator.IndustryArticleAddSimpleValidator;
+import site.hixview.util.EnumLookup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static site.hixview.domain.vo.Word.NAME;
+import static site.hixview.domain.vo.name.EntityName.Article.ARTICLE;
+import static site.hixview.domain.vo.name.EntityName.Article.DATE;
+import static site.hixview.domain.vo.name.EntityName.Article.IMPORTANCE;
+import static site.hixview.domain.vo.name.EntityName.Article.LINK;
+import static site.hixview.domain.vo.name.EntityName.Article.PRESS;
+import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_FIRST_CATEGORY;
+import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_SECOND_CATEGORIES;
+import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_SECOND_CATEGORY;
+import static site.hixview.domain.vo.name.ExceptionName.NUMBER_FORMAT_LOCAL_DATE_ERROR;
+import static site.hixview.util.ImportUtils.formatErrors;
+import static site.hixview.util.ImportUtils.formatRowError;
+import static site.hixview.util.JsonUtils.serializeWithOneMap;
+
+/**
+ * Validates pasted industry articles, for the string bulk-add page and for industry article import jobs, and imports
+ * the records of uploaded industry article files.
+ */
+@Component
+@RequiredArgsConstructor
+public class IndustryArticleImportHandler implements ImportJobHandler {
+
+    private final IndustryArticleService articleService;
+    private final ImportValidationExecutor validationExecutor;
+
+    private final Validator defaultValidator;
+    private final IndustryArticleAddSimpleValidator simpleValidator;
+
+    @Override
+    public ImportJobTarget getTarget() {
+        return ImportJobTarget.INDUSTRY_ARTICLE;
+    }
+
+    @Override
+    public Batch prepareBatch(ImportJob job, int firstRow, List<NameDatePress> pairs, List<String> links) {
+        ValidatedPaste<IndustryArticle> validatedPaste = validatePaste(pairs, links, job.getSubject(),
+                job.getSubjectSecondCategories(), firstRow, job.isUpsert());
+        return new Batch(validatedPaste.errorList(), () -> registerArticles(validatedPaste.articles(), job.isUpsert()));
+    }
+
+    /**
+     * Validate pasted pairs against the stored articles and each other, numbering rejected rows from firstRow + 1.
+     * Only the accepted articles are returned. With upsert, a name or link already stored is accepted, and
+     * registerArticles overwrites its row.
+     */
+    public ValidatedPaste<IndustryArticle> validatePaste(List<NameDatePress> nameDatePressList, List<String> linkList,
+                                                         String subjectFirstCategory,
+                                                         String subjectSecondCategories, int firstRow,
+                                                         boolean upsert) {
+        Set<String> takenNames = upsert ? Set.of() : new HashSet<>(articleService.findArticlesByNames(
+                nameDatePressList.stream().map(NameDatePress::getName).toList()).keySet());
+        Set<String> takenLinks = upsert ? Set.of() :
+                new HashSet<>(articleService.findArticlesByLinks(linkList).keySet());
+        List<ValidatedArticle> validatedArticles = validationExecutor.map(linkList.size(),
+                i -> validateArticle(nameDatePressList.get(i), linkList.get(i), subjectFirstCategory,
+                        subjectSecondCategories, takenNames, takenLinks));
+
+        Set<String> pastedNames = new HashSet<>();
+        Set<String> pastedLinks = new HashSet<>();
+        List<String> errorList = new ArrayList<>();
+        List<IndustryArticle> articles = new ArrayList<>();
+        boolean isBeanValidationError = false;
+        String errorSingle = null;
+        for (int i = 0; i < validatedArticles.size(); i++) {
+            NameDatePress nameDatePress = nameDatePressList.get(i);
+            if (nameDatePress.isFailed()) {
+                if (nameDatePress.getFailure() == Failure.MALFORMED) {
+                    errorSingle = NUMBER_FORMAT_LOCAL_DATE_ERROR;
+                } else if (nameDatePress.getFailure() == Failure.UNKNOWN_PRESS) {
+                    isBeanValidationError = true;
+                }
+                errorList.add(formatRowError(firstRow + i + 1, nameDatePress.getError()));
+                continue;
+            }
+            ValidatedArticle validatedArticle = validatedArticles.get(i);
+            IndustryArticleDto articleDto = validatedArticle.articleDto();
+            BindingResult bindingResult = validatedArticle.bindingResult();
+            if (!pastedNames.add(articleDto.getName())) {
+                bindingResult.rejectValue(NAME, "Exist");
+            }
+            if (!pastedLinks.add(articleDto.getLink())) {
+                bindingResult.rejectValue(LINK, "Exist");
+            }
+            if (bindingResult.hasErrors()) {
+                isBeanValidationError |= validatedArticle.beanValidationViolated();
+                errorList.add(formatRowError(firstRow + i + 1, formatErrors(bindingResult)));
+            } else {
+                articles.add(IndustryArticle.builder().articleDto(articleDto).build());
+            }
+        }
+        return new ValidatedPaste<>(articles, errorList, isBeanValidationError, errorSingle);
+    }
+
+    /**
+     * Validate one batch of file records and insert the accepted ones, or with upsert overwrite the stored ones of
+     * the same name or link. Gives the error of each record in order, null for a written one.
+     */
+    public List<String> importRecords(List<ImportRecord> records, boolean upsert) {
+        IndustryArticleDto[] articleDtos = new IndustryArticleDto[records.size()];
+        String[] errors = new String[records.size()];
+        EnumLookup<Press> pressLookup = EnumLookup.of(Press.class);
+        for (int i = 0; i < records.size(); i++) {
+            ImportRecord record = records.get(i);
+            if (record.isMalformed()) {
+                errors[i] = record.getError();
+                continue;
+            }
+            try {
+                articleDtos[i] = toIndustryArticleDto(record, pressLookup);
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+
+        List<IndustryArticleDto> readDtos = Arrays.stream(articleDtos).filter(Objects::nonNull).toList();
+        Set<String> takenNames = upsert ? new HashSet<>() : new HashSet<>(articleService.findArticlesByNames(
+                readDtos.stream().map(IndustryArticleDto::getName).filter(Objects::nonNull).toList()).keySet());
+        Set<String> takenLinks = upsert ? new HashSet<>() : new HashSet<>(articleService.findArticlesByLinks(
+                readDtos.stream().map(IndustryArticleDto::getLink).filter(Objects::nonNull).toList()).keySet());
+
+        List<IndustryArticle> articles = new ArrayList<>();
+        List<Integer> articleIndexes = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            IndustryArticleDto articleDto = articleDtos[i];
+            if (articleDto == null) continue;
+            BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(articleDto, ARTICLE);
+            defaultValidator.validate(articleDto, bindingResult);
+            if (!bindingResult.hasErrors()) {
+                simpleValidator.validate(articleDto, bindingResult, takenNames, takenLinks);
+            }
+            if (bindingResult.hasErrors()) {
+                errors[i] = formatErrors(bindingResult);
+                continue;
+            }
+            takenNames.add(articleDto.getName());
+            takenLinks.add(articleDto.getLink());
+            articles.add(IndustryArticle.builder().articleDto(articleDto).build());
+            articleIndexes.add(i);
+        }
+        if (upsert) {
+            registerArticles(articles, true);
+        } else {
+            registerIndustryArticles(articles, articleIndexes, errors);
+        }
+        return Arrays.asList(errors);
+    }
+
+    /**
+     * Insert validated articles, or with upsert overwrite the stored ones of the same name or link. Gives the
+     * number of articles written.
+     */
+    public int registerArticles(List<IndustryArticle> articles, boolean upsert) {
+        if (articles.isEmpty()) {
+            return 0;
+        }
+        IndustryArticle[] articleArray = articles.toArray(IndustryArticle[]::new);
+        if (upsert) {
+            articleService.registerOrCorrectArticles(articleArray);
+        } else {
+            articleService.registerArticles(articleArray);
+        }
+        return articles.size();
+    }
+
+    /**
+     * Other private methods
+     */
+    private record ValidatedArticle(IndustryArticleDto articleDto, BindingResult bindingResult,
+                                    boolean beanValidationViolated) {
+    }
+
+    /**
+     * Build and validate one pasted article against the names and links already stored; duplicates within
+     * the paste are left to the caller. Runs on several threads at once, so it only reads the shared sets.
+     * A pair that could not be read gives an empty article.
+     */
+    private ValidatedArticle validateArticle(NameDatePress nameDatePress, String link, String subjectFirstCategory,
+                                             String subjectSecondCategories, Set<String> takenNames,
+                                             Set<String> takenLinks) {
+        if (nameDatePress.isFailed()) {
+            return new ValidatedArticle(null, null, false);
+        }
+        IndustryArticleDto articleDto = new IndustryArticleDto();
+        articleDto.setName(nameDatePress.getName());
+        articleDto.setPress(nameDatePress.getPress().name());
+        articleDto.setLink(link);
+        articleDto.setYear(nameDatePress.getDate().getYear());
+        articleDto.setMonth(nameDatePress.getDate().getMonthValue());
+        articleDto.setDays(nameDatePress.getDate().getDayOfMonth());
+        articleDto.setImportance(0);
+        articleDto.setSubjectFirstCategory(subjectFirstCategory);
+        articleDto.setSubjectSecondCategories(subjectSecondCategories);
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(articleDto, ARTICLE);
+        defaultValidator.validate(articleDto, bindingResult);
+        if (bindingResult.hasErrors()) {
+            return new ValidatedArticle(articleDto, bindingResult, true);
+        }
+        simpleValidator.validate(articleDto, bindingResult, takenNames, takenLinks);
+        return new ValidatedArticle(articleDto, bindingResult, false);
+    }
+
+    private IndustryArticleDto toIndustryArticleDto(ImportRecord record, EnumLookup<Press> pressLookup) {
+        IndustryArticleDto articleDto = new IndustryArticleDto();
+        articleDto.setName(record.get(NAME));
+        String press = record.get(PRESS);
+        articleDto.setPress(press == null ? null :
+                pressLookup.findByValue(press).map(Enum::name).orElse(press.toUpperCase()));
+        articleDto.setLink(record.get(LINK));
+        LocalDate date = record.getDate(DATE);
+        if (date != null) {
+            articleDto.setYear(date.getYear());
+            articleDto.setMonth(date.getMonthValue());
+            articleDto.setDays(date.getDayOfMonth());
+        }
+        Integer importance = record.getInteger(IMPORTANCE);
+        articleDto.setImportance(importance == null ? 0 : importance);
+        articleDto.setSubjectFirstCategory(record.get(SUBJECT_FIRST_CATEGORY));
+        articleDto.setSubjectSecondCategories(serializeWithOneMap(SUBJECT_SECOND_CATEGORY,
+                record.getList(SUBJECT_SECOND_CATEGORIES)));
+        return articleDto;
+    }
+
+    /**
+     * Insert the batch in one transaction. If another writer took a name or link in the meantime,
+     * insert row by row so only the clashing rows fail.
+     */
+    private void registerIndustryArticles(List<IndustryArticle> articles, List<Integer> articleIndexes, String[] errors) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        try {
+            articleService.registerArticles(articles.toArray(IndustryArticle[]::new));
+        } catch (AlreadyExistException e) {
+            for (int i = 0; i < articles.size(); i++) {
+                try {
+                    articleService.registerArticle(articles.get(i));
+                } catch (AlreadyExistException rowException) {
+                    errors[articleIndexes.get(i)] = rowException.getMessage();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package site.hixview.domain.importer;
+
+import java.util.List;
+
+/**
+ * The pasted articles that passed validation, the rejected rows as "#row error", and what the bulk-add page
+ * reports about the rejected rows as a whole.
+ */
+public record ValidatedPaste<T>(List<T> articles, List<String> errorList, boolean beanValidationError,
+                                String errorSingle) {
+}
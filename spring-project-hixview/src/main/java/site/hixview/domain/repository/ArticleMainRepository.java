@@ -12,12 +12,20 @@ public interface ArticleMainRepository {
      */
     List<ArticleMain> getArticles();
 
+    List<ArticleMain> getArticlesAfter(Long number, int limit);
+
+    List<ArticleMain> getArticlesBefore(Long number, int limit);
+
     Optional<ArticleMain> getArticleByNumber(Long number);
 
     Optional<ArticleMain> getArticleByName(String name);
 
     Optional<ArticleMain> getArticleByImagePath(String imagePath);
 
+    boolean existsByName(String name);
+
+    boolean existsByImagePath(String imagePath);
+
     /**
      * INSERT ArticleMain
      */
@@ -26,10 +34,12 @@ public interface ArticleMainRepository {
     /**
      * UPDATE ArticleMain
      */
-    void updateArticle(ArticleMain article);
+    int updateArticle(ArticleMain article);
 
     /**
      * REMOVE ArticleMain
      */
-    void deleteArticleByName(String name);
+    int deleteArticleByName(String name);
+
+    int deleteArticleByNumber(Long number);
 }
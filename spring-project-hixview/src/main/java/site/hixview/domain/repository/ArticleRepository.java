@@ -1,10 +1,14 @@
 package site.hixview.domain.repository;
 
 import site.hixview.domain.entity.article.Article;
+import site.hixview.domain.entity.article.ArticleWithMain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ArticleRepository<T extends Article> {
     /**
@@ -12,30 +16,66 @@ public interface ArticleRepository<T extends Article> {
      */
     List<T> getArticles();
 
+    /**
+     * Pass every article to the action in number order without holding them all in memory.
+     */
+    void forEachArticle(Consumer<T> action);
+
+    List<T> getArticlesAfter(Long number, int limit);
+
+    List<T> getArticlesBefore(Long number, int limit);
+
     List<T> getArticlesByDate(LocalDate date);
 
     List<T> getArticlesByDate(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Pass the articles dated from startDate to endDate to the action in date order, one at a time.
+     */
+    void forEachArticleByDate(LocalDate startDate, LocalDate endDate, Consumer<T> action);
+
     List<T> getLatestArticles();
 
+    Optional<ArticleWithMain<T>> getLatestArticleWithMain();
+
     Optional<T> getArticleByNumber(Long number);
 
     Optional<T> getArticleByName(String name);
 
     Optional<T> getArticleByLink(String link);
 
+    /**
+     * Look up many articles at once; keys without an article are absent from the map.
+     */
+    Map<String, T> getArticlesByNames(Collection<String> names);
+
+    Map<String, T> getArticlesByLinks(Collection<String> links);
+
+    boolean existsByName(String name);
+
+    boolean existsByLink(String link);
+
     /**
      * INSERT Article
      */
     Long saveArticle(T article);
 
+    List<Long> saveArticles(List<T> articles);
+
+    /**
+     * Insert in one batch; an article whose name or link is already taken overwrites that row instead.
+     */
+    void upsertArticles(List<T> articles);
+
     /**
      * UPDATE Article
      */
-    void updateArticle(T article);
+    int updateArticle(T article);
 
     /**
      * REMOVE Article
      */
-    void deleteArticleByName(String name);
+    int deleteArticleByName(String name);
+
+    int deleteArticleByNumber(Long number);
 }
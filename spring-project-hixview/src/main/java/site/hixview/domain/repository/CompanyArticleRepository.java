@@ -2,5 +2,16 @@ package site.hixview.domain.repository;
 
 import site.hixview.domain.entity.article.CompanyArticle;
 
+import java.util.List;
+
 public interface CompanyArticleRepository extends ArticleRepository<CompanyArticle> {
+    /**
+     * Articles about the company, newest first, numbered below the cursor; a null cursor starts from the newest.
+     */
+    List<CompanyArticle> getArticlesByCompany(String code, Long cursor, int limit);
+
+    /**
+     * Rewrite the company name kept on the company's articles after the company is renamed.
+     */
+    void updateSubjectCompany(String code, String subjectCompany);
 }
@@ -2,8 +2,11 @@ package site.hixview.domain.repository;
 
 import site.hixview.domain.entity.company.Company;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CompanyRepository {
     /**
@@ -11,22 +14,43 @@ public interface CompanyRepository {
      */
     List<Company> getCompanies();
 
+    /**
+     * Pass every company to the action in code order without holding them all in memory.
+     */
+    void forEachCompany(Consumer<Company> action);
+
+    List<Company> getCompaniesAfter(String code, int limit);
+
+    List<Company> getCompaniesBefore(String code, int limit);
+
     Optional<Company> getCompanyByCode(String code);
 
     Optional<Company> getCompanyByName(String name);
 
+    /**
+     * Look up many companies at once, each key taken as a code if it is numeric and as a name otherwise.
+     * The map is keyed by the given keys; keys without a company are absent.
+     */
+    Map<String, Company> getCompaniesByCodesOrNames(Collection<String> codesOrNames);
+
+    boolean existsByCode(String code);
+
+    boolean existsByName(String name);
+
     /**
      * INSERT Company
      */
     void saveCompany(Company company);
 
+    void saveCompanies(List<Company> companies);
+
     /**
      * UPDATE Company
      */
-    void updateCompany(Company company);
+    int updateCompany(Company company);
 
     /**
      * REMOVE Company
      */
-    void deleteCompanyByCode(String code);
+    int deleteCompanyByCode(String code);
 }
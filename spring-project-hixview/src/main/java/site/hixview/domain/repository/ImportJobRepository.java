@@ -0,0 +1,42 @@
+package site.hixview.domain.repository;
+
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.ImportJobStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ImportJobRepository {
+    /**
+     * SELECT ImportJob
+     */
+    Optional<ImportJob> getJobById(Long id);
+
+    /**
+     * The job without its paste: counts, timestamps, and the errors once it has finished.
+     */
+    Optional<ImportJob> getJobProgressById(Long id);
+
+    List<ImportJob> getJobsByStatus(ImportJobStatus status);
+
+    /**
+     * INSERT ImportJob
+     */
+    Long saveJob(ImportJob job);
+
+    /**
+     * UPDATE ImportJob
+     */
+    int updateStatus(Long id, ImportJobStatus status);
+
+    /**
+     * Move the checkpoint from processedRows to toRow, adding the inserted count and the rejected rows.
+     * Nothing changes when the checkpoint is no longer at processedRows.
+     */
+    int updateProgress(Long id, int processedRows, int toRow, int insertedRows, List<String> errors);
+
+    /**
+     * Finish the job with the given status, appending the error when there is one.
+     */
+    int finishJob(Long id, ImportJobStatus status, String error);
+}
@@ -1,6 +1,18 @@
 package site.hixview.domain.repository;
 
+import site.hixview.domain.entity.FirstCategory;
+import site.hixview.domain.entity.SecondCategory;
 import site.hixview.domain.entity.article.IndustryArticle;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 public interface IndustryArticleRepository extends ArticleRepository<IndustryArticle> {
+    /**
+     * Articles of the first category dated within the range that touch any of the second categories, newest first.
+     * An empty set of second categories matches every article of the first category.
+     */
+    List<IndustryArticle> getArticlesByCategory(FirstCategory firstCategory, Set<SecondCategory> secondCategories,
+                                                LocalDate startDate, LocalDate endDate);
 }
@@ -5,6 +5,7 @@ import site.hixview.domain.entity.member.Member;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface MemberRepository {
     /**
@@ -12,6 +13,15 @@ public interface MemberRepository {
      */
     List<Member> getMembers();
 
+    /**
+     * Pass every member to the action in identifier order without holding them all in memory.
+     */
+    void forEachMember(Consumer<Member> action);
+
+    List<Member> getMembersAfter(Long identifier, int limit);
+
+    List<Member> getMembersBefore(Long identifier, int limit);
+
     List<Member> getMembersByName(String name);
 
     List<Member> getMembersByBirthday(LocalDate birthday);
@@ -22,6 +32,8 @@ public interface MemberRepository {
 
     Optional<Member> getMemberByID(String id);
 
+    boolean existsByID(String id);
+
     /**
      * INSERT Member
      */
@@ -30,5 +42,5 @@ public interface MemberRepository {
     /**
      * REMOVE Member
      */
-    void deleteMemberById(String id);
+    int deleteMemberById(String id);
 }
@@ -1,16 +1,20 @@
 package site.hixview.domain.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.article.ArticleMain;
 import site.hixview.domain.error.AlreadyExistException;
 import site.hixview.domain.error.NotFoundException;
 import site.hixview.domain.repository.ArticleMainRepository;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static site.hixview.domain.vo.ExceptionMessage.ALREADY_EXIST_ARTICLE_MAIN_NAME;
 import static site.hixview.domain.vo.ExceptionMessage.NO_ARTICLE_MAIN_WITH_THAT_NAME;
@@ -23,6 +27,8 @@ public class ArticleMainService {
 
     private final ArticleMainRepository articleRepository;
 
+    private final HomePageService homePageService;
+
     /**
      * SELECT ArticleMain
      */
@@ -30,6 +36,14 @@ public class ArticleMainService {
         return articleRepository.getArticles();
     }
 
+    public KeysetPage<ArticleMain, Long> findArticlesPage(Long after, Long before, int size) {
+        if (before != null) {
+            return KeysetPage.backward(articleRepository.getArticlesBefore(before, size + 1), size, ArticleMain::getNumber);
+        }
+        return KeysetPage.forward(articleRepository.getArticlesAfter(after == null ? 0L : after, size + 1), size,
+                after != null, ArticleMain::getNumber);
+    }
+
     public Optional<ArticleMain> findArticleByNumber(Long number) {
         return articleRepository.getArticleByNumber(number);
     }
@@ -47,11 +61,25 @@ public class ArticleMainService {
         return articleRepository.getArticleByImagePath(imagePath);
     }
 
+    public boolean existsArticleByName(String name) {
+        return articleRepository.existsByName(name);
+    }
+
+    public boolean existsArticleByImagePath(String imagePath) {
+        return articleRepository.existsByImagePath(imagePath);
+    }
+
     /**
      * INSERT ArticleMain
      */
     @Transactional
     public List<ArticleMain> registerArticles(ArticleMain... articles) {
+        Set<String> names = new HashSet<>();
+        for (ArticleMain article : articles) {
+            if (!names.add(article.getName())) {
+                throw new AlreadyExistException(ALREADY_EXIST_ARTICLE_MAIN_NAME);
+            }
+        }
         List<ArticleMain> articleList = new ArrayList<>();
         for (ArticleMain article : articles) {
             articleList.add(ArticleMain.builder().article(article).number(registerArticle(article).getNumber()).build());
@@ -61,8 +89,14 @@ public class ArticleMainService {
 
     @Transactional
     public ArticleMain registerArticle(ArticleMain article) {
-        duplicateCheck(article);
-        return ArticleMain.builder().article(article).number(articleRepository.saveArticle(article)).build();
+        Long number;
+        try {
+            number = articleRepository.saveArticle(article);
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyExistException(ALREADY_EXIST_ARTICLE_MAIN_NAME);
+        }
+        homePageService.refreshAfterCommit();
+        return ArticleMain.builder().article(article).number(number).build();
     }
 
     /**
@@ -70,8 +104,10 @@ public class ArticleMainService {
      */
     @Transactional
     public void correctArticle(ArticleMain article) {
-        existentCheck(article.getName());
-        articleRepository.updateArticle(article);
+        if (articleRepository.updateArticle(article) == 0) {
+            throw new NotFoundException(NO_ARTICLE_MAIN_WITH_THAT_NAME);
+        }
+        homePageService.refreshAfterCommit();
     }
 
     /**
@@ -79,22 +115,31 @@ public class ArticleMainService {
      */
     @Transactional
     public void removeArticleByName(String name) {
-        existentCheck(name);
-        articleRepository.deleteArticleByName(name);
+        if (articleRepository.deleteArticleByName(name) == 0) {
+            throw new NotFoundException(NO_ARTICLE_MAIN_WITH_THAT_NAME);
+        }
+        homePageService.refreshAfterCommit();
     }
 
     /**
-     * Other private methods
+     * Remove the article and return its name, or empty when there is no such article.
      */
-    private void duplicateCheck(ArticleMain article) {
-        articleRepository.getArticleByName(article.getName()).ifPresent(
-                v -> {throw new AlreadyExistException(ALREADY_EXIST_ARTICLE_MAIN_NAME);}
-        );
-    }
-
-    private void existentCheck(String name) {
-        articleRepository.getArticleByName(name).orElseThrow(
-                () -> new NotFoundException(NO_ARTICLE_MAIN_WITH_THAT_NAME)
-        );
+    @Transactional
+    public Optional<String> removeArticleByNumberOrName(String numberOrName) {
+        String name;
+        if (NUMBER_PATTERN.matcher(numberOrName).matches()) {
+            Optional<ArticleMain> articleOrEmpty = articleRepository.getArticleByNumber(Long.parseLong(numberOrName));
+            if (articleOrEmpty.isEmpty() || articleRepository.deleteArticleByNumber(articleOrEmpty.get().getNumber()) == 0) {
+                return Optional.empty();
+            }
+            name = articleOrEmpty.get().getName();
+        } else {
+            if (articleRepository.deleteArticleByName(numberOrName) == 0) {
+                return Optional.empty();
+            }
+            name = numberOrName;
+        }
+        homePageService.refreshAfterCommit();
+        return Optional.of(name);
     }
 }
@@ -2,13 +2,19 @@ package site.hixview.domain.service;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.article.Article;
+import site.hixview.domain.entity.article.ArticleWithMain;
 import site.hixview.domain.repository.ArticleRepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static site.hixview.domain.vo.Regex.NUMBER_PATTERN;
 
@@ -25,6 +31,22 @@ public abstract class ArticleService<T extends Article, U extends ArticleReposit
         return articleRepository.getArticles();
     }
 
+    /**
+     * Streams from the export pool outside a transaction, so a long download holds no connection of the main pool.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachArticle(Consumer<T> action) {
+        articleRepository.forEachArticle(action);
+    }
+
+    public KeysetPage<T, Long> findArticlesPage(Long after, Long before, int size) {
+        if (before != null) {
+            return KeysetPage.backward(articleRepository.getArticlesBefore(before, size + 1), size, T::getNumber);
+        }
+        return KeysetPage.forward(articleRepository.getArticlesAfter(after == null ? 0L : after, size + 1), size,
+                after != null, T::getNumber);
+    }
+
     public List<T> findArticlesByDate(LocalDate date) {
         return articleRepository.getArticlesByDate(date);
     }
@@ -33,10 +55,22 @@ public abstract class ArticleService<T extends Article, U extends ArticleReposit
         return articleRepository.getArticlesByDate(startDate, endDate);
     }
 
+    /**
+     * Streams from the export pool outside a transaction, so a long download holds no connection of the main pool.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachArticleByDate(LocalDate startDate, LocalDate endDate, Consumer<T> action) {
+        articleRepository.forEachArticleByDate(startDate, endDate, action);
+    }
+
     public List<T> findLatestArticles() {
         return articleRepository.getLatestArticles();
     }
 
+    public Optional<ArticleWithMain<T>> findLatestArticleWithMain() {
+        return articleRepository.getLatestArticleWithMain();
+    }
+
     public Optional<T> findArticleByNumber(Long number) {
         return articleRepository.getArticleByNumber(number);
     }
@@ -53,4 +87,20 @@ public abstract class ArticleService<T extends Article, U extends ArticleReposit
     public Optional<T> findArticleByLink(String link) {
         return articleRepository.getArticleByLink(link);
     }
+
+    public Map<String, T> findArticlesByNames(Collection<String> names) {
+        return articleRepository.getArticlesByNames(names);
+    }
+
+    public Map<String, T> findArticlesByLinks(Collection<String> links) {
+        return articleRepository.getArticlesByLinks(links);
+    }
+
+    public boolean existsArticleByName(String name) {
+        return articleRepository.existsByName(name);
+    }
+
+    public boolean existsArticleByLink(String link) {
+        return articleRepository.existsByLink(link);
+    }
 }
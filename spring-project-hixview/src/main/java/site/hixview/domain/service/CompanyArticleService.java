@@ -1,18 +1,26 @@
 package site.hixview.domain.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.hixview.domain.entity.DataVersion;
 import site.hixview.domain.entity.article.CompanyArticle;
 import site.hixview.domain.error.AlreadyExistException;
 import site.hixview.domain.error.NotFoundException;
 import site.hixview.domain.repository.CompanyArticleRepository;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static site.hixview.domain.vo.ExceptionMessage.ALREADY_EXIST_COMPANY_ARTICLE_NAME;
 import static site.hixview.domain.vo.ExceptionMessage.NO_COMPANY_ARTICLE_WITH_THAT_NAME;
+import static site.hixview.domain.vo.Regex.NUMBER_PATTERN;
 
 @Service
 @Transactional
@@ -21,54 +29,137 @@ public class CompanyArticleService extends ArticleService<CompanyArticle, Compan
     @Autowired
     private CompanyArticleRepository articleRepository;
 
+    @Autowired
+    private HomePageService homePageService;
+
+    private volatile DataVersion articlesVersion = DataVersion.initial();
+
     public CompanyArticleService(CompanyArticleRepository articleRepository) {
         super(articleRepository);
     }
 
+    /**
+     * SELECT CompanyArticle
+     */
+    @Transactional(readOnly = true)
+    public List<CompanyArticle> findArticlesByCompany(String code, Long cursor, int limit) {
+        return articleRepository.getArticlesByCompany(code, cursor, limit);
+    }
+
+    /**
+     * Advanced after every committed write, for pages that list company articles.
+     */
+    public DataVersion getArticlesVersion() {
+        return articlesVersion;
+    }
+
     /**
      * INSERT CompanyArticle
      */
     public List<CompanyArticle> registerArticles(CompanyArticle... articles) {
-        List<CompanyArticle> articleList = new ArrayList<>();
+        Set<String> names = new HashSet<>();
         for (CompanyArticle article : articles) {
-            articleList.add(CompanyArticle.builder().article(article).number(registerArticle(article).getNumber()).build());
+            if (!names.add(article.getName())) {
+                throw new AlreadyExistException(ALREADY_EXIST_COMPANY_ARTICLE_NAME);
+            }
+        }
+        List<Long> numbers;
+        try {
+            numbers = articleRepository.saveArticles(List.of(articles));
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyExistException(ALREADY_EXIST_COMPANY_ARTICLE_NAME);
+        }
+        homePageService.refreshAfterCommit();
+        advanceArticlesVersionAfterCommit();
+        List<CompanyArticle> articleList = new ArrayList<>();
+        for (int i = 0; i < articles.length; i++) {
+            articleList.add(CompanyArticle.builder().article(articles[i]).number(numbers.get(i)).build());
         }
         return articleList;
     }
 
     public CompanyArticle registerArticle(CompanyArticle article) {
-        duplicateCheck(article);
-        return CompanyArticle.builder().article(article).number(articleRepository.saveArticle(article)).build();
+        Long number;
+        try {
+            number = articleRepository.saveArticle(article);
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyExistException(ALREADY_EXIST_COMPANY_ARTICLE_NAME);
+        }
+        homePageService.refreshAfterCommit();
+        advanceArticlesVersionAfterCommit();
+        return CompanyArticle.builder().article(article).number(number).build();
+    }
+
+    /**
+     * Register new articles and overwrite the ones whose name or link already exists.
+     */
+    public void registerOrCorrectArticles(CompanyArticle... articles) {
+        articleRepository.upsertArticles(List.of(articles));
+        homePageService.refreshAfterCommit();
+        advanceArticlesVersionAfterCommit();
     }
 
     /**
      * UPDATE CompanyArticle
      */
     public void correctArticle(CompanyArticle article) {
-        existentCheck(article.getName());
-        articleRepository.updateArticle(article);
+        if (articleRepository.updateArticle(article) == 0) {
+            throw new NotFoundException(NO_COMPANY_ARTICLE_WITH_THAT_NAME);
+        }
+        homePageService.refreshAfterCommit();
+        advanceArticlesVersionAfterCommit();
     }
 
     /**
      * REMOVE CompanyArticle
      */
     public void removeArticleByName(String name) {
-        existentCheck(name);
-        articleRepository.deleteArticleByName(name);
+        if (articleRepository.deleteArticleByName(name) == 0) {
+            throw new NotFoundException(NO_COMPANY_ARTICLE_WITH_THAT_NAME);
+        }
+        homePageService.refreshAfterCommit();
+        advanceArticlesVersionAfterCommit();
+    }
+
+    /**
+     * Remove the article and return its name, or empty when there is no such article.
+     */
+    public Optional<String> removeArticleByNumberOrName(String numberOrName) {
+        String name;
+        if (NUMBER_PATTERN.matcher(numberOrName).matches()) {
+            Optional<CompanyArticle> articleOrEmpty = articleRepository.getArticleByNumber(Long.parseLong(numberOrName));
+            if (articleOrEmpty.isEmpty() || articleRepository.deleteArticleByNumber(articleOrEmpty.get().getNumber()) == 0) {
+                return Optional.empty();
+            }
+            name = articleOrEmpty.get().getName();
+        } else {
+            if (articleRepository.deleteArticleByName(numberOrName) == 0) {
+                return Optional.empty();
+            }
+            name = numberOrName;
+        }
+        homePageService.refreshAfterCommit();
+        advanceArticlesVersionAfterCommit();
+        return Optional.of(name);
     }
 
     /**
      * Other private methods
      */
-    private void duplicateCheck(CompanyArticle article) {
-        articleRepository.getArticleByName(article.getName()).ifPresent(
-                v -> {throw new AlreadyExistException(ALREADY_EXIST_COMPANY_ARTICLE_NAME);}
-        );
+    private void advanceArticlesVersionAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advanceArticlesVersion();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                advanceArticlesVersion();
+            }
+        });
     }
 
-    private void existentCheck(String name) {
-        articleRepository.getArticleByName(name).orElseThrow(
-                () -> new NotFoundException(NO_COMPANY_ARTICLE_WITH_THAT_NAME)
-        );
+    private synchronized void advanceArticlesVersion() {
+        articlesVersion = articlesVersion.next();
     }
 }
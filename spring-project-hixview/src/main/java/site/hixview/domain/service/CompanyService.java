@@ -1,24 +1,70 @@
 package site.hixview.domain.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.hixview.domain.entity.DataVersion;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.company.Company;
+import site.hixview.domain.error.AlreadyExistException;
+import site.hixview.domain.repository.CompanyArticleRepository;
 import site.hixview.domain.repository.CompanyRepository;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static site.hixview.domain.vo.ExceptionMessage.ALREADY_EXIST_COMPANY_CODE;
 import static site.hixview.domain.vo.ExceptionMessage.NO_COMPANY_WITH_THAT_CODE;
 import static site.hixview.domain.vo.Regex.NUMBER_PATTERN;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CompanyService {
 
+    private static final String COMPANIES_BY_CODE_CACHE = "companiesByCode";
+    private static final String COMPANIES_BY_NAME_CACHE = "companiesByName";
+
     private final CompanyRepository companyRepository;
+    private final CompanyArticleRepository companyArticleRepository;
+
+    /**
+     * Lookups by code and by name, including misses. Every write clears both, since a correction can rename a company.
+     */
+    private final Cache<String, Optional<Company>> companiesByCode;
+    private final Cache<String, Optional<Company>> companiesByName;
+
+    private volatile DataVersion catalogVersion = DataVersion.initial();
+
+    public CompanyService(CompanyRepository companyRepository, CompanyArticleRepository companyArticleRepository,
+                          ObjectProvider<MeterRegistry> meterRegistry,
+                          @Value("${cache.company.maximum-size:1000}") long maximumSize,
+                          @Value("${cache.company.expire-after-write-minutes:10}") long expireAfterWriteMinutes) {
+        this.companyRepository = companyRepository;
+        this.companyArticleRepository = companyArticleRepository;
+        companiesByCode = buildCompanyCache(maximumSize, expireAfterWriteMinutes);
+        companiesByName = buildCompanyCache(maximumSize, expireAfterWriteMinutes);
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, companiesByCode, COMPANIES_BY_CODE_CACHE);
+            CaffeineCacheMetrics.monitor(registry, companiesByName, COMPANIES_BY_NAME_CACHE);
+        });
+    }
 
     /**
      * SELECT Company
@@ -27,32 +73,103 @@ public class CompanyService {
         return companyRepository.getCompanies();
     }
 
+    /**
+     * Streams from the export pool outside a transaction, so a long download holds no connection of the main pool.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachCompany(Consumer<Company> action) {
+        companyRepository.forEachCompany(action);
+    }
+
+    public KeysetPage<Company, String> findCompaniesPage(String after, String before, int size) {
+        if (before != null) {
+            return KeysetPage.backward(companyRepository.getCompaniesBefore(before, size + 1), size, Company::getCode);
+        }
+        return KeysetPage.forward(companyRepository.getCompaniesAfter(after == null ? "" : after, size + 1), size,
+                after != null, Company::getCode);
+    }
+
+    /**
+     * The cached lookups join a caller's transaction but do not start one, so a cache hit borrows no connection.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Company> findCompanyByCode(String code) {
-        return companyRepository.getCompanyByCode(code);
+        return companiesByCode.get(code, companyRepository::getCompanyByCode);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Company> findCompanyByName(String name) {
-        return companyRepository.getCompanyByName(name);
+        return companiesByName.get(name, companyRepository::getCompanyByName);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Company> findCompanyByCodeOrName(String codeOrName) {
         return NUMBER_PATTERN.matcher(codeOrName).matches() ? findCompanyByCode(codeOrName) : findCompanyByName(codeOrName);
     }
 
+    /**
+     * Cached companies are served from the caches; the rest are looked up together.
+     * The map is keyed by the given codes and names; keys without a company are absent.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Company> findCompaniesByCodesOrNames(Collection<String> codesOrNames) {
+        Map<Boolean, List<String>> codesAndNames = codesOrNames.stream().distinct()
+                .collect(Collectors.partitioningBy(codeOrName -> NUMBER_PATTERN.matcher(codeOrName).matches()));
+        Map<String, Company> companies = new HashMap<>();
+        companiesByCode.getAll(codesAndNames.get(true), this::loadCompanies)
+                .forEach((code, companyOrEmpty) -> companyOrEmpty.ifPresent(company -> companies.put(code, company)));
+        companiesByName.getAll(codesAndNames.get(false), this::loadCompanies)
+                .forEach((name, companyOrEmpty) -> companyOrEmpty.ifPresent(company -> companies.put(name, company)));
+        return companies;
+    }
+
+    /**
+     * Advanced after the lookup caches are cleared, so a page rendered at a version never shows older rows.
+     */
+    public DataVersion getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    /**
+     * Answered from the same cached lookups as findCompanyByCode and findCompanyByName, so both always agree.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean existsCompanyByCode(String code) {
+        return findCompanyByCode(code).isPresent();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean existsCompanyByName(String name) {
+        return findCompanyByName(name).isPresent();
+    }
+
     /**
      * INSERT Company
      */
     @Transactional
-    public void registerCompanies(Company... articles) {
-        for (Company article : articles) {
-            registerCompany(article);
+    public void registerCompanies(Company... companies) {
+        Set<String> codes = new HashSet<>();
+        for (Company company : companies) {
+            if (!codes.add(company.getCode())) {
+                throw new AlreadyExistException(ALREADY_EXIST_COMPANY_CODE);
+            }
+        }
+        try {
+            companyRepository.saveCompanies(List.of(companies));
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyExistException(ALREADY_EXIST_COMPANY_CODE);
         }
+        invalidateCompanyCaches();
     }
 
     @Transactional
     public void registerCompany(Company company) {
-        duplicateCheck(company);
-        companyRepository.saveCompany(company);
+        try {
+            companyRepository.saveCompany(company);
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyExistException(ALREADY_EXIST_COMPANY_CODE);
+        }
+        invalidateCompanyCaches();
     }
 
     /**
@@ -60,8 +177,11 @@ public class CompanyService {
      */
     @Transactional
     public void correctCompany(Company company) {
-        existentCheck(company.getCode());
-        companyRepository.updateCompany(company);
+        if (companyRepository.updateCompany(company) == 0) {
+            throw new IllegalStateException(NO_COMPANY_WITH_THAT_CODE);
+        }
+        companyArticleRepository.updateSubjectCompany(company.getCode(), company.getName());
+        invalidateCompanyCaches();
     }
 
     /**
@@ -69,21 +189,54 @@ public class CompanyService {
      */
     @Transactional
     public void removeCompanyByCode(String code) {
-        existentCheck(code);
-        companyRepository.deleteCompanyByCode(code);
+        if (companyRepository.deleteCompanyByCode(code) == 0) {
+            throw new IllegalStateException(NO_COMPANY_WITH_THAT_CODE);
+        }
+        invalidateCompanyCaches();
     }
 
     /**
      * Other private methods
      */
-    private void duplicateCheck(Company company) {
-        companyRepository.getCompanyByCode(company.getCode()).ifPresent(
-                v -> {throw new IllegalStateException(ALREADY_EXIST_COMPANY_CODE);}
-        );
-    }
-    private void existentCheck(String code) {
-        companyRepository.getCompanyByCode(code).orElseThrow(
-                () -> new IllegalStateException(NO_COMPANY_WITH_THAT_CODE)
-        );
+    private Map<String, Optional<Company>> loadCompanies(Set<? extends String> codesOrNames) {
+        if (codesOrNames.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Company> companies = companyRepository.getCompaniesByCodesOrNames(List.copyOf(codesOrNames));
+        Map<String, Optional<Company>> companiesOrEmpty = new HashMap<>();
+        for (String codeOrName : codesOrNames) {
+            companiesOrEmpty.put(codeOrName, Optional.ofNullable(companies.get(codeOrName)));
+        }
+        return companiesOrEmpty;
+    }
+
+    private static Cache<String, Optional<Company>> buildCompanyCache(long maximumSize, long expireAfterWriteMinutes) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Clear after commit so that a lookup racing the write cannot cache the row it is replacing.
+     */
+    private void invalidateCompanyCaches() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clearCompanyCaches();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clearCompanyCaches();
+            }
+        });
+    }
+
+    private synchronized void clearCompanyCaches() {
+        companiesByCode.invalidateAll();
+        companiesByName.invalidateAll();
+        catalogVersion = catalogVersion.next();
     }
 }
@@ -0,0 +1,136 @@
+package site.hixview.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.hixview.domain.entity.DataVersion;
+import site.hixview.domain.entity.article.ArticleWithMain;
+import site.hixview.domain.entity.article.CompanyArticle;
+import site.hixview.domain.entity.article.HomePageSnapshot;
+import site.hixview.domain.entity.article.IndustryArticle;
+import site.hixview.domain.repository.CompanyArticleRepository;
+import site.hixview.domain.repository.IndustryArticleRepository;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static site.hixview.util.ThreadUtils.VIRTUAL_THREADS_ENABLED;
+import static site.hixview.util.ThreadUtils.threadFactory;
+
+@Service
+public class HomePageService {
+
+    private static final Logger log = LoggerFactory.getLogger(HomePageService.class);
+
+    private final CompanyArticleRepository companyArticleRepository;
+
+    private final IndustryArticleRepository industryArticleRepository;
+
+    private final ExecutorService refreshExecutor;
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    /**
+     * Guards snapshot building. A lock rather than a monitor, so a virtual thread waiting on the queries inside
+     * does not pin its carrier thread.
+     */
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    private volatile HomePageSnapshot snapshot;
+
+    private DataVersion lastVersion;
+
+    public HomePageService(CompanyArticleRepository companyArticleRepository,
+                           IndustryArticleRepository industryArticleRepository,
+                           @Value(VIRTUAL_THREADS_ENABLED) boolean virtualThreads) {
+        this.companyArticleRepository = companyArticleRepository;
+        this.industryArticleRepository = industryArticleRepository;
+        refreshExecutor = Executors.newSingleThreadExecutor(threadFactory("home-page-refresh-", virtualThreads));
+    }
+
+    /**
+     * SELECT HomePageSnapshot
+     */
+    public HomePageSnapshot getSnapshot() {
+        HomePageSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        snapshotLock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = buildSnapshot(companyArticleRepository.getLatestArticleWithMain(),
+                        industryArticleRepository.getLatestArticleWithMain());
+            }
+            return snapshot;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuild the snapshot on a background thread once the current transaction commits.
+     * Writes arriving while a rebuild is queued share that rebuild.
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleRefresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleRefresh();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Other private methods
+     */
+    private void scheduleRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refreshExecutor.execute(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        refreshScheduled.set(false);
+        try {
+            Optional<ArticleWithMain<CompanyArticle>> latestCompanyArticle = companyArticleRepository.getLatestArticleWithMain();
+            Optional<ArticleWithMain<IndustryArticle>> latestIndustryArticle = industryArticleRepository.getLatestArticleWithMain();
+            snapshotLock.lock();
+            try {
+                snapshot = buildSnapshot(latestCompanyArticle, latestIndustryArticle);
+            } finally {
+                snapshotLock.unlock();
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh the home page snapshot", e);
+            snapshotLock.lock();
+            try {
+                snapshot = null;
+            } finally {
+                snapshotLock.unlock();
+            }
+        }
+    }
+
+    private HomePageSnapshot buildSnapshot(Optional<ArticleWithMain<CompanyArticle>> latestCompanyArticle,
+                                           Optional<ArticleWithMain<IndustryArticle>> latestIndustryArticle) {
+        lastVersion = lastVersion == null ? DataVersion.initial() : lastVersion.next();
+        return new HomePageSnapshot(lastVersion, latestCompanyArticle.orElse(null), latestIndustryArticle.orElse(null));
+    }
+}
@@ -0,0 +1,28 @@
+package site.hixview.domain.service;
+
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.ImportJobTarget;
+import site.hixview.domain.entity.article.NameDatePress;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Validates the rows of one kind of import job. The bulk-add page of that kind validates pasted rows with the same
+ * handler, so pasted and background imports reject the same rows.
+ */
+public interface ImportJobHandler {
+
+    ImportJobTarget getTarget();
+
+    /**
+     * Validate the pairs and links of the job starting after firstRow against the stored articles.
+     */
+    Batch prepareBatch(ImportJob job, int firstRow, List<NameDatePress> pairs, List<String> links);
+
+    /**
+     * The rejected rows as "#row error", and the insert of the accepted ones returning how many were inserted.
+     */
+    record Batch(List<String> errors, IntSupplier insert) {
+    }
+}
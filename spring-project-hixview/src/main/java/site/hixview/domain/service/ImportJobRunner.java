@@ -0,0 +1,154 @@
+package site.hixview.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.article.NameDatePress;
+import site.hixview.domain.error.AlreadyExistException;
+import site.hixview.domain.error.ImportJobCheckpointMovedException;
+import site.hixview.domain.error.NotFoundException;
+import site.hixview.util.NameDatePressTokenizer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static site.hixview.domain.vo.ExceptionMessage.*;
+import static site.hixview.util.ControllerUtils.streamLinkString;
+import static site.hixview.util.ImportUtils.IMPORT_BATCH_SIZE;
+import static site.hixview.util.ThreadUtils.VIRTUAL_THREADS_ENABLED;
+import static site.hixview.util.ThreadUtils.threadFactory;
+
+/**
+ * Runs import jobs on a fixed number of threads with a bounded queue, IMPORT_BATCH_SIZE rows per transaction.
+ * The threads are virtual in the virtual-thread mode, but their number still limits how many jobs run at once.
+ * Jobs left unfinished by a shutdown or a crash are picked up again at startup and continue after their last
+ * committed batch.
+ */
+@Service
+public class ImportJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportJobRunner.class);
+
+    private final ImportJobService importJobService;
+
+    private final ObjectProvider<ImportJobHandler> importJobHandlers;
+
+    private final ThreadPoolExecutor jobExecutor;
+
+    public ImportJobRunner(ImportJobService importJobService, ObjectProvider<ImportJobHandler> importJobHandlers,
+                           @Value("${import.job.threads:2}") int threads,
+                           @Value("${import.job.queue-capacity:100}") int queueCapacity,
+                           @Value(VIRTUAL_THREADS_ENABLED) boolean virtualThreads) {
+        this.importJobService = importJobService;
+        this.importJobHandlers = importJobHandlers;
+        jobExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory("import-job-", virtualThreads));
+    }
+
+    /**
+     * Store the job and queue it; a job that does not fit in the queue is stored as failed.
+     */
+    public ImportJob submit(ImportJob job) {
+        ImportJob registeredJob = importJobService.registerJob(job);
+        schedule(registeredJob.getId());
+        return registeredJob;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        for (ImportJob job : importJobService.findUnfinishedJobs()) {
+            log.info("Resuming import job {} after row {}", job.getId(), job.getProcessedRows());
+            schedule(job.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * Other private methods
+     */
+    private void schedule(Long id) {
+        try {
+            jobExecutor.execute(() -> run(id));
+        } catch (RejectedExecutionException e) {
+            importJobService.failJob(id, TOO_MANY_IMPORT_JOBS);
+        }
+    }
+
+    private void run(Long id) {
+        try {
+            ImportJob job = importJobService.findJobById(id)
+                    .orElseThrow(() -> new NotFoundException(NO_IMPORT_JOB_WITH_THAT_ID));
+            if (job.getStatus().isFinished()) {
+                return;
+            }
+            ImportJobHandler handler = importJobHandlers.orderedStream()
+                    .filter(candidate -> candidate.getTarget() == job.getTarget()).findFirst()
+                    .orElseThrow(() -> new NotFoundException(NO_IMPORT_JOB_HANDLER));
+            importJobService.startJob(id);
+
+            NameDatePressTokenizer tokenizer = new NameDatePressTokenizer(job.getNameDatePressString());
+            Iterator<String> links = streamLinkString(job.getLinkString()).iterator();
+            for (int skipped = 0; skipped < job.getProcessedRows() && links.hasNext(); skipped++) {
+                tokenizer.next();
+                links.next();
+            }
+            int from = job.getProcessedRows();
+            List<NameDatePress> pairs = new ArrayList<>(IMPORT_BATCH_SIZE);
+            List<String> batchLinks = new ArrayList<>(IMPORT_BATCH_SIZE);
+            NameDatePress pair;
+            while ((pair = tokenizer.next()) != null && links.hasNext()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                pairs.add(pair);
+                batchLinks.add(links.next());
+                if (pairs.size() == IMPORT_BATCH_SIZE) {
+                    commitBatch(job, handler, from, from + pairs.size(), pairs, batchLinks);
+                    from += pairs.size();
+                    pairs = new ArrayList<>(IMPORT_BATCH_SIZE);
+                    batchLinks = new ArrayList<>(IMPORT_BATCH_SIZE);
+                }
+            }
+            if (!pairs.isEmpty()) {
+                commitBatch(job, handler, from, from + pairs.size(), pairs, batchLinks);
+            }
+            importJobService.completeJob(id);
+        } catch (ImportJobCheckpointMovedException e) {
+            log.info("Import job {} is being processed elsewhere: {}", id, e.getMessage());
+        } catch (RuntimeException e) {
+            if (jobExecutor.isShutdown()) {
+                return;
+            }
+            log.error("Import job {} failed", id, e);
+            importJobService.failJob(id, e.getMessage());
+        }
+    }
+
+    /**
+     * A name or link taken between validation and insert fails the batch; validating it once more turns that
+     * article into a rejected row.
+     */
+    private void commitBatch(ImportJob job, ImportJobHandler handler, int from, int to,
+                             List<NameDatePress> pairs, List<String> links) {
+        try {
+            importJobService.commitBatch(job.getId(), from, to, handler.prepareBatch(job, from, pairs, links));
+        } catch (AlreadyExistException e) {
+            importJobService.commitBatch(job.getId(), from, to, handler.prepareBatch(job, from, pairs, links));
+        }
+    }
+}
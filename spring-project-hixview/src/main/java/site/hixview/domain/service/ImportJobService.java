@@ -0,0 +1,86 @@
+package site.hixview.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.ImportJobStatus;
+import site.hixview.domain.error.ImportJobCheckpointMovedException;
+import site.hixview.domain.error.NotFoundException;
+import site.hixview.domain.repository.ImportJobRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static site.hixview.domain.vo.ExceptionMessage.IMPORT_JOB_CHECKPOINT_MOVED;
+import static site.hixview.domain.vo.ExceptionMessage.NO_IMPORT_JOB_WITH_THAT_ID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ImportJobService {
+
+    private final ImportJobRepository importJobRepository;
+
+    /**
+     * SELECT ImportJob
+     */
+    @Transactional(readOnly = true)
+    public Optional<ImportJob> findJobById(Long id) {
+        return importJobRepository.getJobById(id);
+    }
+
+    /**
+     * For the status page, which polls while the job runs; the paste is left to the runner.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ImportJob> findJobProgressById(Long id) {
+        return importJobRepository.getJobProgressById(id);
+    }
+
+    /**
+     * Jobs left queued or running, e.g. by a restart.
+     */
+    @Transactional(readOnly = true)
+    public List<ImportJob> findUnfinishedJobs() {
+        return Stream.of(ImportJobStatus.RUNNING, ImportJobStatus.QUEUED)
+                .flatMap(status -> importJobRepository.getJobsByStatus(status).stream()).toList();
+    }
+
+    /**
+     * INSERT ImportJob
+     */
+    public ImportJob registerJob(ImportJob job) {
+        ImportJob queuedJob = ImportJob.builder().importJob(job).status(ImportJobStatus.QUEUED).build();
+        return ImportJob.builder().importJob(queuedJob).id(importJobRepository.saveJob(queuedJob)).build();
+    }
+
+    /**
+     * UPDATE ImportJob
+     */
+    public void startJob(Long id) {
+        if (importJobRepository.updateStatus(id, ImportJobStatus.RUNNING) == 0) {
+            throw new NotFoundException(NO_IMPORT_JOB_WITH_THAT_ID);
+        }
+    }
+
+    /**
+     * Insert one batch and move the checkpoint past it in the same transaction. When another worker has already
+     * moved the checkpoint, the insert is rolled back.
+     */
+    public void commitBatch(Long id, int processedRows, int toRow, ImportJobHandler.Batch batch) {
+        int insertedRows = batch.insert().getAsInt();
+        if (importJobRepository.updateProgress(id, processedRows, toRow, insertedRows, batch.errors()) == 0) {
+            throw new ImportJobCheckpointMovedException(IMPORT_JOB_CHECKPOINT_MOVED);
+        }
+    }
+
+    public void completeJob(Long id) {
+        importJobRepository.finishJob(id, ImportJobStatus.COMPLETED, null);
+    }
+
+    public void failJob(Long id, String error) {
+        importJobRepository.finishJob(id, ImportJobStatus.FAILED, error);
+    }
+}
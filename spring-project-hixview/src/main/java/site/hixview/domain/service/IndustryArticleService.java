@@ -1,18 +1,26 @@
 package site.hixview.domain.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import site.hixview.domain.entity.FirstCategory;
+import site.hixview.domain.entity.SecondCategory;
 import site.hixview.domain.entity.article.IndustryArticle;
 import site.hixview.domain.error.AlreadyExistException;
 import site.hixview.domain.error.NotFoundException;
 import site.hixview.domain.repository.IndustryArticleRepository;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static site.hixview.domain.vo.ExceptionMessage.ALREADY_EXIST_INDUSTRY_ARTICLE_NAME;
 import static site.hixview.domain.vo.ExceptionMessage.NO_INDUSTRY_ARTICLE_WITH_THAT_NAME;
+import static site.hixview.domain.vo.Regex.NUMBER_PATTERN;
 
 @Service
 @Transactional
@@ -21,54 +29,103 @@ public class IndustryArticleService extends ArticleService<IndustryArticle, Indu
     @Autowired
     private IndustryArticleRepository articleRepository;
 
+    @Autowired
+    private HomePageService homePageService;
+
     public IndustryArticleService(IndustryArticleRepository articleRepository) {
         super(articleRepository);
     }
 
+    /**
+     * SELECT IndustryArticle
+     */
+    @Transactional(readOnly = true)
+    public List<IndustryArticle> findArticlesByCategory(FirstCategory firstCategory, Set<SecondCategory> secondCategories,
+                                                        LocalDate startDate, LocalDate endDate) {
+        return articleRepository.getArticlesByCategory(firstCategory, secondCategories, startDate, endDate);
+    }
+
     /**
      * INSERT IndustryArticle
      */
     public List<IndustryArticle> registerArticles(IndustryArticle... articles) {
-        List<IndustryArticle> articleList = new ArrayList<>();
+        Set<String> names = new HashSet<>();
         for (IndustryArticle article : articles) {
-            articleList.add(IndustryArticle.builder().article(article).number(registerArticle(article).getNumber()).build());
+            if (!names.add(article.getName())) {
+                throw new AlreadyExistException(ALREADY_EXIST_INDUSTRY_ARTICLE_NAME);
+            }
+        }
+        List<Long> numbers;
+        try {
+            numbers = articleRepository.saveArticles(List.of(articles));
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyExistException(ALREADY_EXIST_INDUSTRY_ARTICLE_NAME);
+        }
+        homePageService.refreshAfterCommit();
+        List<IndustryArticle> articleList = new ArrayList<>();
+        for (int i = 0; i < articles.length; i++) {
+            articleList.add(IndustryArticle.builder().article(articles[i]).number(numbers.get(i)).build());
         }
         return articleList;
     }
 
     public IndustryArticle registerArticle(IndustryArticle article) {
-        duplicateCheck(article);
-        return IndustryArticle.builder().article(article).number(articleRepository.saveArticle(article)).build();
+        Long number;
+        try {
+            number = articleRepository.saveArticle(article);
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyExistException(ALREADY_EXIST_INDUSTRY_ARTICLE_NAME);
+        }
+        homePageService.refreshAfterCommit();
+        return IndustryArticle.builder().article(article).number(number).build();
+    }
+
+    /**
+     * Register new articles and overwrite the ones whose name or link already exists.
+     */
+    public void registerOrCorrectArticles(IndustryArticle... articles) {
+        articleRepository.upsertArticles(List.of(articles));
+        homePageService.refreshAfterCommit();
     }
 
     /**
      * UPDATE IndustryArticle
      */
     public void correctArticle(IndustryArticle article) {
-        existentCheck(article.getName());
-        articleRepository.updateArticle(article);
+        if (articleRepository.updateArticle(article) == 0) {
+            throw new NotFoundException(NO_INDUSTRY_ARTICLE_WITH_THAT_NAME);
+        }
+        homePageService.refreshAfterCommit();
     }
 
     /**
      * REMOVE IndustryArticle
      */
     public void removeArticleByName(String name) {
-        existentCheck(name);
-        articleRepository.deleteArticleByName(name);
+        if (articleRepository.deleteArticleByName(name) == 0) {
+            throw new NotFoundException(NO_INDUSTRY_ARTICLE_WITH_THAT_NAME);
+        }
+        homePageService.refreshAfterCommit();
     }
 
     /**
-     * Other private methods
+     * Remove the article and return its name, or empty when there is no such article.
      */
-    private void duplicateCheck(IndustryArticle article) {
-        articleRepository.getArticleByName(article.getName()).ifPresent(
-                v -> {throw new AlreadyExistException(ALREADY_EXIST_INDUSTRY_ARTICLE_NAME);}
-        );
-    }
-
-    private void existentCheck(String name) {
-        articleRepository.getArticleByName(name).orElseThrow(
-                () -> new NotFoundException(NO_INDUSTRY_ARTICLE_WITH_THAT_NAME)
-        );
+    public Optional<String> removeArticleByNumberOrName(String numberOrName) {
+        String name;
+        if (NUMBER_PATTERN.matcher(numberOrName).matches()) {
+            Optional<IndustryArticle> articleOrEmpty = articleRepository.getArticleByNumber(Long.parseLong(numberOrName));
+            if (articleOrEmpty.isEmpty() || articleRepository.deleteArticleByNumber(articleOrEmpty.get().getNumber()) == 0) {
+                return Optional.empty();
+            }
+            name = articleOrEmpty.get().getName();
+        } else {
+            if (articleRepository.deleteArticleByName(numberOrName) == 0) {
+                return Optional.empty();
+            }
+            name = numberOrName;
+        }
+        homePageService.refreshAfterCommit();
+        return Optional.of(name);
     }
 }
@@ -1,14 +1,19 @@
 package site.hixview.domain.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.member.Member;
+import site.hixview.domain.error.AlreadyExistException;
 import site.hixview.domain.repository.MemberRepository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static site.hixview.domain.vo.ExceptionMessage.ALREADY_EXIST_MEMBER_ID;
 import static site.hixview.domain.vo.ExceptionMessage.NO_MEMBER_WITH_THAT_ID;
@@ -27,6 +32,22 @@ public class MemberService {
         return memberRepository.getMembers();
     }
 
+    /**
+     * Streams from the export pool outside a transaction, so a long download holds no connection of the main pool.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachMember(Consumer<Member> action) {
+        memberRepository.forEachMember(action);
+    }
+
+    public KeysetPage<Member, Long> findMembersPage(Long after, Long before, int size) {
+        if (before != null) {
+            return KeysetPage.backward(memberRepository.getMembersBefore(before, size + 1), size, Member::getIdentifier);
+        }
+        return KeysetPage.forward(memberRepository.getMembersAfter(after == null ? 0L : after, size + 1), size,
+                after != null, Member::getIdentifier);
+    }
+
     public List<Member> findMembersByName(String name) {
         return memberRepository.getMembersByName(name);
     }
@@ -47,13 +68,20 @@ public class MemberService {
         return memberRepository.getMemberByID(Id);
     }
 
+    public boolean existsMemberByID(String Id) {
+        return memberRepository.existsByID(Id);
+    }
+
     /**
      * INSERT Member
      */
     @Transactional
     public Member registerMember(Member member) {
-        duplicateCheck(member);
-        return Member.builder().member(member).identifier(memberRepository.saveMember(member)).build();
+        try {
+            return Member.builder().member(member).identifier(memberRepository.saveMember(member)).build();
+        } catch (DuplicateKeyException e) {
+            throw new AlreadyExistException(ALREADY_EXIST_MEMBER_ID);
+        }
     }
 
     /**
@@ -61,22 +89,8 @@ public class MemberService {
      */
     @Transactional
     public void removeMemberById(String Id) {
-        existentCheck(Id);
-        memberRepository.deleteMemberById(Id);
-    }
-
-    /**
-     * Other private methods
-     */
-    private void duplicateCheck(Member member) {
-        memberRepository.getMemberByID(member.getId()).ifPresent(
-                v -> {throw new IllegalStateException(ALREADY_EXIST_MEMBER_ID);}
-        );
-    }
-
-    private void existentCheck(String Id) {
-        memberRepository.getMemberByID(Id).orElseThrow(
-                () -> new IllegalStateException(NO_MEMBER_WITH_THAT_ID)
-        );
+        if (memberRepository.deleteMemberById(Id) == 0) {
+            throw new IllegalStateException(NO_MEMBER_WITH_THAT_ID);
+        }
     }
 }
\ No newline at end of file
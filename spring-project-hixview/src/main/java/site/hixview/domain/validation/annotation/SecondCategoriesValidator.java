@@ -1,6 +1,5 @@
 package site.hixview.domain.validation.annotation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,7 +21,7 @@ public class SecondCategoriesValidator implements ConstraintValidator<SecondCate
     @Override
     public boolean isValid(String secondCategories, ConstraintValidatorContext context) {
         context.disableDefaultConstraintViolation();
-        List<String> secondCategoriesList = deserializeWithOneMapToList(new ObjectMapper(), SUBJECT_SECOND_CATEGORY, secondCategories);
+        List<String> secondCategoriesList = deserializeWithOneMapToList(SUBJECT_SECOND_CATEGORY, secondCategories);
         if (secondCategoriesList.isEmpty()) {
             context.buildConstraintViolationWithTemplate(
                     source.getMessage("NotBlank.company.secondCategory", null, Locale.getDefault())
@@ -30,16 +30,16 @@ public class ArticleMainAddValidator implements Validator {
     public void validate(@NonNull Object target, @NonNull Errors errors) {
         ArticleMainDto articleDto = (ArticleMainDto) target;
 
-        if (companyArticleService.findArticleByName(articleDto.getName()).isEmpty() &&
-                industryArticleService.findArticleByName(articleDto.getName()).isEmpty()) {
+        if (!companyArticleService.existsArticleByName(articleDto.getName()) &&
+                !industryArticleService.existsArticleByName(articleDto.getName())) {
             errors.rejectValue(NAME, "NotFound");
         }
 
-        if (articleMainService.findArticleByName(articleDto.getName()).isPresent()) {
+        if (articleMainService.existsArticleByName(articleDto.getName())) {
             errors.rejectValue(NAME, "Exist");
         }
 
-        if (articleMainService.findArticleByImagePath(articleDto.getImagePath()).isPresent()) {
+        if (articleMainService.existsArticleByImagePath(articleDto.getImagePath())) {
             errors.rejectValue(IMAGE_PATH, "Exist");
         }
     }
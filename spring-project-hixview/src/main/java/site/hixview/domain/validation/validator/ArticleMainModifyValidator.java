@@ -25,7 +25,7 @@ public class ArticleMainModifyValidator implements Validator {
     public void validate(@NonNull Object target, @NonNull Errors errors) {
         ArticleMainDto articleMainDto = (ArticleMainDto) target;
 
-        if (articleMainService.findArticleByName(articleMainDto.getName()).isEmpty()) {
+        if (!articleMainService.existsArticleByName(articleMainDto.getName())) {
             errors.rejectValue(NAME, "NotFound");
         }
     }
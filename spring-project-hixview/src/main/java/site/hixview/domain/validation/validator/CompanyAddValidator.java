@@ -26,10 +26,10 @@ public class CompanyAddValidator implements Validator {
     public void validate(@NonNull Object target, @NonNull Errors errors) {
         CompanyDto companyDto = (CompanyDto) target;
 
-        if (companyService.findCompanyByCode(companyDto.getCode()).isPresent()) {
+        if (companyService.existsCompanyByCode(companyDto.getCode())) {
             errors.rejectValue(CODE, "Exist");
         }
-        if (companyService.findCompanyByName(companyDto.getName()).isPresent()) {
+        if (companyService.existsCompanyByName(companyDto.getName())) {
             errors.rejectValue(NAME, "Exist");
         }
     }
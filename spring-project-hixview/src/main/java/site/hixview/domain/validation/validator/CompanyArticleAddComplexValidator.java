@@ -32,13 +32,13 @@ public class CompanyArticleAddComplexValidator implements Validator {
 
         entryDateValidator.validate(articleDto, errors);
 
-        if (articleService.findArticleByName(articleDto.getName()).isPresent()) {
+        if (articleService.existsArticleByName(articleDto.getName())) {
             errors.rejectValue(NAME, "Exist");
         }
-        if (articleService.findArticleByLink(articleDto.getLink()).isPresent()) {
+        if (articleService.existsArticleByLink(articleDto.getLink())) {
             errors.rejectValue(LINK, "Exist");
         }
-        if (companyService.findCompanyByName(articleDto.getSubjectCompany()).isEmpty()) {
+        if (!companyService.existsCompanyByName(articleDto.getSubjectCompany())) {
             errors.rejectValue(SUBJECT_COMPANY, "NotFound");
         }
     }
@@ -9,6 +9,8 @@ import site.hixview.domain.entity.article.dto.CompanyArticleDto;
 import site.hixview.domain.service.CompanyArticleService;
 import site.hixview.domain.service.CompanyService;
 
+import java.util.Set;
+
 import static site.hixview.domain.vo.name.EntityName.Article.LINK;
 import static site.hixview.domain.vo.Word.NAME;
 
@@ -31,10 +33,24 @@ public class CompanyArticleAddSimpleValidator implements Validator {
 
         entryDateValidator.validate(articleDto, errors);
 
-        if (articleService.findArticleByName(articleDto.getName()).isPresent()) {
+        if (articleService.existsArticleByName(articleDto.getName())) {
+            errors.rejectValue(NAME, "Exist");
+        }
+        if (articleService.existsArticleByLink(articleDto.getLink())) {
+            errors.rejectValue(LINK, "Exist");
+        }
+    }
+
+    /**
+     * Validate one row of a bulk add against names and links already looked up for the whole batch.
+     */
+    public void validate(CompanyArticleDto articleDto, Errors errors, Set<String> takenNames, Set<String> takenLinks) {
+        entryDateValidator.validate(articleDto, errors);
+
+        if (takenNames.contains(articleDto.getName())) {
             errors.rejectValue(NAME, "Exist");
         }
-        if (articleService.findArticleByLink(articleDto.getLink()).isPresent()) {
+        if (takenLinks.contains(articleDto.getLink())) {
             errors.rejectValue(LINK, "Exist");
         }
     }
@@ -32,13 +32,13 @@ public class CompanyArticleModifyValidator implements Validator {
 
         entryDateValidator.validate(articleDto, errors);
 
-        if (articleService.findArticleByName(articleDto.getName()).isEmpty()) {
+        if (!articleService.existsArticleByName(articleDto.getName())) {
             errors.rejectValue(NAME, "NotFound");
         }
-        if (articleService.findArticleByLink(articleDto.getLink()).isEmpty()) {
+        if (!articleService.existsArticleByLink(articleDto.getLink())) {
             errors.rejectValue(LINK, "NotFound");
         }
-        if (companyService.findCompanyByName(articleDto.getSubjectCompany()).isEmpty()) {
+        if (!companyService.existsCompanyByName(articleDto.getSubjectCompany())) {
             errors.rejectValue(SUBJECT_COMPANY, "NotFound");
         }
     }
@@ -26,10 +26,10 @@ public class CompanyModifyValidator implements Validator {
     public void validate(@NonNull Object target, @NonNull Errors errors) {
         CompanyDto companyDto = (CompanyDto) target;
 
-        if (companyService.findCompanyByCode(companyDto.getCode()).isEmpty()) {
+        if (!companyService.existsCompanyByCode(companyDto.getCode())) {
             errors.rejectValue(CODE, "NotFound");
         }
-        if (companyService.findCompanyByName(companyDto.getName()).isEmpty()) {
+        if (!companyService.existsCompanyByName(companyDto.getName())) {
             errors.rejectValue(NAME, "NotFound");
         }
     }
@@ -8,6 +8,8 @@ import org.springframework.validation.Validator;
 import site.hixview.domain.entity.article.dto.IndustryArticleDto;
 import site.hixview.domain.service.IndustryArticleService;
 
+import java.util.Set;
+
 import static site.hixview.domain.vo.name.EntityName.Article.LINK;
 import static site.hixview.domain.vo.Word.NAME;
 
@@ -29,10 +31,24 @@ public class IndustryArticleAddSimpleValidator implements Validator {
 
         entryDateValidator.validate(articleDto, errors);
 
-        if (articleService.findArticleByName(articleDto.getName()).isPresent()) {
+        if (articleService.existsArticleByName(articleDto.getName())) {
+            errors.rejectValue(NAME, "Exist");
+        }
+        if (articleService.existsArticleByLink(articleDto.getLink())) {
+            errors.rejectValue(LINK, "Exist");
+        }
+    }
+
+    /**
+     * Validate one row of a bulk add against names and links already looked up for the whole batch.
+     */
+    public void validate(IndustryArticleDto articleDto, Errors errors, Set<String> takenNames, Set<String> takenLinks) {
+        entryDateValidator.validate(articleDto, errors);
+
+        if (takenNames.contains(articleDto.getName())) {
             errors.rejectValue(NAME, "Exist");
         }
-        if (articleService.findArticleByLink(articleDto.getLink()).isPresent()) {
+        if (takenLinks.contains(articleDto.getLink())) {
             errors.rejectValue(LINK, "Exist");
         }
     }
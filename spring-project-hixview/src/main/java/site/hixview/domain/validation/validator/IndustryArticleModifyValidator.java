@@ -1,6 +1,5 @@
 package site.hixview.domain.validation.validator;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
@@ -34,16 +33,16 @@ public class IndustryArticleModifyValidator implements Validator {
 
         entryDateValidator.validate(articleDto, errors);
 
-        if (articleService.findArticleByName(articleDto.getName()).isEmpty()) {
+        if (!articleService.existsArticleByName(articleDto.getName())) {
             errors.rejectValue(NAME, "NotFound");
         }
-        if (articleService.findArticleByLink(articleDto.getLink()).isEmpty()) {
+        if (!articleService.existsArticleByLink(articleDto.getLink())) {
             errors.rejectValue(LINK, "NotFound");
         }
         if (!inEnumConstants(FirstCategory.class, articleDto.getSubjectFirstCategory())) {
             errors.rejectValue(SUBJECT_FIRST_CATEGORY, "NotFound");
         }
-        for (String secondCategory : deserializeWithOneMapToList(new ObjectMapper(), SUBJECT_SECOND_CATEGORY, articleDto.getSubjectSecondCategories())) {
+        for (String secondCategory : deserializeWithOneMapToList(SUBJECT_SECOND_CATEGORY, articleDto.getSubjectSecondCategories())) {
             if (!inEnumConstants(SecondCategory.class, secondCategory)) {
                 errors.rejectValue(SUBJECT_SECOND_CATEGORY, "NotFound");
             }
@@ -15,6 +15,15 @@ public final class ExceptionMessage {
     // ConstraintValidationException
     public static final String CONSTRAINT_VALIDATION_VIOLATED = "제약 조건 위반이 발생하였습니다.";
 
+    // IllegalArgumentException
+    public static final String MALFORMED_IMPORT_RECORD = "레코드를 읽을 수 없습니다.";
+
+    // IllegalStateException
+    public static final String TOO_MANY_IMPORT_JOBS = "대기 중인 가져오기 작업이 너무 많습니다.";
+
+    // ImportJobCheckpointMovedException
+    public static final String IMPORT_JOB_CHECKPOINT_MOVED = "다른 작업자가 이미 처리한 가져오기 작업 구간입니다.";
+
     // IndexOutOfBoundsException
     public static final String NOT_EQUAL_LIST_SIZE = "리스트의 크기가 일치하지 않습니다.";
 
@@ -40,4 +49,11 @@ public final class ExceptionMessage {
 
     // NotFoundException - Member
     public static final String NO_MEMBER_WITH_THAT_ID = "해당 ID와 일치하는 회원이 없습니다.";
+
+    // NotFoundException - ImportJob
+    public static final String NO_IMPORT_JOB_WITH_THAT_ID = "해당 ID와 일치하는 가져오기 작업이 없습니다.";
+    public static final String NO_IMPORT_JOB_HANDLER = "해당 대상을 처리할 수 있는 가져오기 작업 처리기가 없습니다.";
+
+    // NotFoundException - ImportResult
+    public static final String NO_IMPORT_RESULT_WITH_THAT_TOKEN = "해당 토큰과 일치하는 가져오기 결과가 없거나 만료되었습니다.";
 }
@@ -13,12 +13,26 @@ public final class Word {
     // error
     public static final String ERROR = "error";
     public static final String ERROR_SINGLE = "errorSingle";
+    public static final String ERROR_LIST = "errorList";
     public static final String ERRORS_ARE = "errors = {}";
 
+    // import result
+    public static final String TOKEN = "token";
+    public static final String NAME_LIST = "nameList";
+
     // layout
     public static final String LAYOUT_PATH = "layoutPath";
 
     // map
     public static final String NAME = "name";
     public static final String VALUE = "value";
+
+    // page
+    public static final String AFTER = "after";
+    public static final String BEFORE = "before";
+    public static final String PREVIOUS_CURSOR = "previousCursor";
+    public static final String NEXT_CURSOR = "nextCursor";
+    public static final String PAGE = "page";
+    public static final String PREVIOUS_PAGE = "previousPage";
+    public static final String NEXT_PAGE = "nextPage";
 }
@@ -9,14 +9,20 @@ public final class RequestURL {
     // CompanyArticle
     public static final String ADD_SINGLE_COMPANY_ARTICLE_URL = "/manager/article/company/add/single";
     public static final String ADD_COMPANY_ARTICLE_WITH_STRING_URL = "/manager/article/company/add/string";
+    public static final String ADD_COMPANY_ARTICLE_WITH_FILE_URL = "/manager/article/company/add/file";
     public static final String SELECT_COMPANY_ARTICLE_URL = "/manager/article/company/select";
+    public static final String EXPORT_COMPANY_ARTICLE_URL = "/manager/article/company/export";
+    public static final String EXPORT_COMPANY_ARTICLE_STRING_URL = "/manager/article/company/export/string";
     public static final String UPDATE_COMPANY_ARTICLE_URL = "/manager/article/company/update";
     public static final String REMOVE_COMPANY_ARTICLE_URL = "/manager/article/company/remove";
 
     // IndustryArticle
     public static final String ADD_SINGLE_INDUSTRY_ARTICLE_URL = "/manager/article/industry/add/single";
     public static final String ADD_INDUSTRY_ARTICLE_WITH_STRING_URL = "/manager/article/industry/add/string";
+    public static final String ADD_INDUSTRY_ARTICLE_WITH_FILE_URL = "/manager/article/industry/add/file";
     public static final String SELECT_INDUSTRY_ARTICLE_URL = "/manager/article/industry/select";
+    public static final String EXPORT_INDUSTRY_ARTICLE_URL = "/manager/article/industry/export";
+    public static final String EXPORT_INDUSTRY_ARTICLE_STRING_URL = "/manager/article/industry/export/string";
     public static final String UPDATE_INDUSTRY_ARTICLE_URL = "/manager/article/industry/update";
     public static final String REMOVE_INDUSTRY_ARTICLE_URL = "/manager/article/industry/remove";
 
@@ -29,9 +35,14 @@ public final class RequestURL {
     // Company
     public static final String ADD_SINGLE_COMPANY_URL = "/manager/company/add/single";
     public static final String SELECT_COMPANY_URL = "/manager/company/select";
+    public static final String EXPORT_COMPANY_URL = "/manager/company/export";
     public static final String UPDATE_COMPANY_URL = "/manager/company/update";
     public static final String REMOVE_COMPANY_URL = "/manager/company/remove";
 
+    // ImportJob
+    public static final String SELECT_IMPORT_JOB_URL = "/manager/import-job/select";
+
     // Member
     public static final String SELECT_MEMBER_URL = "/manager/member/select";
+    public static final String EXPORT_MEMBER_URL = "/manager/member/export";
 }
\ No newline at end of file
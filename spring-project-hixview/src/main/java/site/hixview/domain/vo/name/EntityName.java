@@ -12,15 +12,18 @@ public final class EntityName {
         public static final String NUMBER = "number";
         public static final String PRESS = "press";
         public static final String SUBJECT_COMPANY = "subjectCompany";
+        public static final String SUBJECT_COMPANY_CODE = "subjectCompanyCode";
         public static final String SUBJECT_FIRST_CATEGORY = "subjectFirstCategory";
         public static final String SUBJECT_SECOND_CATEGORY = "subjectSecondCategory";
         public static final String SUBJECT_SECOND_CATEGORIES = "subjectSecondCategories";
+        public static final String SUBJECT_SECOND_CATEGORY_MASK = "subjectSecondCategoryMask";
         public static final String DATE = "date";
         public static final String LINK = "link";
         public static final String IMPORTANCE = "importance";
         public static final String IMAGE_PATH = "imagePath";
         public static final String SUMMARY = "summary";
         public static final String ARTICLE_CLASS_NAME = "classification";
+        public static final String MAIN_NUMBER = "mainNumber";
     }
 
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -38,5 +41,26 @@ public final class EntityName {
         public static final String MEMBER = "member";
         public static final String IDENTIFIER = "identifier";
         public static final String ID = "id";
+        public static final String PASSWORD = "password";
+        public static final String BIRTHDAY = "birthday";
+        public static final String PHONE_NUMBER = "phoneNumber";
+    }
+
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class ImportJob {
+        public static final String IMPORT_JOB = "importJob";
+        public static final String ID = "id";
+        public static final String TARGET = "target";
+        public static final String STATUS = "status";
+        public static final String SUBJECT = "subject";
+        public static final String NAME_DATE_PRESS_STRING = "nameDatePressString";
+        public static final String LINK_STRING = "linkString";
+        public static final String TOTAL_ROWS = "totalRows";
+        public static final String PROCESSED_ROWS = "processedRows";
+        public static final String INSERTED_ROWS = "insertedRows";
+        public static final String ERRORS = "errors";
+        public static final String UPSERT = "upsert";
+        public static final String CREATED_AT = "createdAt";
+        public static final String UPDATED_AT = "updatedAt";
     }
 }
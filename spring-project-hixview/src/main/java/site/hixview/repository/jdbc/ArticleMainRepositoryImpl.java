@@ -1,18 +1,20 @@
 package site.hixview.repository.jdbc;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 import site.hixview.domain.entity.Classification;
 import site.hixview.domain.entity.article.ArticleMain;
 import site.hixview.domain.repository.ArticleMainRepository;
 
-import javax.sql.DataSource;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,10 +29,19 @@ public class ArticleMainRepositoryImpl implements ArticleMainRepository {
     private String CURRENT_SCHEMA;
 
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private SimpleJdbcInsert jdbcInsert;
 
     @Autowired
-    public ArticleMainRepositoryImpl(DataSource dataSource) {
-        jdbcTemplate = new JdbcTemplate(dataSource);
+    public ArticleMainRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        jdbcTemplate = namedJdbcTemplate.getJdbcTemplate();
+    }
+
+    @PostConstruct
+    private void initializeJdbcInsert() {
+        jdbcInsert = new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).usingGeneratedKeyColumns(NUMBER)
+                .usingColumns(NAME, IMAGE_PATH, SUMMARY, ARTICLE_CLASS_NAME);
     }
 
     /**
@@ -41,6 +52,18 @@ public class ArticleMainRepositoryImpl implements ArticleMainRepository {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA, articleRowMapper());
     }
 
+    @Override
+    public List<ArticleMain> getArticlesAfter(Long number, int limit) {
+        return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where number > ? order by number limit ?",
+                articleRowMapper(), number, limit);
+    }
+
+    @Override
+    public List<ArticleMain> getArticlesBefore(Long number, int limit) {
+        return jdbcTemplate.query("select * from (select * from " + CURRENT_SCHEMA +
+                " where number < ? order by number desc limit ?) page order by number", articleRowMapper(), number, limit);
+    }
+
     @Override
     public Optional<ArticleMain> getArticleByNumber(Long number) {
         List<ArticleMain> oneArticleOrNull = jdbcTemplate.query(
@@ -62,36 +85,59 @@ public class ArticleMainRepositoryImpl implements ArticleMainRepository {
         return oneArticleOrNull.isEmpty() ? Optional.empty() : Optional.of(oneArticleOrNull.getFirst());
     }
 
+    @Override
+    public boolean existsByName(String name) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where name = ? limit 1", Integer.class, name).isEmpty();
+    }
+
+    @Override
+    public boolean existsByImagePath(String imagePath) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where imagePath = ? limit 1", Integer.class, imagePath).isEmpty();
+    }
+
     /**
      * INSERT ArticleMain
      */
     @Override
     public Long saveArticle(ArticleMain article) {
-        return new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).usingGeneratedKeyColumns("number")
-                .executeAndReturnKey(new MapSqlParameterSource(article.toMapWithNoNumber())).longValue();
+        return jdbcInsert.executeAndReturnKey(articleParameterSource(article)).longValue();
     }
 
     /**
      * UPDATE ArticleMain
      */
     @Override
-    public void updateArticle(ArticleMain article) {
-        jdbcTemplate.update("update " + CURRENT_SCHEMA +
-                        " set imagePath = ?, summary = ?, classification = ? where name = ?",
-                article.getImagePath(), article.getSummary(), article.getClassification().name(), article.getName());
+    public int updateArticle(ArticleMain article) {
+        return namedJdbcTemplate.update("update " + CURRENT_SCHEMA + " set imagePath = :imagePath, summary = :summary," +
+                " classification = :classification where name = :name", articleParameterSource(article));
     }
 
     /**
      * REMOVE ArticleMain
      */
     @Override
-    public void deleteArticleByName(String name) {
-        jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where name = ?", name);
+    public int deleteArticleByName(String name) {
+        return jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where name = ?", name);
+    }
+
+    @Override
+    public int deleteArticleByNumber(Long number) {
+        return jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where number = ?", number);
     }
 
     /**
      * Other private methods
      */
+    private SqlParameterSource articleParameterSource(ArticleMain article) {
+        return new MapSqlParameterSource()
+                .addValue(NAME, article.getName())
+                .addValue(IMAGE_PATH, article.getImagePath())
+                .addValue(SUMMARY, article.getSummary())
+                .addValue(ARTICLE_CLASS_NAME, article.getClassification().name());
+    }
+
     private RowMapper<ArticleMain> articleRowMapper() {
         return (resultSet, rowNumber) -> ArticleMain.builder()
                 .number(resultSet.getLong(NUMBER))
@@ -1,24 +1,37 @@
 package site.hixview.repository.jdbc;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
+import site.hixview.domain.entity.Classification;
 import site.hixview.domain.entity.Press;
+import site.hixview.domain.entity.article.ArticleMain;
+import site.hixview.domain.entity.article.ArticleWithMain;
 import site.hixview.domain.entity.article.CompanyArticle;
 import site.hixview.domain.repository.CompanyArticleRepository;
 
-import javax.sql.DataSource;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static site.hixview.domain.vo.Word.NAME;
 import static site.hixview.domain.vo.name.EntityName.Article.*;
+import static site.hixview.util.QueryUtils.forEachRow;
+import static site.hixview.util.QueryUtils.queryByKeysInChunks;
+import static site.hixview.util.QueryUtils.STREAMING_JDBC_TEMPLATE;
 
 @Repository
 @Primary
@@ -27,11 +40,41 @@ public class CompanyArticleRepositoryImpl implements CompanyArticleRepository {
     @Value("${schema.article.companies}")
     private String CURRENT_SCHEMA;
 
+    @Value("${schema.article.mains}")
+    private String ARTICLE_MAIN_SCHEMA;
+
+    @Value("${schema.companies}")
+    private String COMPANY_SCHEMA;
+
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private String insertSql;
+    private String upsertSql;
+    private String companyCodeSubquery;
 
     @Autowired
-    public CompanyArticleRepositoryImpl(DataSource dataSource) {
-        jdbcTemplate = new JdbcTemplate(dataSource);
+    public CompanyArticleRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                         @Qualifier(STREAMING_JDBC_TEMPLATE) JdbcTemplate streamingJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        jdbcTemplate = namedJdbcTemplate.getJdbcTemplate();
+        this.streamingJdbcTemplate = streamingJdbcTemplate;
+    }
+
+    /**
+     * The company code column is filled from the subject company's name in the same statement,
+     * so articles stay attached to the company through a rename. The upsert refers to the inserted row through
+     * the "new" row alias (MySQL 8.0.19+) rather than the deprecated values() function.
+     */
+    @PostConstruct
+    private void initializeInsertSql() {
+        String[] columns = CompanyArticle.getFieldNamesWithNoNumber();
+        companyCodeSubquery = "(select code from " + COMPANY_SCHEMA + " where name = :" + SUBJECT_COMPANY + ")";
+        insertSql = "insert into " + CURRENT_SCHEMA + " (" + String.join(", ", columns) + ", " + SUBJECT_COMPANY_CODE +
+                ") values (:" + String.join(", :", columns) + ", " + companyCodeSubquery + ")";
+        upsertSql = insertSql + " as new on duplicate key update press = new.press, link = new.link," +
+                " date = new.date, importance = new.importance, subjectCompany = new.subjectCompany," +
+                " subjectCompanyCode = new.subjectCompanyCode";
     }
 
     /**
@@ -42,6 +85,24 @@ public class CompanyArticleRepositoryImpl implements CompanyArticleRepository {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA, articleRowMapper());
     }
 
+    @Override
+    public void forEachArticle(Consumer<CompanyArticle> action) {
+        streamingJdbcTemplate.query("select * from " + CURRENT_SCHEMA + " order by number",
+                forEachRow(articleRowMapper(), action));
+    }
+
+    @Override
+    public List<CompanyArticle> getArticlesAfter(Long number, int limit) {
+        return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where number > ? order by number limit ?",
+                articleRowMapper(), number, limit);
+    }
+
+    @Override
+    public List<CompanyArticle> getArticlesBefore(Long number, int limit) {
+        return jdbcTemplate.query("select * from (select * from " + CURRENT_SCHEMA +
+                " where number < ? order by number desc limit ?) page order by number", articleRowMapper(), number, limit);
+    }
+
     @Override
     public List<CompanyArticle> getArticlesByDate(LocalDate date) {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where date = ?", articleRowMapper(), date);
@@ -53,12 +114,39 @@ public class CompanyArticleRepositoryImpl implements CompanyArticleRepository {
                 "select * from " + CURRENT_SCHEMA + " where date between ? and ?", articleRowMapper(), startDate, endDate);
     }
 
+    @Override
+    public List<CompanyArticle> getArticlesByCompany(String code, Long cursor, int limit) {
+        if (cursor == null) {
+            return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where subjectCompanyCode = ? " +
+                    "order by number desc limit ?", articleRowMapper(), code, limit);
+        }
+        return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where subjectCompanyCode = ? and number < ? " +
+                "order by number desc limit ?", articleRowMapper(), code, cursor, limit);
+    }
+
+    @Override
+    public void forEachArticleByDate(LocalDate startDate, LocalDate endDate, Consumer<CompanyArticle> action) {
+        streamingJdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where date between ? and ? order by date, number",
+                forEachRow(articleRowMapper(), action),
+                startDate, endDate);
+    }
+
     @Override
     public List<CompanyArticle> getLatestArticles() {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where date = " +
                 "(select max(date) from " + CURRENT_SCHEMA + ")", articleRowMapper());
     }
 
+    @Override
+    public Optional<ArticleWithMain<CompanyArticle>> getLatestArticleWithMain() {
+        List<ArticleWithMain<CompanyArticle>> oneArticleOrNull = jdbcTemplate.query("select article.*, " +
+                "main.number as " + MAIN_NUMBER + ", main.imagePath, main.summary, main.classification from " +
+                CURRENT_SCHEMA + " article join " + ARTICLE_MAIN_SCHEMA + " main on main.name = article.name " +
+                "where article.date = (select max(date) from " + CURRENT_SCHEMA + ") order by article.number limit 1",
+                articleWithMainRowMapper());
+        return oneArticleOrNull.isEmpty() ? Optional.empty() : Optional.of(oneArticleOrNull.getFirst());
+    }
+
     @Override
     public Optional<CompanyArticle> getArticleByNumber(Long number) {
         List<CompanyArticle> oneArticleOrNull = jdbcTemplate.query(
@@ -80,36 +168,104 @@ public class CompanyArticleRepositoryImpl implements CompanyArticleRepository {
         return oneArticleOrNull.isEmpty() ? Optional.empty() : Optional.of(oneArticleOrNull.getFirst());
     }
 
+    @Override
+    public Map<String, CompanyArticle> getArticlesByNames(Collection<String> names) {
+        return queryByKeysInChunks(namedJdbcTemplate, "select * from " + CURRENT_SCHEMA + " where name in (:keys)",
+                names, articleRowMapper(), CompanyArticle::getName);
+    }
+
+    @Override
+    public Map<String, CompanyArticle> getArticlesByLinks(Collection<String> links) {
+        return queryByKeysInChunks(namedJdbcTemplate, "select * from " + CURRENT_SCHEMA + " where link in (:keys)",
+                links, articleRowMapper(), CompanyArticle::getLink);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where name = ? limit 1", Integer.class, name).isEmpty();
+    }
+
+    @Override
+    public boolean existsByLink(String link) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where link = ? limit 1", Integer.class, link).isEmpty();
+    }
+
     /**
      * INSERT CompanyArticle
      */
     @Override
     public Long saveArticle(CompanyArticle article) {
-        return new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).usingGeneratedKeyColumns("number")
-                .executeAndReturnKey(new MapSqlParameterSource(article.toMapWithNoNumber())).longValue();
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        namedJdbcTemplate.update(insertSql, articleParameterSource(article), keyHolder, new String[]{NUMBER});
+        return keyHolder.getKeyAs(Number.class).longValue();
+    }
+
+    @Override
+    public List<Long> saveArticles(List<CompanyArticle> articles) {
+        if (articles.isEmpty()) {
+            return Collections.emptyList();
+        }
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        namedJdbcTemplate.batchUpdate(insertSql,
+                articles.stream().map(this::articleParameterSource).toArray(SqlParameterSource[]::new),
+                keyHolder, new String[]{NUMBER});
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue()).toList();
+    }
+
+    @Override
+    public void upsertArticles(List<CompanyArticle> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.batchUpdate(upsertSql,
+                articles.stream().map(this::articleParameterSource).toArray(SqlParameterSource[]::new));
     }
 
     /**
      * UPDATE CompanyArticle
      */
     @Override
-    public void updateArticle(CompanyArticle article) {
-        jdbcTemplate.update("update " + CURRENT_SCHEMA +
-                        " set press = ?, subjectCompany = ?, link = ?, date = ?, importance = ? where name = ?",
-                article.getPress().name(), article.getSubjectCompany(), article.getLink(), article.getDate(), article.getImportance(), article.getName());
+    public int updateArticle(CompanyArticle article) {
+        return namedJdbcTemplate.update("update " + CURRENT_SCHEMA + " set press = :press, subjectCompany = :subjectCompany," +
+                " subjectCompanyCode = " + companyCodeSubquery + ", link = :link, date = :date," +
+                " importance = :importance where name = :name", articleParameterSource(article));
+    }
+
+    @Override
+    public void updateSubjectCompany(String code, String subjectCompany) {
+        jdbcTemplate.update("update " + CURRENT_SCHEMA + " set subjectCompany = ? where subjectCompanyCode = ?",
+                subjectCompany, code);
     }
 
     /**
      * REMOVE CompanyArticle
      */
     @Override
-    public void deleteArticleByName(String name) {
-        jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where name = ?", name);
+    public int deleteArticleByName(String name) {
+        return jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where name = ?", name);
+    }
+
+    @Override
+    public int deleteArticleByNumber(Long number) {
+        return jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where number = ?", number);
     }
 
     /**
      * Other private methods
      */
+    private SqlParameterSource articleParameterSource(CompanyArticle article) {
+        return new MapSqlParameterSource()
+                .addValue(NAME, article.getName())
+                .addValue(PRESS, article.getPress().name())
+                .addValue(LINK, article.getLink())
+                .addValue(DATE, article.getDate())
+                .addValue(IMPORTANCE, article.getImportance())
+                .addValue(SUBJECT_COMPANY, article.getSubjectCompany());
+    }
+
     private RowMapper<CompanyArticle> articleRowMapper() {
         return (resultSet, rowNumber) -> CompanyArticle.builder()
                         .number(resultSet.getLong(NUMBER))
@@ -121,4 +277,16 @@ public class CompanyArticleRepositoryImpl implements CompanyArticleRepository {
                         .subjectCompany(resultSet.getString(SUBJECT_COMPANY))
                         .build();
     }
+
+    private RowMapper<ArticleWithMain<CompanyArticle>> articleWithMainRowMapper() {
+        RowMapper<CompanyArticle> articleRowMapper = articleRowMapper();
+        return (resultSet, rowNumber) -> new ArticleWithMain<>(articleRowMapper.mapRow(resultSet, rowNumber),
+                ArticleMain.builder()
+                        .number(resultSet.getLong(MAIN_NUMBER))
+                        .name(resultSet.getString(NAME))
+                        .imagePath(resultSet.getString(IMAGE_PATH))
+                        .summary(resultSet.getString(SUMMARY))
+                        .classification(Classification.valueOf(resultSet.getString(ARTICLE_CLASS_NAME)))
+                        .build());
+    }
 }
@@ -1,11 +1,15 @@
 package site.hixview.repository.jdbc;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 import site.hixview.domain.entity.Country;
@@ -15,12 +19,20 @@ import site.hixview.domain.entity.SecondCategory;
 import site.hixview.domain.entity.company.Company;
 import site.hixview.domain.repository.CompanyRepository;
 
-import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import static site.hixview.domain.vo.Regex.NUMBER_PATTERN;
 import static site.hixview.domain.vo.Word.NAME;
 import static site.hixview.domain.vo.name.EntityName.Company.*;
+import static site.hixview.util.QueryUtils.forEachRow;
+import static site.hixview.util.QueryUtils.queryByKeysInChunks;
+import static site.hixview.util.QueryUtils.STREAMING_JDBC_TEMPLATE;
 
 @Repository
 @Primary
@@ -30,10 +42,22 @@ public class CompanyRepositoryImpl implements CompanyRepository {
     private String CURRENT_SCHEMA;
 
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private SimpleJdbcInsert jdbcInsert;
 
     @Autowired
-    public CompanyRepositoryImpl(DataSource dataSource) {
-        jdbcTemplate = new JdbcTemplate(dataSource);
+    public CompanyRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                  @Qualifier(STREAMING_JDBC_TEMPLATE) JdbcTemplate streamingJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        jdbcTemplate = namedJdbcTemplate.getJdbcTemplate();
+        this.streamingJdbcTemplate = streamingJdbcTemplate;
+    }
+
+    @PostConstruct
+    private void initializeJdbcInsert() {
+        jdbcInsert = new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA)
+                .usingColumns(CODE, COUNTRY, SCALE, NAME, FIRST_CATEGORY, SECOND_CATEGORY);
     }
 
     /**
@@ -44,6 +68,24 @@ public class CompanyRepositoryImpl implements CompanyRepository {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA, companyRowMapper());
     }
 
+    @Override
+    public void forEachCompany(Consumer<Company> action) {
+        streamingJdbcTemplate.query("select * from " + CURRENT_SCHEMA + " order by code",
+                forEachRow(companyRowMapper(), action));
+    }
+
+    @Override
+    public List<Company> getCompaniesAfter(String code, int limit) {
+        return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where code > ? order by code limit ?",
+                companyRowMapper(), code, limit);
+    }
+
+    @Override
+    public List<Company> getCompaniesBefore(String code, int limit) {
+        return jdbcTemplate.query("select * from (select * from " + CURRENT_SCHEMA +
+                " where code < ? order by code desc limit ?) page order by code", companyRowMapper(), code, limit);
+    }
+
     @Override
     public Optional<Company> getCompanyByCode(String code) {
         List<Company> oneCompanyOrNull = jdbcTemplate.query(
@@ -58,36 +100,77 @@ public class CompanyRepositoryImpl implements CompanyRepository {
         return oneCompanyOrNull.isEmpty() ? Optional.empty() : Optional.of(oneCompanyOrNull.getFirst());
     }
 
+    @Override
+    public Map<String, Company> getCompaniesByCodesOrNames(Collection<String> codesOrNames) {
+        Map<Boolean, List<String>> codesAndNames = codesOrNames.stream()
+                .collect(Collectors.partitioningBy(codeOrName -> NUMBER_PATTERN.matcher(codeOrName).matches()));
+        Map<String, Company> companies = new HashMap<>();
+        if (!codesAndNames.get(true).isEmpty()) {
+            companies.putAll(queryByKeysInChunks(namedJdbcTemplate, "select * from " + CURRENT_SCHEMA +
+                    " where code in (:keys)", codesAndNames.get(true), companyRowMapper(), Company::getCode));
+        }
+        if (!codesAndNames.get(false).isEmpty()) {
+            companies.putAll(queryByKeysInChunks(namedJdbcTemplate, "select * from " + CURRENT_SCHEMA +
+                    " where name in (:keys)", codesAndNames.get(false), companyRowMapper(), Company::getName));
+        }
+        return companies;
+    }
+
+    @Override
+    public boolean existsByCode(String code) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where code = ? limit 1", Integer.class, code).isEmpty();
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where name = ? limit 1", Integer.class, name).isEmpty();
+    }
+
     /**
      * INSERT Company
      */
     @Override
     public void saveCompany(Company company) {
-        new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).execute(new MapSqlParameterSource(company.toMap()));
+        jdbcInsert.execute(companyParameterSource(company));
+    }
+
+    @Override
+    public void saveCompanies(List<Company> companies) {
+        jdbcInsert.executeBatch(companies.stream().map(this::companyParameterSource).toArray(SqlParameterSource[]::new));
     }
 
     /**
      * UPDATE Company
      */
     @Override
-    public void updateCompany(Company company) {
-        jdbcTemplate.update("update " + CURRENT_SCHEMA +
-                        " set country = ?, scale = ?, name = ?, firstCategory = ?, secondCategory = ? where code = ?",
-                company.getCountry().name(), company.getScale().name(), company.getName(),
-                company.getFirstCategory().name(), company.getSecondCategory().name(), company.getCode());
+    public int updateCompany(Company company) {
+        return namedJdbcTemplate.update("update " + CURRENT_SCHEMA + " set country = :country, scale = :scale, name = :name," +
+                " firstCategory = :firstCategory, secondCategory = :secondCategory where code = :code", companyParameterSource(company));
     }
 
     /**
      * REMOVE Company
      */
     @Override
-    public void deleteCompanyByCode(String code) {
-        jdbcTemplate.execute("delete from " + CURRENT_SCHEMA + " where code = '" + code + "'");
+    public int deleteCompanyByCode(String code) {
+        return jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where code = ?", code);
     }
 
     /**
      * Other private methods
      */
+    private SqlParameterSource companyParameterSource(Company company) {
+        return new MapSqlParameterSource()
+                .addValue(CODE, company.getCode())
+                .addValue(COUNTRY, company.getCountry().name())
+                .addValue(SCALE, company.getScale().name())
+                .addValue(NAME, company.getName())
+                .addValue(FIRST_CATEGORY, company.getFirstCategory().name())
+                .addValue(SECOND_CATEGORY, company.getSecondCategory().name());
+    }
+
     private RowMapper<Company> companyRowMapper() {
         return (resultSet, rowNumber) -> Company.builder()
                         .code(resultSet.getString(CODE))
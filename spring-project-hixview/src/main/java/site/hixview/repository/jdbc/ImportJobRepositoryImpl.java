@@ -0,0 +1,154 @@
+package site.hixview.repository.jdbc;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Repository;
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.ImportJobStatus;
+import site.hixview.domain.entity.ImportJobTarget;
+import site.hixview.domain.repository.ImportJobRepository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_SECOND_CATEGORIES;
+import static site.hixview.domain.vo.name.EntityName.ImportJob.*;
+
+@Repository
+@Primary
+public class ImportJobRepositoryImpl implements ImportJobRepository {
+
+    @Value("${schema.import.jobs}")
+    private String CURRENT_SCHEMA;
+
+    /**
+     * Everything but the paste. The errors are read only once the job has finished, so polling a running job
+     * stays small.
+     */
+    private static final String PROGRESS_COLUMNS = String.join(", ", ID, TARGET, STATUS, TOTAL_ROWS,
+            PROCESSED_ROWS, INSERTED_ROWS, CREATED_AT, UPDATED_AT) + ", case when status in ('" +
+            ImportJobStatus.COMPLETED.name() + "', '" + ImportJobStatus.FAILED.name() + "') then " + ERRORS +
+            " end as " + ERRORS;
+
+    private final JdbcTemplate jdbcTemplate;
+    private SimpleJdbcInsert jdbcInsert;
+
+    @Autowired
+    public ImportJobRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    private void initializeJdbcInsert() {
+        jdbcInsert = new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).usingGeneratedKeyColumns(ID)
+                .usingColumns(TARGET, STATUS, SUBJECT, SUBJECT_SECOND_CATEGORIES, NAME_DATE_PRESS_STRING, LINK_STRING,
+                        TOTAL_ROWS, UPSERT);
+    }
+
+    /**
+     * SELECT ImportJob
+     */
+    @Override
+    public Optional<ImportJob> getJobById(Long id) {
+        List<ImportJob> oneJobOrNull = jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where id = ?",
+                jobRowMapper(), id);
+        return oneJobOrNull.isEmpty() ? Optional.empty() : Optional.of(oneJobOrNull.getFirst());
+    }
+
+    @Override
+    public Optional<ImportJob> getJobProgressById(Long id) {
+        List<ImportJob> oneJobOrNull = jdbcTemplate.query("select " + PROGRESS_COLUMNS + " from " + CURRENT_SCHEMA +
+                " where id = ?", jobProgressRowMapper(), id);
+        return oneJobOrNull.isEmpty() ? Optional.empty() : Optional.of(oneJobOrNull.getFirst());
+    }
+
+    /**
+     * Without the paste; the runner loads each job by id.
+     */
+    @Override
+    public List<ImportJob> getJobsByStatus(ImportJobStatus status) {
+        return jdbcTemplate.query("select " + PROGRESS_COLUMNS + " from " + CURRENT_SCHEMA +
+                " where status = ? order by id", jobProgressRowMapper(), status.name());
+    }
+
+    /**
+     * INSERT ImportJob
+     */
+    @Override
+    public Long saveJob(ImportJob job) {
+        return jdbcInsert.executeAndReturnKey(jobParameterSource(job)).longValue();
+    }
+
+    /**
+     * UPDATE ImportJob
+     */
+    @Override
+    public int updateStatus(Long id, ImportJobStatus status) {
+        return jdbcTemplate.update("update " + CURRENT_SCHEMA + " set status = ? where id = ?", status.name(), id);
+    }
+
+    @Override
+    public int updateProgress(Long id, int processedRows, int toRow, int insertedRows, List<String> errors) {
+        return jdbcTemplate.update("update " + CURRENT_SCHEMA + " set processedRows = ?, insertedRows = insertedRows + ?, " +
+                        "errors = concat_ws('\\n', errors, ?) where id = ? and processedRows = ?",
+                toRow, insertedRows, errors.isEmpty() ? null : String.join("\n", errors), id, processedRows);
+    }
+
+    @Override
+    public int finishJob(Long id, ImportJobStatus status, String error) {
+        return jdbcTemplate.update("update " + CURRENT_SCHEMA + " set status = ?, errors = concat_ws('\\n', errors, ?) " +
+                "where id = ?", status.name(), error, id);
+    }
+
+    /**
+     * Other private methods
+     */
+    private SqlParameterSource jobParameterSource(ImportJob job) {
+        return new MapSqlParameterSource()
+                .addValue(TARGET, job.getTarget().name())
+                .addValue(STATUS, job.getStatus().name())
+                .addValue(SUBJECT, job.getSubject())
+                .addValue(SUBJECT_SECOND_CATEGORIES, job.getSubjectSecondCategories())
+                .addValue(NAME_DATE_PRESS_STRING, job.getNameDatePressString())
+                .addValue(LINK_STRING, job.getLinkString())
+                .addValue(TOTAL_ROWS, job.getTotalRows())
+                .addValue(UPSERT, job.isUpsert());
+    }
+
+    private RowMapper<ImportJob> jobRowMapper() {
+        return (resultSet, rowNumber) -> progressBuilder(resultSet)
+                .subject(resultSet.getString(SUBJECT))
+                .subjectSecondCategories(resultSet.getString(SUBJECT_SECOND_CATEGORIES))
+                .nameDatePressString(resultSet.getString(NAME_DATE_PRESS_STRING))
+                .linkString(resultSet.getString(LINK_STRING))
+                .upsert(resultSet.getBoolean(UPSERT))
+                .build();
+    }
+
+    private RowMapper<ImportJob> jobProgressRowMapper() {
+        return (resultSet, rowNumber) -> progressBuilder(resultSet).build();
+    }
+
+    private ImportJob.ImportJobBuilder progressBuilder(ResultSet resultSet) throws SQLException {
+        return ImportJob.builder()
+                .id(resultSet.getLong(ID))
+                .target(ImportJobTarget.valueOf(resultSet.getString(TARGET)))
+                .status(ImportJobStatus.valueOf(resultSet.getString(STATUS)))
+                .totalRows(resultSet.getInt(TOTAL_ROWS))
+                .processedRows(resultSet.getInt(PROCESSED_ROWS))
+                .insertedRows(resultSet.getInt(INSERTED_ROWS))
+                .errors(resultSet.getString(ERRORS))
+                .createdAt(resultSet.getObject(CREATED_AT, LocalDateTime.class))
+                .updatedAt(resultSet.getObject(UPDATED_AT, LocalDateTime.class));
+    }
+}
@@ -1,28 +1,45 @@
 package site.hixview.repository.jdbc;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
+import site.hixview.domain.entity.Classification;
 import site.hixview.domain.entity.FirstCategory;
 import site.hixview.domain.entity.Press;
 import site.hixview.domain.entity.SecondCategory;
+import site.hixview.domain.entity.article.ArticleMain;
+import site.hixview.domain.entity.article.ArticleWithMain;
 import site.hixview.domain.entity.article.IndustryArticle;
 import site.hixview.domain.repository.IndustryArticleRepository;
 
-import javax.sql.DataSource;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static site.hixview.domain.vo.Word.NAME;
 import static site.hixview.domain.vo.name.EntityName.Article.*;
-import static site.hixview.util.JsonUtils.deserializeWithOneMapToList;
+import static site.hixview.util.JsonUtils.deserializeWithOneMapToEnumSet;
+import static site.hixview.util.QueryUtils.forEachRow;
+import static site.hixview.util.QueryUtils.queryByKeysInChunks;
+import static site.hixview.util.QueryUtils.STREAMING_JDBC_TEMPLATE;
 
 @Repository
 @Primary
@@ -31,13 +48,37 @@ public class IndustryArticleRepositoryImpl implements IndustryArticleRepository
     @Value("${schema.article.industries}")
     private String CURRENT_SCHEMA;
 
+    @Value("${schema.article.mains}")
+    private String ARTICLE_MAIN_SCHEMA;
+
     private final JdbcTemplate jdbcTemplate;
-    private final ObjectMapper objectMapper;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private SimpleJdbcInsert jdbcInsert;
+    private String batchInsertSql;
+    private String upsertSql;
 
     @Autowired
-    public IndustryArticleRepositoryImpl(DataSource dataSource) {
-        jdbcTemplate = new JdbcTemplate(dataSource);
-        objectMapper = new ObjectMapper();
+    public IndustryArticleRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                          @Qualifier(STREAMING_JDBC_TEMPLATE) JdbcTemplate streamingJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        jdbcTemplate = namedJdbcTemplate.getJdbcTemplate();
+        this.streamingJdbcTemplate = streamingJdbcTemplate;
+    }
+
+    @PostConstruct
+    private void initializeJdbcInsert() {
+        String[] columns = Stream.concat(Arrays.stream(IndustryArticle.getFieldNamesWithNoNumber()),
+                Stream.of(SUBJECT_SECOND_CATEGORY_MASK)).toArray(String[]::new);
+        jdbcInsert = new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).usingGeneratedKeyColumns(NUMBER)
+                .usingColumns(columns);
+        batchInsertSql = "insert into " + CURRENT_SCHEMA + " (" + String.join(", ", columns) + ") values (:" +
+                String.join(", :", columns) + ")";
+        upsertSql = batchInsertSql + " as new on duplicate key update press = new.press, link = new.link," +
+                " date = new.date, importance = new.importance," +
+                " subjectFirstCategory = new.subjectFirstCategory," +
+                " subjectSecondCategories = new.subjectSecondCategories," +
+                " subjectSecondCategoryMask = new.subjectSecondCategoryMask";
     }
 
     /**
@@ -48,6 +89,24 @@ public class IndustryArticleRepositoryImpl implements IndustryArticleRepository
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA, articleRowMapper());
     }
 
+    @Override
+    public void forEachArticle(Consumer<IndustryArticle> action) {
+        streamingJdbcTemplate.query("select * from " + CURRENT_SCHEMA + " order by number",
+                forEachRow(articleRowMapper(), action));
+    }
+
+    @Override
+    public List<IndustryArticle> getArticlesAfter(Long number, int limit) {
+        return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where number > ? order by number limit ?",
+                articleRowMapper(), number, limit);
+    }
+
+    @Override
+    public List<IndustryArticle> getArticlesBefore(Long number, int limit) {
+        return jdbcTemplate.query("select * from (select * from " + CURRENT_SCHEMA +
+                " where number < ? order by number desc limit ?) page order by number", articleRowMapper(), number, limit);
+    }
+
     @Override
     public List<IndustryArticle> getArticlesByDate(LocalDate date) {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where date = ?", articleRowMapper(), date);
@@ -59,12 +118,42 @@ public class IndustryArticleRepositoryImpl implements IndustryArticleRepository
                 "select * from " + CURRENT_SCHEMA + " where date between ? and ?", articleRowMapper(), startDate, endDate);
     }
 
+    @Override
+    public List<IndustryArticle> getArticlesByCategory(FirstCategory firstCategory, Set<SecondCategory> secondCategories,
+                                                       LocalDate startDate, LocalDate endDate) {
+        if (secondCategories.isEmpty()) {
+            return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where subjectFirstCategory = ? and " +
+                    "date between ? and ? order by date desc, number desc", articleRowMapper(),
+                    firstCategory.name(), startDate, endDate);
+        }
+        return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where subjectFirstCategory = ? and " +
+                "date between ? and ? and subjectSecondCategoryMask & ? <> 0 order by date desc, number desc",
+                articleRowMapper(), firstCategory.name(), startDate, endDate, SecondCategory.toMask(secondCategories));
+    }
+
+    @Override
+    public void forEachArticleByDate(LocalDate startDate, LocalDate endDate, Consumer<IndustryArticle> action) {
+        streamingJdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where date between ? and ? order by date, number",
+                forEachRow(articleRowMapper(), action),
+                startDate, endDate);
+    }
+
     @Override
     public List<IndustryArticle> getLatestArticles() {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where date = " +
                 "(select max(date) from " + CURRENT_SCHEMA + ")", articleRowMapper());
     }
 
+    @Override
+    public Optional<ArticleWithMain<IndustryArticle>> getLatestArticleWithMain() {
+        List<ArticleWithMain<IndustryArticle>> oneArticleOrNull = jdbcTemplate.query("select article.*, " +
+                "main.number as " + MAIN_NUMBER + ", main.imagePath, main.summary, main.classification from " +
+                CURRENT_SCHEMA + " article join " + ARTICLE_MAIN_SCHEMA + " main on main.name = article.name " +
+                "where article.date = (select max(date) from " + CURRENT_SCHEMA + ") order by article.number limit 1",
+                articleWithMainRowMapper());
+        return oneArticleOrNull.isEmpty() ? Optional.empty() : Optional.of(oneArticleOrNull.getFirst());
+    }
+
     @Override
     public Optional<IndustryArticle> getArticleByNumber(Long number) {
         List<IndustryArticle> oneArticleOrNull = jdbcTemplate.query(
@@ -86,41 +175,102 @@ public class IndustryArticleRepositoryImpl implements IndustryArticleRepository
         return oneArticleOrNull.isEmpty() ? Optional.empty() : Optional.of(oneArticleOrNull.getFirst());
     }
 
+    @Override
+    public Map<String, IndustryArticle> getArticlesByNames(Collection<String> names) {
+        return queryByKeysInChunks(namedJdbcTemplate, "select * from " + CURRENT_SCHEMA + " where name in (:keys)",
+                names, articleRowMapper(), IndustryArticle::getName);
+    }
+
+    @Override
+    public Map<String, IndustryArticle> getArticlesByLinks(Collection<String> links) {
+        return queryByKeysInChunks(namedJdbcTemplate, "select * from " + CURRENT_SCHEMA + " where link in (:keys)",
+                links, articleRowMapper(), IndustryArticle::getLink);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where name = ? limit 1", Integer.class, name).isEmpty();
+    }
+
+    @Override
+    public boolean existsByLink(String link) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where link = ? limit 1", Integer.class, link).isEmpty();
+    }
+
     /**
      * INSERT IndustryArticle
      */
     @Override
     public Long saveArticle(IndustryArticle article) {
-        return new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).usingGeneratedKeyColumns("number")
-                .executeAndReturnKey(new MapSqlParameterSource(article.toSerializedMapWithNoNumber())).longValue();
+        return jdbcInsert.executeAndReturnKey(articleParameterSource(article)).longValue();
+    }
+
+    @Override
+    public List<Long> saveArticles(List<IndustryArticle> articles) {
+        if (articles.isEmpty()) {
+            return Collections.emptyList();
+        }
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        namedJdbcTemplate.batchUpdate(batchInsertSql,
+                articles.stream().map(this::articleParameterSource).toArray(SqlParameterSource[]::new),
+                keyHolder, new String[]{NUMBER});
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue()).toList();
+    }
+
+    @Override
+    public void upsertArticles(List<IndustryArticle> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.batchUpdate(upsertSql,
+                articles.stream().map(this::articleParameterSource).toArray(SqlParameterSource[]::new));
     }
 
     /**
      * UPDATE IndustryArticle
      */
     @Override
-    public void updateArticle(IndustryArticle article) {
-        jdbcTemplate.update("update " + CURRENT_SCHEMA +
-                        " set press = ?, link = ?, date = ?, importance = ?," +
-                        " subjectFirstCategory = ?, subjectSecondCategories = ? where name = ?",
-                article.getPress().name(), article.getLink(), article.getDate(), article.getImportance(),
-                article.getSubjectFirstCategory().name(), article.getSerializedSubjectSecondCategories(), article.getName());
+    public int updateArticle(IndustryArticle article) {
+        return namedJdbcTemplate.update("update " + CURRENT_SCHEMA + " set press = :press, link = :link, date = :date," +
+                " importance = :importance, subjectFirstCategory = :subjectFirstCategory," +
+                " subjectSecondCategories = :subjectSecondCategories," +
+                " subjectSecondCategoryMask = :subjectSecondCategoryMask where name = :name", articleParameterSource(article));
     }
 
     /**
      * REMOVE IndustryArticle
      */
     @Override
-    public void deleteArticleByName(String name) {
-        jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where name = ?", name);
+    public int deleteArticleByName(String name) {
+        return jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where name = ?", name);
+    }
+
+    @Override
+    public int deleteArticleByNumber(Long number) {
+        return jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where number = ?", number);
     }
 
     /**
      * Other private methods
      */
+    private SqlParameterSource articleParameterSource(IndustryArticle article) {
+        return new MapSqlParameterSource()
+                .addValue(NAME, article.getName())
+                .addValue(PRESS, article.getPress().name())
+                .addValue(LINK, article.getLink())
+                .addValue(DATE, article.getDate())
+                .addValue(IMPORTANCE, article.getImportance())
+                .addValue(SUBJECT_FIRST_CATEGORY, article.getSubjectFirstCategory().name())
+                .addValue(SUBJECT_SECOND_CATEGORIES, article.getSerializedSubjectSecondCategories())
+                .addValue(SUBJECT_SECOND_CATEGORY_MASK, article.getSubjectSecondCategoryMask());
+    }
+
     private RowMapper<IndustryArticle> articleRowMapper() {
         return (resultSet, rowNumber) -> {
-            List<SecondCategory> subjectSecondCategories = deserializeWithOneMapToList(objectMapper, SUBJECT_SECOND_CATEGORY, resultSet.getString(SUBJECT_SECOND_CATEGORIES), SecondCategory.class);
+            EnumSet<SecondCategory> subjectSecondCategories = deserializeWithOneMapToEnumSet(SUBJECT_SECOND_CATEGORY, resultSet.getString(SUBJECT_SECOND_CATEGORIES), SecondCategory.class);
             return IndustryArticle.builder()
                     .number(resultSet.getLong(NUMBER))
                     .name(resultSet.getString(NAME))
@@ -133,4 +283,16 @@ public class IndustryArticleRepositoryImpl implements IndustryArticleRepository
                     .build();
         };
     }
+
+    private RowMapper<ArticleWithMain<IndustryArticle>> articleWithMainRowMapper() {
+        RowMapper<IndustryArticle> articleRowMapper = articleRowMapper();
+        return (resultSet, rowNumber) -> new ArticleWithMain<>(articleRowMapper.mapRow(resultSet, rowNumber),
+                ArticleMain.builder()
+                        .number(resultSet.getLong(MAIN_NUMBER))
+                        .name(resultSet.getString(NAME))
+                        .imagePath(resultSet.getString(IMAGE_PATH))
+                        .summary(resultSet.getString(SUMMARY))
+                        .classification(Classification.valueOf(resultSet.getString(ARTICLE_CLASS_NAME)))
+                        .build());
+    }
 }
@@ -1,24 +1,29 @@
 package site.hixview.repository.jdbc;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 import site.hixview.domain.entity.member.Member;
 import site.hixview.domain.repository.MemberRepository;
 
-import javax.sql.DataSource;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static site.hixview.domain.vo.Word.NAME;
-import static site.hixview.domain.vo.name.EntityName.Member.ID;
-import static site.hixview.domain.vo.name.EntityName.Member.IDENTIFIER;
+import static site.hixview.domain.vo.name.EntityName.Member.*;
+import static site.hixview.util.QueryUtils.forEachRow;
+import static site.hixview.util.QueryUtils.STREAMING_JDBC_TEMPLATE;
 
 @Repository
 @Primary
@@ -28,10 +33,22 @@ public class MemberRepositoryImpl implements MemberRepository {
     private String CURRENT_SCHEMA;
     
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private SimpleJdbcInsert jdbcInsert;
 
     @Autowired
-    public MemberRepositoryImpl(DataSource dataSource) {
-        jdbcTemplate = new JdbcTemplate(dataSource);
+    public MemberRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                 @Qualifier(STREAMING_JDBC_TEMPLATE) JdbcTemplate streamingJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        jdbcTemplate = namedJdbcTemplate.getJdbcTemplate();
+        this.streamingJdbcTemplate = streamingJdbcTemplate;
+    }
+
+    @PostConstruct
+    private void initializeJdbcInsert() {
+        jdbcInsert = new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).usingGeneratedKeyColumns(IDENTIFIER)
+                .usingColumns(ID, PASSWORD, NAME, BIRTHDAY, PHONE_NUMBER);
     }
 
     /**
@@ -42,6 +59,24 @@ public class MemberRepositoryImpl implements MemberRepository {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA, memberRowMapper());
     }
 
+    @Override
+    public void forEachMember(Consumer<Member> action) {
+        streamingJdbcTemplate.query("select * from " + CURRENT_SCHEMA + " order by identifier",
+                forEachRow(memberRowMapper(), action));
+    }
+
+    @Override
+    public List<Member> getMembersAfter(Long identifier, int limit) {
+        return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where identifier > ? order by identifier limit ?",
+                memberRowMapper(), identifier, limit);
+    }
+
+    @Override
+    public List<Member> getMembersBefore(Long identifier, int limit) {
+        return jdbcTemplate.query("select * from (select * from " + CURRENT_SCHEMA +
+                " where identifier < ? order by identifier desc limit ?) page order by identifier", memberRowMapper(), identifier, limit);
+    }
+
     @Override
     public List<Member> getMembersByName(String name) {
         return jdbcTemplate.query("select * from " + CURRENT_SCHEMA + " where name = ?", memberRowMapper(), name);
@@ -69,34 +104,48 @@ public class MemberRepositoryImpl implements MemberRepository {
         return oneMemberOrNull.isEmpty() ? Optional.empty() : Optional.of(oneMemberOrNull.getFirst());
     }
 
+    @Override
+    public boolean existsByID(String id) {
+        return !jdbcTemplate.queryForList(
+                "select 1 from " + CURRENT_SCHEMA + " where id = ? limit 1", Integer.class, id).isEmpty();
+    }
+
     /**
      * INSERT Member
      */
     @Override
     public Long saveMember(Member member) {
-        return new SimpleJdbcInsert(jdbcTemplate).withTableName(CURRENT_SCHEMA).usingGeneratedKeyColumns(IDENTIFIER)
-                .executeAndReturnKey(new MapSqlParameterSource(member.toMapWithNoIdentifier())).longValue();
+        return jdbcInsert.executeAndReturnKey(memberParameterSource(member)).longValue();
     }
 
     /**
      * REMOVE Member
      */
     @Override
-    public void deleteMemberById(String id) {
-        jdbcTemplate.execute("delete from " + CURRENT_SCHEMA + " where id = '" + id + "'");
+    public int deleteMemberById(String id) {
+        return jdbcTemplate.update("delete from " + CURRENT_SCHEMA + " where id = ?", id);
     }
 
     /**
      * Other private methods
      */
+    private SqlParameterSource memberParameterSource(Member member) {
+        return new MapSqlParameterSource()
+                .addValue(ID, member.getId())
+                .addValue(PASSWORD, member.getPassword())
+                .addValue(NAME, member.getName())
+                .addValue(BIRTHDAY, member.getBirthday())
+                .addValue(PHONE_NUMBER, member.getPhoneNumber().toStringWithDash());
+    }
+
     private RowMapper<Member> memberRowMapper() {
         return (resultSet, rowNumber) -> Member.builder()
                         .identifier(resultSet.getLong(IDENTIFIER))
                         .id(resultSet.getString(ID))
-                        .password(resultSet.getString("password"))
+                        .password(resultSet.getString(PASSWORD))
                         .name(resultSet.getString(NAME))
-                        .birthday(resultSet.getDate("birthday").toLocalDate())
-                        .phoneNumber(resultSet.getString("phoneNumber"))
+                        .birthday(resultSet.getDate(BIRTHDAY).toLocalDate())
+                        .phoneNumber(resultSet.getString(PHONE_NUMBER))
                         .build();
     }
 }
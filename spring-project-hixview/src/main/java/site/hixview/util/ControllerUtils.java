@@ -4,14 +4,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ui.Model;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import site.hixview.domain.entity.ImportResult;
+import site.hixview.domain.entity.KeysetPage;
+import site.hixview.web.cache.ImportResultStore;
 
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static site.hixview.domain.vo.name.ExceptionName.IS_BEAN_VALIDATION_ERROR;
 import static site.hixview.domain.vo.Word.*;
@@ -20,6 +22,8 @@ public abstract class ControllerUtils {
 
     private static final Logger log = LoggerFactory.getLogger(ControllerUtils.class);
 
+    public static final int SELECT_PAGE_SIZE = 50;
+
     /**
      * Decode
      */
@@ -55,45 +59,49 @@ public abstract class ControllerUtils {
         model.addAttribute(ERROR, error);
     }
 
+    /**
+     * Store the result and pass only its token to the finish page.
+     */
     public static void finishForRedirect(String logMessage, RedirectAttributes redirect,
-                                         List<String> nameListString, boolean isBeanValidationError, String errorSingle) {
+                                         ImportResultStore importResultStore, ImportResult result) {
         if (!logMessage.isEmpty()) {
             log.error(ERRORS_ARE, logMessage);
         }
-        redirect.addAttribute("nameList", nameListString);
-        redirect.addAttribute(IS_BEAN_VALIDATION_ERROR, isBeanValidationError);
-        redirect.addAttribute(ERROR_SINGLE, errorSingle);
+        redirect.addAttribute(TOKEN, importResultStore.save(result));
     }
 
     /**
-     * Parse
+     * Page
      */
-    public static List<List<String>> parseArticleString(String articleString) {
-        List<String> dividedArticle = List.of(articleString.split("\\R"));
-        List<List<String>> returnArticle = new ArrayList<>();
-
-        for (int i = 0; i < dividedArticle.size(); i++) {
-            if (i % 2 == 0) {
-                returnArticle.add(new ArrayList<>(List.of(dividedArticle.get(i))));
-            } else {
-                returnArticle.getLast().addAll(List.of(dividedArticle.get(i)
-                        .replaceAll("^\\(|\\)$", "").split(",\\s|-")));
-                if (returnArticle.getLast().size() != 5) {
-                    returnArticle.removeLast();
-                    return returnArticle;
-                }
-            }
-        }
-        if (returnArticle.getLast().size() != 5) {
-            returnArticle.removeLast();
-        }
-        return returnArticle;
+    public static void addPageAttributes(Model model, String contentName, KeysetPage<?, ?> page) {
+        model.addAttribute(contentName, page.getContent());
+        model.addAttribute(PREVIOUS_CURSOR, page.getPreviousCursor());
+        model.addAttribute(NEXT_CURSOR, page.getNextCursor());
+    }
+
+    public static void addImportResultAttributes(Model model, ImportResult result, int page) {
+        int pageCount = result.getPageCount(SELECT_PAGE_SIZE);
+        int currentPage = Math.clamp(page, 0, pageCount - 1);
+        model.addAttribute(NAME_LIST, result.getNamePage(currentPage, SELECT_PAGE_SIZE));
+        model.addAttribute(ERROR_LIST, result.getErrorPage(currentPage, SELECT_PAGE_SIZE));
+        model.addAttribute(IS_BEAN_VALIDATION_ERROR, result.isBeanValidationError());
+        model.addAttribute(ERROR_SINGLE, result.getErrorSingle());
+        model.addAttribute(PREVIOUS_PAGE, currentPage > 0 ? currentPage - 1 : null);
+        model.addAttribute(NEXT_PAGE, currentPage < pageCount - 1 ? currentPage + 1 : null);
     }
 
+    /**
+     * One link per non-blank line, stripped. Blank lines are skipped as NameDatePressTokenizer skips them, so the
+     * n-th link belongs to the n-th pair.
+     */
     public static List<String> parseLinkString(String linkString) {
-        if (linkString.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return List.of(linkString.split("\\R"));
+        return streamLinkString(linkString).toList();
+    }
+
+    /**
+     * The links of parseLinkString, read lazily.
+     */
+    public static Stream<String> streamLinkString(String linkString) {
+        return linkString.lines().map(String::strip).filter(link -> !link.isEmpty());
     }
 }
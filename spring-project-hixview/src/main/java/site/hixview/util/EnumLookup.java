@@ -0,0 +1,91 @@
+package site.hixview.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Name and Korean value lookups of one enum type, built once on first use and shared afterwards.
+ */
+public final class EnumLookup<T extends Enum<T>> {
+
+    private static final String NO_GET_VALUE_FOR_THE_ENUM = "해당 enum 타입에 getValue 메소드가 없습니다.";
+    private static final String CANNOT_INVOKE_GET_VALUE = "getValue 메소드를 촉발할 수 없습니다.";
+    private static final String NOT_HAVE_ACCESS_TO_GET_VALUE = "getValue 메소드에 대한 접근권이 없습니다.";
+
+    private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumLookup<?> computeValue(Class<?> type) {
+            return new EnumLookup(type);
+        }
+    };
+
+    private final Map<String, T> constantsByName;
+    private final Map<String, T> constantsByValue;
+
+    private EnumLookup(Class<T> enumClass) {
+        T[] constants = enumClass.getEnumConstants();
+        Map<String, T> byName = new HashMap<>();
+        Map<String, T> byValue = new HashMap<>();
+        Method getValue = findGetValue(enumClass);
+        for (T constant : constants) {
+            byName.put(constant.name(), constant);
+            if (getValue != null) {
+                byValue.putIfAbsent(invokeGetValue(getValue, constant), constant);
+            }
+        }
+        constantsByName = Map.copyOf(byName);
+        constantsByValue = Map.copyOf(byValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Enum<T>> EnumLookup<T> of(Class<T> enumClass) {
+        return (EnumLookup<T>) LOOKUPS.get(enumClass);
+    }
+
+    public boolean containsName(String name) {
+        return name != null && constantsByName.containsKey(name);
+    }
+
+    public boolean containsValue(String value) {
+        if (constantsByValue.isEmpty()) {
+            throw new RuntimeException(NO_GET_VALUE_FOR_THE_ENUM);
+        }
+        return value != null && constantsByValue.containsKey(value);
+    }
+
+    public Optional<T> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(constantsByName.get(name));
+    }
+
+    public Optional<T> findByValue(String value) {
+        if (constantsByValue.isEmpty()) {
+            throw new RuntimeException(NO_GET_VALUE_FOR_THE_ENUM);
+        }
+        return value == null ? Optional.empty() : Optional.ofNullable(constantsByValue.get(value));
+    }
+
+    /**
+     * Other private methods
+     */
+    private static Method findGetValue(Class<?> enumClass) {
+        try {
+            return enumClass.getMethod("getValue");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String invokeGetValue(Method getValue, Object constant) {
+        try {
+            return (String) getValue.invoke(constant);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException(CANNOT_INVOKE_GET_VALUE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(NOT_HAVE_ACCESS_TO_GET_VALUE);
+        }
+    }
+}
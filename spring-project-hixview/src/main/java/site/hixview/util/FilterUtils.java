@@ -1,12 +1,9 @@
 package site.hixview.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import site.hixview.web.request.ModifiableHttpServletRequest;
 
 import java.util.List;
 
-import static site.hixview.util.EnumUtils.convertToEnum;
-import static site.hixview.util.EnumUtils.inEnumValues;
 import static site.hixview.util.JsonUtils.deserializeWithOneMapToList;
 import static site.hixview.util.JsonUtils.serializeWithOneMap;
 
@@ -21,27 +18,25 @@ public abstract class FilterUtils {
             ModifiableHttpServletRequest request, Class<T> enumClass, String paramName) {
         String classification = request.getParameter(paramName);
         if (classification != null) {
-            request.setParameter(paramName, classification.toUpperCase());
-            if (inEnumValues(enumClass, classification))
-                request.setParameter(paramName, convertToEnum(enumClass, classification).name());
+            request.setParameter(paramName, EnumLookup.of(enumClass).findByValue(classification)
+                    .map(Enum::name).orElse(classification.toUpperCase()));
         }
     }
 
     public static <T extends Enum<T>> void applyUppercaseAndConvertToEnumWithMap (
             ModifiableHttpServletRequest request, Class<T> enumClass, String paramName, String keyName) {
-        ObjectMapper objectMapper = new ObjectMapper();
+        EnumLookup<T> enumLookup = EnumLookup.of(enumClass);
         String parameter = request.getParameter(paramName);
         if (parameter != null) {
-            List<String> classificationList = deserializeWithOneMapToList(objectMapper, keyName, parameter);
+            List<String> classificationList = deserializeWithOneMapToList(keyName, parameter);
             for (int i = 0; i < classificationList.size(); i++){
                 String classification = classificationList.get(i);
                 if (classification != null) {
-                    classificationList.set(i, classification.toUpperCase());
-                    if (inEnumValues(enumClass, classification))
-                        classificationList.set(i, convertToEnum(enumClass, classification).name());
+                    classificationList.set(i, enumLookup.findByValue(classification)
+                            .map(Enum::name).orElse(classification.toUpperCase()));
                 }
             }
-            request.setParameter(paramName, serializeWithOneMap(objectMapper, keyName, classificationList));
+            request.setParameter(paramName, serializeWithOneMap(keyName, classificationList));
         }
     }
 }
@@ -0,0 +1,152 @@
+package site.hixview.util;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.web.multipart.MultipartFile;
+import site.hixview.domain.entity.ImportFormat;
+import site.hixview.domain.entity.ImportRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static site.hixview.domain.vo.ExceptionMessage.MALFORMED_IMPORT_RECORD;
+import static site.hixview.domain.vo.Word.ERROR;
+import static site.hixview.domain.vo.Word.NAME;
+import static site.hixview.util.CsvUtils.readRow;
+import static site.hixview.util.CsvUtils.writeRow;
+import static site.hixview.util.JsonUtils.deserializeFlatObject;
+
+/**
+ * Shared by the bulk-add endpoints: reads uploaded import files in batches, describes rejected rows and writes
+ * the per-row report of a file import (row, name, result and, for a failed record, the rejected fields).
+ */
+public abstract class ImportUtils {
+
+    /**
+     * Records validated and inserted together; one name/link lookup and one insert transaction per batch.
+     */
+    public static final int IMPORT_BATCH_SIZE = 500;
+
+    /**
+     * Separates the items of a list column, e.g. second categories.
+     */
+    public static final String LIST_SEPARATOR = "|";
+
+    public static final String IMPORT_SUCCESS = "SUCCESS";
+    public static final String IMPORT_FAILURE = "FAILURE";
+
+    private static final int BYTE_ORDER_MARK = '\uFEFF';
+
+    public static BufferedReader openImportFile(MultipartFile file) throws IOException {
+        return new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hand the records over in batches of at most IMPORT_BATCH_SIZE, so only one batch is held at a time.
+     * Blank lines are skipped and a leading byte order mark is ignored.
+     */
+    public static void forEachBatch(BufferedReader reader, ImportFormat format,
+                                    Consumer<List<ImportRecord>> batchAction) throws IOException {
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+        List<ImportRecord> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        long row = 0;
+        if (format == ImportFormat.NDJSON) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                addToBatch(batch, readJsonRecord(++row, line), batchAction);
+            }
+        } else {
+            List<String> header = readRow(reader);
+            if (header == null) {
+                return;
+            }
+            List<String> values;
+            while ((values = readRow(reader)) != null) {
+                if (values.size() == 1 && values.getFirst().isBlank()) continue;
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < Math.min(header.size(), values.size()); i++) {
+                    fields.put(header.get(i).strip(), values.get(i));
+                }
+                addToBatch(batch, ImportRecord.of(++row, fields), batchAction);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchAction.accept(batch);
+        }
+    }
+
+    /**
+     * Rejected fields as "field: code", e.g. "link: Exist, year: NotNull".
+     */
+    public static String formatErrors(Errors errors) {
+        return errors.getAllErrors().stream()
+                .map(error -> error instanceof FieldError fieldError ?
+                        fieldError.getField() + ": " + fieldError.getCode() : error.getCode())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * A rejected row of a pasted list, e.g. "#3 link: Pattern".
+     */
+    public static String formatRowError(int row, String error) {
+        return "#" + row + " " + error;
+    }
+
+    public static void writeReportHeader(Writer writer) {
+        writeRow(writer, "row", NAME, "result", ERROR);
+    }
+
+    /**
+     * Write the outcome of each record of a batch, given its error in the same order; a null error means it was inserted.
+     */
+    public static void writeReportRows(Writer writer, List<ImportRecord> records, List<String> errors) {
+        for (int i = 0; i < records.size(); i++) {
+            String error = errors.get(i);
+            writeRow(writer, records.get(i).getRow(), records.get(i).get(NAME),
+                    error == null ? IMPORT_SUCCESS : IMPORT_FAILURE, error);
+        }
+    }
+
+    /**
+     * Other private methods
+     */
+    private static void addToBatch(List<ImportRecord> batch, ImportRecord record,
+                                   Consumer<List<ImportRecord>> batchAction) {
+        batch.add(record);
+        if (batch.size() == IMPORT_BATCH_SIZE) {
+            batchAction.accept(List.copyOf(batch));
+            batch.clear();
+        }
+    }
+
+    private static ImportRecord readJsonRecord(long row, String line) {
+        Map<String, Object> object;
+        try {
+            object = deserializeFlatObject(line);
+        } catch (IllegalArgumentException e) {
+            return ImportRecord.malformed(row, MALFORMED_IMPORT_RECORD);
+        }
+        Map<String, String> fields = new HashMap<>();
+        object.forEach((key, value) -> {
+            if (value instanceof List<?> items) {
+                fields.put(key, items.stream().map(String::valueOf).collect(Collectors.joining(LIST_SEPARATOR)));
+            } else if (value != null) {
+                fields.put(key, value.toString());
+            }
+        });
+        return ImportRecord.of(row, fields);
+    }
+}
@@ -1,52 +1,266 @@
 package site.hixview.util;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import lombok.SneakyThrows;
-
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
-import static java.lang.Enum.valueOf;
-
+/**
+ * Codec for the one-key list format stored in the database and sent by forms, e.g. {"key":["A","B"]}.
+ * Reads and writes the text directly; the output matches what Jackson wrote for the same values.
+ * A null or blank input reads as an empty list. A null element is kept in a list but rejected in an enum set.
+ * Also reads the flat objects of an NDJSON import, one object per line.
+ */
 public abstract class JsonUtils {
-    @SneakyThrows
-    public static String serializeWithOneMap(ObjectMapper objectMapper, String keyName, List<String> valueList) {
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        ArrayNode arrayNode = objectMapper.createArrayNode();
+
+    private static final String HEX_DIGITS = "0123456789ABCDEF";
+    private static final String MALFORMED_ONE_MAP = "하나의 키와 문자열 배열로 이루어진 JSON이 아닙니다: ";
+    private static final String MALFORMED_FLAT_OBJECT = "값이 문자열, 숫자 또는 문자열 배열인 JSON 객체가 아닙니다: ";
+
+    public static String serializeWithOneMap(String keyName, Collection<String> valueList) {
+        StringBuilder sb = new StringBuilder(keyName.length() + 8 + valueList.size() * 24);
+        sb.append('{');
+        appendQuoted(sb, keyName);
+        sb.append(":[");
+        boolean first = true;
         for (String value : valueList) {
-            arrayNode.add(value);
+            if (!first) sb.append(',');
+            first = false;
+            if (value == null) {
+                sb.append("null");
+            } else {
+                appendQuoted(sb, value);
+            }
         }
-        objectNode.set(keyName, arrayNode);
-        return objectMapper.writeValueAsString(objectNode);
+        return sb.append("]}").toString();
     }
 
-    @SneakyThrows
-    public static <T extends Enum<T>> String serializeEnumWithOneMap(ObjectMapper objectMapper, String keyName, List<T> valueList) {
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        ArrayNode arrayNode = objectMapper.createArrayNode();
+    public static <T extends Enum<T>> String serializeEnumWithOneMap(String keyName, Collection<T> valueList) {
+        StringBuilder sb = new StringBuilder(keyName.length() + 8 + valueList.size() * 24);
+        sb.append('{');
+        appendQuoted(sb, keyName);
+        sb.append(":[");
+        boolean first = true;
         for (T value : valueList) {
-            arrayNode.add(value.name());
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(value.name()).append('"');
         }
-        objectNode.set(keyName, arrayNode);
-        return objectMapper.writeValueAsString(objectNode);
+        return sb.append("]}").toString();
     }
 
-    @SneakyThrows
-    public static List<String> deserializeWithOneMapToList(ObjectMapper objectMapper, String keyName, String jsonString) {
-        Map<String, List<String>> deserializedMap = objectMapper.readValue(jsonString, new TypeReference<>() {
-        });
-        return deserializedMap.get(keyName) == null ? Collections.emptyList() : deserializedMap.get(keyName);
+    public static List<String> deserializeWithOneMapToList(String keyName, String jsonString) {
+        List<String> values = new ArrayList<>();
+        readOneMap(keyName, jsonString, values::add);
+        return values;
     }
 
-    @SneakyThrows
-    public static <T extends Enum<T>> List<T> deserializeWithOneMapToList(ObjectMapper objectMapper, String keyName, String jsonString, Class<T> clazz) {
-        Map<String, List<String>> deserializedMap = objectMapper.readValue(jsonString, new TypeReference<>() {
+    public static <T extends Enum<T>> EnumSet<T> deserializeWithOneMapToEnumSet(String keyName, String jsonString, Class<T> clazz) {
+        EnumSet<T> values = EnumSet.noneOf(clazz);
+        readOneMap(keyName, jsonString, value -> {
+            if (value == null) throw malformed(jsonString);
+            values.add(Enum.valueOf(clazz, value));
         });
-        return deserializedMap.get(keyName) == null ? Collections.emptyList() :
-                deserializedMap.get(keyName).stream().map(string -> valueOf(clazz, string)).toList();
+        return values;
+    }
+
+    /**
+     * Read an object whose values are strings, numbers, booleans, null or arrays of strings.
+     * Numbers and booleans keep their text, arrays become lists and the keys keep their order.
+     */
+    public static Map<String, Object> deserializeFlatObject(String jsonString) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        try {
+            int[] pos = {skipWhitespace(jsonString, 0)};
+            expect(jsonString, pos, '{');
+            if (peek(jsonString, pos) == '}') {
+                pos[0]++;
+            } else {
+                while (true) {
+                    String key = readString(jsonString, pos);
+                    expect(jsonString, pos, ':');
+                    char first = peek(jsonString, pos);
+                    if (first == '"') {
+                        fields.put(key, readString(jsonString, pos));
+                    } else if (first == '[') {
+                        List<String> values = new ArrayList<>();
+                        readArrayOrNull(jsonString, pos, values::add);
+                        fields.put(key, values);
+                    } else {
+                        fields.put(key, readLiteral(jsonString, pos));
+                    }
+                    char next = next(jsonString, pos);
+                    if (next == '}') break;
+                    if (next != ',') throw malformed(jsonString);
+                }
+            }
+            if (skipWhitespace(jsonString, pos[0]) != jsonString.length()) throw malformed(jsonString);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MALFORMED_FLAT_OBJECT + jsonString);
+        }
+        return fields;
+    }
+
+    /**
+     * Other private methods
+     */
+    private static void readOneMap(String keyName, String json, Consumer<String> valueConsumer) {
+        if (json == null || json.isBlank()) {
+            return;
+        }
+        int[] pos = {skipWhitespace(json, 0)};
+        expect(json, pos, '{');
+        if (peek(json, pos) == '}') {
+            pos[0]++;
+        } else {
+            while (true) {
+                String key = readString(json, pos);
+                expect(json, pos, ':');
+                readArrayOrNull(json, pos, keyName.equals(key) ? valueConsumer : null);
+                char next = next(json, pos);
+                if (next == '}') break;
+                if (next != ',') throw malformed(json);
+            }
+        }
+        if (skipWhitespace(json, pos[0]) != json.length()) throw malformed(json);
+    }
+
+    private static void readArrayOrNull(String json, int[] pos, Consumer<String> valueConsumer) {
+        if (json.startsWith("null", skipWhitespace(json, pos[0]))) {
+            pos[0] = skipWhitespace(json, pos[0]) + 4;
+            return;
+        }
+        expect(json, pos, '[');
+        if (peek(json, pos) == ']') {
+            pos[0]++;
+            return;
+        }
+        while (true) {
+            String value;
+            if (json.startsWith("null", skipWhitespace(json, pos[0]))) {
+                pos[0] = skipWhitespace(json, pos[0]) + 4;
+                value = null;
+            } else {
+                value = readString(json, pos);
+            }
+            if (valueConsumer != null) valueConsumer.accept(value);
+            char next = next(json, pos);
+            if (next == ']') return;
+            if (next != ',') throw malformed(json);
+        }
+    }
+
+    private static String readString(String json, int[] pos) {
+        expect(json, pos, '"');
+        int start = pos[0];
+        int end = json.indexOf('"', start);
+        if (end < 0) throw malformed(json);
+        int escape = json.indexOf('\\', start);
+        if (escape < 0 || escape > end) {
+            pos[0] = end + 1;
+            return json.substring(start, end);
+        }
+        StringBuilder sb = new StringBuilder(end - start + 8);
+        int i = start;
+        while (i < json.length()) {
+            char c = json.charAt(i++);
+            if (c == '"') {
+                pos[0] = i;
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (i >= json.length()) break;
+            char escaped = json.charAt(i++);
+            switch (escaped) {
+                case '"', '\\', '/' -> sb.append(escaped);
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (i + 4 > json.length()) throw malformed(json);
+                    try {
+                        sb.append((char) Integer.parseInt(json, i, i + 4, 16));
+                    } catch (NumberFormatException e) {
+                        throw malformed(json);
+                    }
+                    i += 4;
+                }
+                default -> throw malformed(json);
+            }
+        }
+        throw malformed(json);
+    }
+
+    private static String readLiteral(String json, int[] pos) {
+        int start = pos[0];
+        int end = start;
+        while (end < json.length() && (Character.isLetterOrDigit(json.charAt(end)) || "+-.".indexOf(json.charAt(end)) >= 0)) {
+            end++;
+        }
+        if (end == start) throw malformed(json);
+        pos[0] = end;
+        String literal = json.substring(start, end);
+        return literal.equals("null") ? null : literal;
+    }
+
+    private static void appendQuoted(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX_DIGITS.charAt(c >> 4)).append(HEX_DIGITS.charAt(c & 0xF));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static void expect(String json, int[] pos, char expected) {
+        if (next(json, pos) != expected) throw malformed(json);
+    }
+
+    private static char next(String json, int[] pos) {
+        char c = peek(json, pos);
+        pos[0]++;
+        return c;
+    }
+
+    private static char peek(String json, int[] pos) {
+        pos[0] = skipWhitespace(json, pos[0]);
+        if (pos[0] >= json.length()) throw malformed(json);
+        return json.charAt(pos[0]);
+    }
+
+    private static int skipWhitespace(String json, int pos) {
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') break;
+            pos++;
+        }
+        return pos;
+    }
+
+    private static IllegalArgumentException malformed(String json) {
+        return new IllegalArgumentException(MALFORMED_ONE_MAP + json);
     }
 }
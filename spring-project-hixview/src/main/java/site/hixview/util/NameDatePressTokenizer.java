@@ -0,0 +1,213 @@
+package site.hixview.util;
+
+import site.hixview.domain.entity.Press;
+import site.hixview.domain.entity.article.NameDatePress;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import static site.hixview.domain.entity.article.NameDatePress.Failure.*;
+
+/**
+ * Reads the paste format of the string bulk-add pages, a name line followed by a "(yyyy-m-d, PRESS)" line per
+ * article, in one pass and without regular expressions. The press may be its constant or its Korean value.
+ * Blank lines are skipped, as parseLinkString skips them in the link list, and a malformed pair is reported with
+ * its line number instead of ending the list. A line longer than MAX_LINE_LENGTH makes its pair malformed.
+ * The input is read through a small buffer as the pairs are asked for, so only the current line is held.
+ */
+public final class NameDatePressTokenizer {
+
+    public static final int MAX_LINE_LENGTH = 4096;
+
+    private static final int NO_NUMBER = -1;
+    private static final int MAX_NUMBER_DIGITS = 9;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private final StringBuilder line = new StringBuilder();
+    private boolean lineTruncated;
+    private int lineNumber;
+    private int cursor;
+
+    public NameDatePressTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    public NameDatePressTokenizer(CharSequence chars) {
+        this(new StringReader(chars.toString()));
+    }
+
+    /**
+     * All pairs in a list; for a paste of known small size.
+     */
+    public static List<NameDatePress> tokenize(CharSequence chars) {
+        List<NameDatePress> pairs = new ArrayList<>();
+        new NameDatePressTokenizer(chars).forEach(pairs::add);
+        return pairs;
+    }
+
+    /**
+     * Number of pairs, malformed ones included, without keeping them.
+     */
+    public static int count(CharSequence chars) {
+        NameDatePressTokenizer tokenizer = new NameDatePressTokenizer(chars);
+        int count = 0;
+        while (tokenizer.next() != null) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Hand the remaining pairs over one at a time, each read only when the previous one has been handled.
+     */
+    public void forEach(Consumer<NameDatePress> action) {
+        NameDatePress pair;
+        while ((pair = next()) != null) {
+            action.accept(pair);
+        }
+    }
+
+    /**
+     * The next pair, or null at the end of the input.
+     */
+    public NameDatePress next() {
+        if (!readNonBlankLine()) {
+            return null;
+        }
+        int nameLine = lineNumber;
+        boolean nameTruncated = lineTruncated;
+        String name = line.toString().strip();
+        if (!readNonBlankLine() || nameTruncated || lineTruncated) {
+            return NameDatePress.failed(nameLine, name, MALFORMED);
+        }
+        return readDatePress(nameLine, name);
+    }
+
+    /**
+     * Other private methods
+     */
+    private NameDatePress readDatePress(int nameLine, String name) {
+        int end = line.length();
+        cursor = 0;
+        while (cursor < end && Character.isWhitespace(line.charAt(cursor))) cursor++;
+        while (end > cursor && Character.isWhitespace(line.charAt(end - 1))) end--;
+        if (cursor < end && line.charAt(cursor) == '(') cursor++;
+        if (end > cursor && line.charAt(end - 1) == ')') end--;
+
+        int year = readNumber(end);
+        int month = skip('-', end) ? readNumber(end) : NO_NUMBER;
+        int days = skip('-', end) ? readNumber(end) : NO_NUMBER;
+        if (year == NO_NUMBER || month == NO_NUMBER || days == NO_NUMBER || !skip(',', end)) {
+            return NameDatePress.failed(nameLine, name, MALFORMED);
+        }
+        String pressString = line.substring(cursor, end).strip();
+        if (pressString.isEmpty()) {
+            return NameDatePress.failed(nameLine, name, MALFORMED);
+        }
+
+        LocalDate date;
+        try {
+            date = LocalDate.of(year, month, days);
+        } catch (DateTimeException e) {
+            return NameDatePress.failed(nameLine, name, INVALID_DATE);
+        }
+        EnumLookup<Press> pressLookup = EnumLookup.of(Press.class);
+        Press press = pressLookup.findByValue(pressString)
+                .or(() -> pressLookup.findByName(pressString.toUpperCase(Locale.ROOT))).orElse(null);
+        if (press == null) {
+            return NameDatePress.failed(nameLine, name, UNKNOWN_PRESS);
+        }
+        return NameDatePress.of(nameLine, name, date, press);
+    }
+
+    private int readNumber(int end) {
+        int start = cursor;
+        int number = 0;
+        while (cursor < end && cursor - start < MAX_NUMBER_DIGITS) {
+            char c = line.charAt(cursor);
+            if (c < '0' || c > '9') break;
+            number = number * 10 + (c - '0');
+            cursor++;
+        }
+        return cursor == start ? NO_NUMBER : number;
+    }
+
+    private boolean skip(char expected, int end) {
+        if (cursor >= end || line.charAt(cursor) != expected) {
+            return false;
+        }
+        cursor++;
+        return true;
+    }
+
+    private boolean readNonBlankLine() {
+        while (readLine()) {
+            for (int i = 0; i < line.length(); i++) {
+                if (!Character.isWhitespace(line.charAt(i))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean readLine() {
+        line.setLength(0);
+        lineTruncated = false;
+        int c = read();
+        if (c < 0) {
+            return false;
+        }
+        lineNumber++;
+        while (c >= 0 && c != '\n' && c != '\r') {
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else {
+                lineTruncated = true;
+            }
+            c = read();
+        }
+        if (c == '\r' && peek() == '\n') {
+            read();
+        }
+        return true;
+    }
+
+    private int read() {
+        return fill() ? buffer[position++] : -1;
+    }
+
+    private int peek() {
+        return fill() ? buffer[position] : -1;
+    }
+
+    private boolean fill() {
+        if (position < limit) {
+            return true;
+        }
+        try {
+            int read;
+            do {
+                read = reader.read(buffer, 0, BUFFER_SIZE);
+            } while (read == 0);
+            position = 0;
+            limit = Math.max(read, 0);
+            return read > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
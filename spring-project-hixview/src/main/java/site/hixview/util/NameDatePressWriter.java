@@ -0,0 +1,83 @@
+package site.hixview.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import site.hixview.domain.entity.Press;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Writes articles in the paste format that NameDatePressTokenizer reads, a name line followed by a
+ * "(yyyy-m-d, PRESS)" line, or one link per line for the link field of the same page.
+ * Lines collect in an unsynchronized chunk that goes to the stream as UTF-8 once it is full, so one writer
+ * must not be shared between threads.
+ */
+public final class NameDatePressWriter {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final OutputStream out;
+    private final StringBuilder chunk = new StringBuilder(CHUNK_SIZE + 256);
+
+    public NameDatePressWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Start a plain text attachment and return a writer over the response body.
+     */
+    public static NameDatePressWriter openTextAttachment(HttpServletResponse response, String fileName)
+            throws IOException {
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+        return new NameDatePressWriter(response.getOutputStream());
+    }
+
+    /**
+     * Append one pair without a trailing line break, e.g. "name\n(2024-6-18, SBS)".
+     */
+    public static StringBuilder appendNameDatePress(StringBuilder builder, String lineSeparator, String name,
+                                                    int year, int month, int days, String press) {
+        return builder.append(name).append(lineSeparator)
+                .append('(').append(year).append('-').append(month).append('-').append(days)
+                .append(", ").append(press).append(')');
+    }
+
+    public void write(String name, LocalDate date, Press press) {
+        appendNameDatePress(chunk, "\n", name, date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+                press.name()).append('\n');
+        flushIfFull();
+    }
+
+    public void writeLine(String line) {
+        chunk.append(line).append('\n');
+        flushIfFull();
+    }
+
+    public void flush() {
+        try {
+            out.write(chunk.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunk.setLength(0);
+    }
+
+    /**
+     * Other private methods
+     */
+    private void flushIfFull() {
+        if (chunk.length() >= CHUNK_SIZE) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package site.hixview.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public abstract class QueryUtils {
+
+    /**
+     * Keys bound to one IN list; keeps statements short and within the server's packet size.
+     */
+    public static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    public static final String KEYS = "keys";
+
+    public static final String STREAMING_JDBC_TEMPLATE = "streamingJdbcTemplate";
+
+    /**
+     * A template whose queries hand rows over one at a time instead of buffering the result set.
+     * MySQL Connector/J streams when the fetch size is Integer.MIN_VALUE; the connection can run nothing else
+     * until the rows are read. The bean of this name is built on the export pool of DatabaseConfig.
+     */
+    public static JdbcTemplate streamingJdbcTemplate(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        return jdbcTemplate;
+    }
+
+    /**
+     * Map each row and hand it to the action. Row numbers are counted here rather than read with getRow(), which
+     * Connector/J does not support on a streaming result set.
+     */
+    public static <T> RowCallbackHandler forEachRow(RowMapper<T> rowMapper, Consumer<T> action) {
+        int[] rowNumber = {0};
+        return resultSet -> action.accept(rowMapper.mapRow(resultSet, rowNumber[0]++));
+    }
+
+    /**
+     * Run a query containing "in (:keys)" once per chunk of distinct keys and collect the rows by key.
+     * Keys without a row are absent from the map.
+     */
+    public static <K, T> Map<K, T> queryByKeysInChunks(NamedParameterJdbcTemplate namedJdbcTemplate, String sql,
+                                                       Collection<K> keys, RowMapper<T> rowMapper, Function<T, K> keyOf) {
+        List<K> distinctKeys = keys.stream().filter(Objects::nonNull).distinct().toList();
+        Map<K, T> rows = new HashMap<>();
+        for (int from = 0; from < distinctKeys.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<K> chunk = distinctKeys.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinctKeys.size()));
+            for (T row : namedJdbcTemplate.query(sql, Map.of(KEYS, chunk), rowMapper)) {
+                rows.put(keyOf.apply(row), row);
+            }
+        }
+        return rows;
+    }
+}
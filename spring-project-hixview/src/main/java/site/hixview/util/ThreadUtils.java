@@ -0,0 +1,21 @@
+package site.hixview.util;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Background work follows the request threads: with spring.threads.virtual.enabled it runs on virtual threads,
+ * otherwise on daemon platform threads. Either way the number of worker threads stays bounded by the executor
+ * that owns the factory, and database work by the connection pool.
+ */
+public abstract class ThreadUtils {
+
+    public static final String VIRTUAL_THREADS_ENABLED = "${spring.threads.virtual.enabled:false}";
+
+    /**
+     * Threads named prefix0, prefix1, ...
+     */
+    public static ThreadFactory threadFactory(String prefix, boolean virtual) {
+        return virtual ? Thread.ofVirtual().name(prefix, 0).factory()
+                : Thread.ofPlatform().name(prefix, 0).daemon().factory();
+    }
+}
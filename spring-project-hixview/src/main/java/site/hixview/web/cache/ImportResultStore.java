@@ -0,0 +1,38 @@
+package site.hixview.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import site.hixview.domain.entity.ImportResult;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Bulk-add results kept on the server under a short random token, so the redirect to the finish page carries
+ * only the token however many articles were imported. Results expire a fixed time after they are stored.
+ */
+public class ImportResultStore {
+
+    private static final int TOKEN_BYTES = 12;
+
+    private final Cache<String, ImportResult> results;
+    private final SecureRandom random = new SecureRandom();
+
+    public ImportResultStore(Duration timeToLive, long maximumSize) {
+        results = Caffeine.newBuilder().expireAfterWrite(timeToLive).maximumSize(maximumSize).build();
+    }
+
+    public String save(ImportResult result) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        results.put(token, result);
+        return token;
+    }
+
+    public Optional<ImportResult> findResult(String token) {
+        return Optional.ofNullable(results.getIfPresent(token));
+    }
+}
@@ -0,0 +1,93 @@
+package site.hixview.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.ui.Model;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+import site.hixview.domain.entity.DataVersion;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Rendered user pages keyed by view and path key, valid while the version of the data behind them is unchanged.
+ * A request whose If-None-Match or If-Modified-Since still matches that version is answered with 304
+ * before the model is filled or the template is rendered.
+ */
+public class RenderedPageCache {
+
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final Cache<String, RenderedPage> pages;
+    private final ObjectProvider<ThymeleafViewResolver> viewResolver;
+
+    public RenderedPageCache(long maximumSize, ObjectProvider<ThymeleafViewResolver> viewResolver) {
+        pages = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.viewResolver = viewResolver;
+    }
+
+    /**
+     * Set ETag and Last-Modified for the page, and a 304 status if the client already holds this version.
+     */
+    public boolean isNotModified(ServletWebRequest webRequest, String viewName, String key, DataVersion version) {
+        return webRequest.checkNotModified(eTagOf(cacheKeyOf(viewName, key), version),
+                version.getModifiedAt().toEpochMilli());
+    }
+
+    public ResponseEntity<byte[]> respond(ServletWebRequest webRequest, String viewName, String key, DataVersion version,
+                                          Model model, Consumer<Model> modelFiller) throws Exception {
+        if (isNotModified(webRequest, viewName, key, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        String cacheKey = cacheKeyOf(viewName, key);
+        String eTag = eTagOf(cacheKey, version);
+        RenderedPage page = pages.getIfPresent(cacheKey);
+        if (page == null || !page.eTag().equals(eTag)) {
+            modelFiller.accept(model);
+            page = new RenderedPage(eTag, render(webRequest, viewName, model));
+            pages.put(cacheKey, page);
+        }
+        return ResponseEntity.ok().contentType(TEXT_HTML_UTF8).body(page.body());
+    }
+
+    /**
+     * Other private methods
+     */
+    private byte[] render(ServletWebRequest webRequest, String viewName, Model model) throws Exception {
+        HttpServletRequest request = webRequest.getRequest();
+        HttpServletResponse response = webRequest.getResponse();
+        View view = viewResolver.getObject().resolveViewName(viewName, RequestContextUtils.getLocale(request));
+        if (view == null) {
+            throw new IllegalStateException("No view named " + viewName);
+        }
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        view.render(model.asMap(), request, bufferedResponse);
+        return bufferedResponse.getContentAsByteArray();
+    }
+
+    private static String cacheKeyOf(String viewName, String key) {
+        return viewName + '\n' + key;
+    }
+
+    /**
+     * The modification time tells apart versions numbered alike across restarts.
+     */
+    private static String eTagOf(String cacheKey, DataVersion version) {
+        return "\"" + Integer.toHexString(cacheKey.hashCode()) + '-' + Long.toHexString(version.getModifiedAt().getEpochSecond())
+                + '-' + Long.toHexString(version.getNumber()) + "\"";
+    }
+
+    private record RenderedPage(String eTag, byte[] body) {
+    }
+}
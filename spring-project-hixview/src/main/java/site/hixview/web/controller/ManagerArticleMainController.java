@@ -20,7 +20,6 @@ import java.util.Optional;
 
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 import static site.hixview.domain.vo.ExceptionMessage.NO_ARTICLE_MAIN_WITH_THAT_NUMBER_OR_NAME;
-import static site.hixview.domain.vo.Regex.NUMBER_PATTERN;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
 import static site.hixview.domain.vo.RequestUrl.REDIRECT_URL;
 import static site.hixview.domain.vo.Word.*;
@@ -87,9 +86,10 @@ public class ManagerArticleMainController {
      */
     @GetMapping(SELECT_ARTICLE_MAIN_URL)
     @ResponseStatus(HttpStatus.OK)
-    public String processSeeArticleMains(Model model) {
+    public String processSeeArticleMains(@RequestParam(name = AFTER, required = false) Long after,
+                                         @RequestParam(name = BEFORE, required = false) Long before, Model model) {
         model.addAttribute(LAYOUT_PATH, SELECT_LAYOUT);
-        model.addAttribute("articleMains", articleMainService.findArticles());
+        addPageAttributes(model, "articleMains", articleMainService.findArticlesPage(after, before, SELECT_PAGE_SIZE));
         return SELECT_VIEW + "article-mains-page";
     }
 
@@ -159,18 +159,13 @@ public class ManagerArticleMainController {
 
     @PostMapping(REMOVE_ARTICLE_MAIN_URL)
     public String submitRidArticleMain(@RequestParam String numberOrName, Model model) {
-        Optional<ArticleMain> articleOrEmpty = articleMainService.findArticleByNumberOrName(numberOrName);
-        if (articleOrEmpty.isEmpty()) {
+        Optional<String> removedNameOrEmpty = articleMainService.removeArticleByNumberOrName(numberOrName);
+        if (removedNameOrEmpty.isEmpty()) {
             finishForRollback(NO_ARTICLE_MAIN_WITH_THAT_NUMBER_OR_NAME,
                     REMOVE_PROCESS_LAYOUT, NOT_FOUND_ARTICLE_MAIN_ERROR, model);
             return REMOVE_ARTICLE_MAIN_VIEW + VIEW_PROCESS;
         }
-
-        if (NUMBER_PATTERN.matcher(numberOrName).matches()) {
-            numberOrName = articleMainService.findArticleByNumber(Long.parseLong(numberOrName)).orElseThrow().getName();
-        }
-        articleMainService.removeArticleByName(numberOrName);
-        return REDIRECT_URL + fromPath(REMOVE_ARTICLE_MAIN_URL + FINISH_URL).queryParam(NAME, encodeWithUTF8(numberOrName)).build().toUriString();
+        return REDIRECT_URL + fromPath(REMOVE_ARTICLE_MAIN_URL + FINISH_URL).queryParam(NAME, encodeWithUTF8(removedNameOrEmpty.get())).build().toUriString();
     }
 
     @GetMapping(REMOVE_ARTICLE_MAIN_URL + FINISH_URL)
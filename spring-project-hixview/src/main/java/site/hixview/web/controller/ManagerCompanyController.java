@@ -1,5 +1,6 @@
 package site.hixview.web.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,23 +19,30 @@ import site.hixview.domain.validation.validator.CompanyAddValidator;
 import site.hixview.domain.validation.validator.CompanyModifyValidator;
 import site.hixview.util.ControllerUtils;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Optional;
 
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 import static site.hixview.domain.vo.ExceptionMessage.NO_COMPANY_WITH_THAT_CODE_OR_NAME;
-import static site.hixview.domain.vo.Regex.NUMBER_PATTERN;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
 import static site.hixview.domain.vo.RequestUrl.REDIRECT_URL;
 import static site.hixview.domain.vo.Word.*;
 import static site.hixview.domain.vo.manager.Layout.*;
 import static site.hixview.domain.vo.manager.RequestURL.*;
 import static site.hixview.domain.vo.manager.ViewName.*;
+import static site.hixview.domain.vo.name.EntityName.Company.CODE;
 import static site.hixview.domain.vo.name.EntityName.Company.COMPANY;
+import static site.hixview.domain.vo.name.EntityName.Company.COUNTRY;
+import static site.hixview.domain.vo.name.EntityName.Company.FIRST_CATEGORY;
+import static site.hixview.domain.vo.name.EntityName.Company.SCALE;
+import static site.hixview.domain.vo.name.EntityName.Company.SECOND_CATEGORY;
 import static site.hixview.domain.vo.name.ExceptionName.BEAN_VALIDATION_ERROR;
 import static site.hixview.domain.vo.name.ExceptionName.NOT_FOUND_COMPANY_ERROR;
 import static site.hixview.domain.vo.name.ViewName.*;
-import static site.hixview.util.ControllerUtils.decodeWithUTF8;
-import static site.hixview.util.ControllerUtils.encodeWithUTF8;
+import static site.hixview.util.ControllerUtils.*;
+import static site.hixview.util.CsvUtils.openCsvAttachment;
+import static site.hixview.util.CsvUtils.writeRow;
 
 @Controller
 @RequiredArgsConstructor
@@ -91,12 +99,26 @@ public class ManagerCompanyController {
      */
     @GetMapping(SELECT_COMPANY_URL)
     @ResponseStatus(HttpStatus.OK)
-    public String processSeeCompanies(Model model) {
+    public String processSeeCompanies(@RequestParam(name = AFTER, required = false) String after,
+                                      @RequestParam(name = BEFORE, required = false) String before, Model model) {
         model.addAttribute(LAYOUT_PATH, SELECT_LAYOUT);
-        model.addAttribute("companies", companyService.findCompanies());
+        addPageAttributes(model, "companies", companyService.findCompaniesPage(after, before, SELECT_PAGE_SIZE));
         return SELECT_VIEW + "companies-page";
     }
 
+    /**
+     * Export
+     */
+    @GetMapping(EXPORT_COMPANY_URL)
+    public void exportCompanies(HttpServletResponse response) throws IOException {
+        Writer writer = openCsvAttachment(response, "companies.csv");
+        writeRow(writer, CODE, COUNTRY, SCALE, NAME, FIRST_CATEGORY, SECOND_CATEGORY);
+        companyService.forEachCompany(company -> writeRow(writer, company.getCode(), company.getCountry().name(),
+                company.getScale().name(), company.getName(), company.getFirstCategory().name(),
+                company.getSecondCategory().name()));
+        writer.flush();
+    }
+
     /**
      * Modify
      */
@@ -170,11 +192,9 @@ public class ManagerCompanyController {
             return REMOVE_COMPANY_URL_VIEW + VIEW_PROCESS;
         }
 
-        if (NUMBER_PATTERN.matcher(codeOrName).matches()) {
-            codeOrName = companyService.findCompanyByCode(codeOrName).orElseThrow().getName();
-        }
-        companyService.removeCompanyByCode(companyService.findCompanyByName(codeOrName).orElseThrow().getCode());
-        return REDIRECT_URL + fromPath(REMOVE_COMPANY_URL + FINISH_URL).queryParam(NAME, encodeWithUTF8(codeOrName)).build().toUriString();
+        Company company = companyOrEmpty.get();
+        companyService.removeCompanyByCode(company.getCode());
+        return REDIRECT_URL + fromPath(REMOVE_COMPANY_URL + FINISH_URL).queryParam(NAME, encodeWithUTF8(company.getName())).build().toUriString();
     }
 
     @GetMapping(REMOVE_COMPANY_URL + FINISH_URL)
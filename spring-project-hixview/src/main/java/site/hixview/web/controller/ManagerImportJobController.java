@@ -0,0 +1,38 @@
+package site.hixview.web.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import site.hixview.domain.error.NotFoundException;
+import site.hixview.domain.service.ImportJobService;
+
+import static site.hixview.domain.vo.ExceptionMessage.NO_IMPORT_JOB_WITH_THAT_ID;
+import static site.hixview.domain.vo.Word.LAYOUT_PATH;
+import static site.hixview.domain.vo.manager.Layout.SELECT_LAYOUT;
+import static site.hixview.domain.vo.manager.RequestURL.SELECT_IMPORT_JOB_URL;
+import static site.hixview.domain.vo.manager.ViewName.SELECT_VIEW;
+import static site.hixview.domain.vo.name.EntityName.ImportJob.ID;
+import static site.hixview.domain.vo.name.EntityName.ImportJob.IMPORT_JOB;
+
+@Controller
+@RequiredArgsConstructor
+public class ManagerImportJobController {
+
+    private final ImportJobService importJobService;
+
+    /**
+     * See
+     */
+    @GetMapping(SELECT_IMPORT_JOB_URL)
+    @ResponseStatus(HttpStatus.OK)
+    public String processSeeImportJob(@RequestParam(ID) Long id, Model model) {
+        model.addAttribute(LAYOUT_PATH, SELECT_LAYOUT);
+        model.addAttribute(IMPORT_JOB, importJobService.findJobProgressById(id)
+                .orElseThrow(() -> new NotFoundException(NO_IMPORT_JOB_WITH_THAT_ID)));
+        return SELECT_VIEW + "import-job-page";
+    }
+}
@@ -1,38 +1,50 @@
 package site.hixview.web.controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
-import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
-import org.springframework.validation.Validator;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import site.hixview.domain.entity.FirstCategory;
-import site.hixview.domain.entity.Press;
+import site.hixview.domain.entity.ImportFormat;
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.ImportJobTarget;
+import site.hixview.domain.entity.ImportResult;
 import site.hixview.domain.entity.SecondCategory;
 import site.hixview.domain.entity.article.IndustryArticle;
+import site.hixview.domain.entity.article.NameDatePress;
 import site.hixview.domain.entity.article.dto.IndustryArticleDto;
-import site.hixview.domain.error.ConstraintValidationException;
+import site.hixview.domain.error.NotFoundException;
+import site.hixview.domain.importer.IndustryArticleImportHandler;
+import site.hixview.domain.importer.ValidatedPaste;
+import site.hixview.domain.service.ImportJobRunner;
 import site.hixview.domain.service.IndustryArticleService;
 import site.hixview.domain.validation.validator.IndustryArticleAddComplexValidator;
-import site.hixview.domain.validation.validator.IndustryArticleAddSimpleValidator;
 import site.hixview.domain.validation.validator.IndustryArticleModifyValidator;
-import site.hixview.util.ControllerUtils;
+import site.hixview.util.NameDatePressTokenizer;
+import site.hixview.util.NameDatePressWriter;
+import site.hixview.web.cache.ImportResultStore;
 
-import java.util.ArrayList;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
-import static java.lang.Integer.parseInt;
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 import static site.hixview.domain.vo.ExceptionMessage.*;
-import static site.hixview.domain.vo.Regex.NUMBER_PATTERN;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
 import static site.hixview.domain.vo.RequestUrl.REDIRECT_URL;
 import static site.hixview.domain.vo.Word.*;
@@ -40,11 +52,23 @@ import static site.hixview.domain.vo.manager.Layout.*;
 import static site.hixview.domain.vo.manager.RequestURL.*;
 import static site.hixview.domain.vo.manager.ViewName.*;
 import static site.hixview.domain.vo.name.EntityName.Article.ARTICLE;
+import static site.hixview.domain.vo.name.EntityName.Article.DATE;
+import static site.hixview.domain.vo.name.EntityName.Article.IMPORTANCE;
+import static site.hixview.domain.vo.name.EntityName.Article.LINK;
+import static site.hixview.domain.vo.name.EntityName.Article.NUMBER;
+import static site.hixview.domain.vo.name.EntityName.Article.PRESS;
+import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_FIRST_CATEGORY;
+import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_SECOND_CATEGORIES;
 import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_SECOND_CATEGORY;
+import static site.hixview.domain.vo.name.EntityName.ImportJob.ID;
 import static site.hixview.domain.vo.name.ExceptionName.*;
 import static site.hixview.domain.vo.name.ViewName.*;
 import static site.hixview.util.ControllerUtils.*;
-import static site.hixview.util.EnumUtils.*;
+import static site.hixview.util.CsvUtils.openCsvAttachment;
+import static site.hixview.util.CsvUtils.writeRow;
+import static site.hixview.util.EnumUtils.inEnumConstants;
+import static site.hixview.util.ImportUtils.*;
+import static site.hixview.util.NameDatePressWriter.openTextAttachment;
 import static site.hixview.util.JsonUtils.deserializeWithOneMapToList;
 
 @Controller
@@ -52,10 +76,11 @@ import static site.hixview.util.JsonUtils.deserializeWithOneMapToList;
 public class ManagerIndustryArticleController {
 
     private final IndustryArticleService articleService;
+    private final IndustryArticleImportHandler importHandler;
+    private final ImportJobRunner importJobRunner;
+    private final ImportResultStore importResultStore;
 
-    private final Validator defaultValidator;
     private final IndustryArticleAddComplexValidator complexValidator;
-    private final IndustryArticleAddSimpleValidator simpleValidator;
     private final IndustryArticleModifyValidator modifyValidator;
 
     private final Logger log = LoggerFactory.getLogger(ManagerIndustryArticleController.class);
@@ -111,100 +136,144 @@ public class ManagerIndustryArticleController {
     public String submitAddIndustryArticlesWithString(@RequestParam String nameDatePressString, @RequestParam String linkString,
                                                      @RequestParam String subjectFirstCategory,
                                                      @RequestParam String subjectSecondCategories,
+                                                     @RequestParam(defaultValue = "false") boolean upsert,
                                                      RedirectAttributes redirect, Model model) {
         String senderPage = ADD_INDUSTRY_ARTICLE_VIEW + "multiple-string-process-page";
         if (!inEnumConstants(FirstCategory.class, subjectFirstCategory)) {
             finishForRollback(NO_FIRST_CATEGORY_WITH_THAT_VALUE, ADD_PROCESS_LAYOUT, NOT_FOUND_FIRST_CATEGORY_ERROR, model);
             return senderPage;
         }
-        List<String> secondCategories = deserializeWithOneMapToList(new ObjectMapper(), SUBJECT_SECOND_CATEGORY, subjectSecondCategories);
+        List<String> secondCategories = deserializeWithOneMapToList(SUBJECT_SECOND_CATEGORY, subjectSecondCategories);
         for (String secondCategory : secondCategories) {
             if (!inEnumConstants(SecondCategory.class, secondCategory)) {
                 finishForRollback(NO_SECOND_CATEGORY_WITH_THAT_VALUE, ADD_PROCESS_LAYOUT, NOT_FOUND_SECOND_CATEGORY_ERROR, model);
                 return senderPage;
             }
         }
-        List<List<String>> nameDatePressList = parseArticleString(nameDatePressString);
-        List<String> linkList = parseLinkString(linkString);
-        if (nameDatePressList.size() != linkList.size()) {
+        int rowCount = NameDatePressTokenizer.count(nameDatePressString);
+        if (rowCount != streamLinkString(linkString).count()) {
             finishForRollback(NOT_EQUAL_LIST_SIZE, ADD_PROCESS_LAYOUT, INDEX_OUT_OF_BOUND_ERROR, model);
             return senderPage;
         }
-        if (linkList.isEmpty()) {
+        if (rowCount == 0) {
             finishForRollback(EMPTY_ARTICLE, ADD_PROCESS_LAYOUT, NOT_BLANK_ARTICLE_ERROR, model);
             return senderPage;
         }
 
-        List<String> nameList = new ArrayList<>();
-        IndustryArticleDto articleDto = new IndustryArticleDto();
-        try {
-            for (int i = 0; i < linkList.size(); i++) {
-                List<String> partialArticle = nameDatePressList.get(i);
-
-                articleDto.setName(partialArticle.get(0).strip());
-                articleDto.setPress(partialArticle.get(4).toUpperCase());
-                articleDto.setLink(linkList.get(i));
-                articleDto.setYear(parseInt(partialArticle.get(1)));
-                articleDto.setMonth(parseInt(partialArticle.get(2)));
-                articleDto.setDays(parseInt(partialArticle.get(3)));
-                articleDto.setImportance(0);
-                articleDto.setSubjectFirstCategory(subjectFirstCategory);
-                articleDto.setSubjectSecondCategories(subjectSecondCategories);
-                if (inEnumValues(Press.class, articleDto.getPress()))
-                    articleDto.setPress(convertToEnum(Press.class, articleDto.getPress()).name());
-
-                BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(articleDto, ARTICLE);
-                defaultValidator.validate(articleDto, bindingResult);
-                if (bindingResult.hasErrors()) {
-                    throw new ConstraintValidationException(CONSTRAINT_VALIDATION_VIOLATED, bindingResult, true);
-                }
-                simpleValidator.validate(articleDto, bindingResult);
-                if (bindingResult.hasErrors()) {
-                    throw new ConstraintValidationException(CONSTRAINT_VALIDATION_VIOLATED, bindingResult, false);
-                }
-                nameList.add(articleService.registerArticle(
-                        IndustryArticle.builder().articleDto(articleDto).build()).getName());
-            }
-            finishForRedirect("", redirect, ControllerUtils.encodeWithUTF8(nameList),
-                    false, null);
-        } catch (NumberFormatException e) {
-            if (articleDto.getImportance() == null ||
-                    NUMBER_PATTERN.matcher(String.valueOf(articleDto.getImportance())).matches()) {
-                finishForRedirect(e.getMessage(), redirect, ControllerUtils.encodeWithUTF8(nameList),
-                        false, NUMBER_FORMAT_LOCAL_DATE_ERROR);
-            } else {
-                finishForRedirect(e.getMessage(), redirect, ControllerUtils.encodeWithUTF8(nameList),
-                        false, NUMBER_FORMAT_INTEGER_ERROR);
-            }
-        } catch (ConstraintValidationException e) {
-            finishForRedirect(CONSTRAINT_VALIDATION_VIOLATED + '\n' + e.getError(), redirect,
-                    ControllerUtils.encodeWithUTF8(nameList), e.isBeanValidationViolated(), null);
+        if (rowCount > IMPORT_BATCH_SIZE) {
+            ImportJob job = importJobRunner.submit(ImportJob.builder().target(ImportJobTarget.INDUSTRY_ARTICLE)
+                    .subject(subjectFirstCategory)
+                    .subjectSecondCategories(subjectSecondCategories)
+                    .nameDatePressString(nameDatePressString).linkString(linkString).totalRows(rowCount)
+                    .upsert(upsert).build());
+            return REDIRECT_URL + fromPath(SELECT_IMPORT_JOB_URL).queryParam(ID, job.getId()).build().toUriString();
         }
+
+        List<NameDatePress> nameDatePressList = NameDatePressTokenizer.tokenize(nameDatePressString);
+        List<String> linkList = parseLinkString(linkString);
+
+        ValidatedPaste<IndustryArticle> validatedPaste = importHandler.validatePaste(nameDatePressList, linkList,
+                subjectFirstCategory, subjectSecondCategories, 0, upsert);
+        if (!validatedPaste.errorList().isEmpty()) {
+            finishForRedirect(CONSTRAINT_VALIDATION_VIOLATED + '\n' + String.join("\n", validatedPaste.errorList()),
+                    redirect, importResultStore, new ImportResult(Collections.emptyList(), validatedPaste.errorList(),
+                            validatedPaste.beanValidationError(), validatedPaste.errorSingle()));
+            return REDIRECT_URL + ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL;
+        }
+
+        importHandler.registerArticles(validatedPaste.articles(), upsert);
+        List<String> nameList = validatedPaste.articles().stream().map(IndustryArticle::getName).toList();
+        finishForRedirect("", redirect, importResultStore,
+                new ImportResult(nameList, Collections.emptyList(), false, null));
         return REDIRECT_URL + ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL;
     }
 
     @GetMapping(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL)
     @ResponseStatus(HttpStatus.OK)
-    public String finishAddIndustryArticlesWithString(@RequestParam List<String> nameList, Model model,
-                                                     Boolean isBeanValidationError, String errorSingle) {
+    public String finishAddIndustryArticlesWithString(@RequestParam(TOKEN) String token,
+                                                     @RequestParam(name = PAGE, defaultValue = "0") int page, Model model) {
         model.addAttribute(LAYOUT_PATH, ADD_FINISH_LAYOUT);
-        model.addAttribute("nameList", ControllerUtils.decodeWithUTF8(nameList));
-        model.addAttribute(IS_BEAN_VALIDATION_ERROR, isBeanValidationError);
-        model.addAttribute(ERROR_SINGLE, errorSingle);
+        model.addAttribute(TOKEN, token);
+        addImportResultAttributes(model, importResultStore.findResult(token)
+                .orElseThrow(() -> new NotFoundException(NO_IMPORT_RESULT_WITH_THAT_TOKEN)), page);
         return ADD_INDUSTRY_ARTICLE_VIEW + "multiple-finish-page";
     }
 
+    /**
+     * Add - File
+     */
+    @GetMapping(ADD_INDUSTRY_ARTICLE_WITH_FILE_URL)
+    @ResponseStatus(HttpStatus.OK)
+    public String processAddIndustryArticlesWithFile(Model model) {
+        model.addAttribute(LAYOUT_PATH, ADD_PROCESS_LAYOUT);
+        return ADD_INDUSTRY_ARTICLE_VIEW + "multiple-file-process-page";
+    }
+
+    @PostMapping(ADD_INDUSTRY_ARTICLE_WITH_FILE_URL)
+    public void submitAddIndustryArticlesWithFile(@RequestParam MultipartFile file,
+                                                  @RequestParam(defaultValue = "false") boolean upsert,
+                                                  HttpServletResponse response)
+            throws IOException {
+        Writer writer = openCsvAttachment(response, "industry-articles-import-report.csv");
+        writeReportHeader(writer);
+        try (BufferedReader reader = openImportFile(file)) {
+            forEachBatch(reader, ImportFormat.ofFileName(file.getOriginalFilename()),
+                    records -> writeReportRows(writer, records, importHandler.importRecords(records, upsert)));
+        }
+        writer.flush();
+    }
+
     /**
      * See
      */
     @GetMapping(SELECT_INDUSTRY_ARTICLE_URL)
     @ResponseStatus(HttpStatus.OK)
-    public String processSeeIndustryArticles(Model model) {
+    public String processSeeIndustryArticles(@RequestParam(name = AFTER, required = false) Long after,
+                                             @RequestParam(name = BEFORE, required = false) Long before, Model model) {
         model.addAttribute(LAYOUT_PATH, SELECT_LAYOUT);
-        model.addAttribute("articles", articleService.findArticles());
+        addPageAttributes(model, "articles", articleService.findArticlesPage(after, before, SELECT_PAGE_SIZE));
         return SELECT_VIEW + "industry-articles-page";
     }
 
+    /**
+     * Export
+     */
+    @GetMapping(EXPORT_INDUSTRY_ARTICLE_URL)
+    public void exportIndustryArticles(HttpServletResponse response) throws IOException {
+        Writer writer = openCsvAttachment(response, "industry-articles.csv");
+        writeRow(writer, NUMBER, NAME, PRESS, SUBJECT_FIRST_CATEGORY, SUBJECT_SECOND_CATEGORIES, LINK, DATE, IMPORTANCE);
+        articleService.forEachArticle(article -> writeRow(writer, article.getNumber(), article.getName(),
+                article.getPress().name(), article.getSubjectFirstCategory().name(),
+                article.getSubjectSecondCategories().stream().map(Enum::name).collect(Collectors.joining(LIST_SEPARATOR)),
+                article.getLink(), article.getDate(), article.getImportance()));
+        writer.flush();
+    }
+
+    /**
+     * Articles dated from startDate to endDate in the string bulk-add format, optionally of one first category.
+     * Pass link=true for their links in the same order.
+     */
+    @GetMapping(EXPORT_INDUSTRY_ARTICLE_STRING_URL)
+    public void exportIndustryArticlesAsString(@RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+                                               @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate endDate,
+                                               @RequestParam(required = false) FirstCategory subjectFirstCategory,
+                                               @RequestParam(defaultValue = "false") boolean link,
+                                               HttpServletResponse response) throws IOException {
+        NameDatePressWriter writer = openTextAttachment(response,
+                "industry-articles-" + startDate + "-" + endDate + (link ? "-links" : "") + ".txt");
+        articleService.forEachArticleByDate(startDate, endDate, article -> {
+            if (subjectFirstCategory != null && subjectFirstCategory != article.getSubjectFirstCategory()) {
+                return;
+            }
+            if (link) {
+                writer.writeLine(article.getLink());
+            } else {
+                writer.write(article.getName(), article.getDate(), article.getPress());
+            }
+        });
+        writer.flush();
+    }
+
     /**
      * Modify
      */
@@ -270,17 +339,12 @@ public class ManagerIndustryArticleController {
 
     @PostMapping(REMOVE_INDUSTRY_ARTICLE_URL)
     public String submitRidIndustryArticle(@RequestParam String numberOrName, Model model) {
-        Optional<IndustryArticle> articleOrEmpty = articleService.findArticleByNumberOrName(numberOrName);
-        if (articleOrEmpty.isEmpty()) {
+        Optional<String> removedNameOrEmpty = articleService.removeArticleByNumberOrName(numberOrName);
+        if (removedNameOrEmpty.isEmpty()) {
             finishForRollback(NO_INDUSTRY_ARTICLE_WITH_THAT_NUMBER_OR_NAME, REMOVE_PROCESS_LAYOUT, NOT_FOUND_INDUSTRY_ARTICLE_ERROR, model);
             return REMOVE_INDUSTRY_ARTICLE_VIEW + VIEW_PROCESS;
         }
-
-        if (NUMBER_PATTERN.matcher(numberOrName).matches()) {
-            numberOrName = articleService.findArticleByNumber(Long.parseLong(numberOrName)).orElseThrow().getName();
-        }
-        articleService.removeArticleByName(numberOrName);
-        return REDIRECT_URL + fromPath(REMOVE_INDUSTRY_ARTICLE_URL + FINISH_URL).queryParam(NAME, encodeWithUTF8(numberOrName)).build().toUriString();
+        return REDIRECT_URL + fromPath(REMOVE_INDUSTRY_ARTICLE_URL + FINISH_URL).queryParam(NAME, encodeWithUTF8(removedNameOrEmpty.get())).build().toUriString();
     }
 
     @GetMapping(REMOVE_INDUSTRY_ARTICLE_URL + FINISH_URL)
@@ -290,4 +354,4 @@ public class ManagerIndustryArticleController {
         model.addAttribute(VALUE, decodeWithUTF8(name));
         return REMOVE_INDUSTRY_ARTICLE_VIEW + VIEW_FINISH;
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,32 @@
 package site.hixview.web.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import site.hixview.domain.service.MemberService;
 
-import static site.hixview.domain.vo.Word.LAYOUT_PATH;
+import java.io.IOException;
+import java.io.Writer;
+
+import static site.hixview.domain.vo.Word.*;
 import static site.hixview.domain.vo.manager.Layout.SELECT_LAYOUT;
+import static site.hixview.domain.vo.manager.RequestURL.EXPORT_MEMBER_URL;
 import static site.hixview.domain.vo.manager.RequestURL.SELECT_MEMBER_URL;
 import static site.hixview.domain.vo.manager.ViewName.SELECT_VIEW;
+import static site.hixview.domain.vo.name.EntityName.Member.BIRTHDAY;
+import static site.hixview.domain.vo.name.EntityName.Member.ID;
+import static site.hixview.domain.vo.name.EntityName.Member.IDENTIFIER;
+import static site.hixview.domain.vo.name.EntityName.Member.PHONE_NUMBER;
+import static site.hixview.util.ControllerUtils.SELECT_PAGE_SIZE;
+import static site.hixview.util.ControllerUtils.addPageAttributes;
+import static site.hixview.util.CsvUtils.openCsvAttachment;
+import static site.hixview.util.CsvUtils.writeRow;
 
 @Controller
 @RequestMapping("")
@@ -26,9 +40,22 @@ public class ManagerMemberController {
      */
     @GetMapping(SELECT_MEMBER_URL)
     @ResponseStatus(HttpStatus.OK)
-    public String processSeeMembers(Model model) {
+    public String processSeeMembers(@RequestParam(name = AFTER, required = false) Long after,
+                                    @RequestParam(name = BEFORE, required = false) Long before, Model model) {
         model.addAttribute(LAYOUT_PATH, SELECT_LAYOUT);
-        model.addAttribute("members", memberService.findMembers());
+        addPageAttributes(model, "members", memberService.findMembersPage(after, before, SELECT_PAGE_SIZE));
         return SELECT_VIEW + "members-page";
     }
+
+    /**
+     * Export
+     */
+    @GetMapping(EXPORT_MEMBER_URL)
+    public void exportMembers(HttpServletResponse response) throws IOException {
+        Writer writer = openCsvAttachment(response, "members.csv");
+        writeRow(writer, IDENTIFIER, ID, NAME, BIRTHDAY, PHONE_NUMBER);
+        memberService.forEachMember(member -> writeRow(writer, member.getIdentifier(), member.getId(),
+                member.getName(), member.getBirthday(), member.getPhoneNumber().toStringWithDash()));
+        writer.flush();
+    }
 }
@@ -2,14 +2,22 @@ package site.hixview.web.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import site.hixview.domain.entity.DataVersion;
+import site.hixview.domain.entity.company.Company;
+import site.hixview.domain.service.CompanyArticleService;
 import site.hixview.domain.service.CompanyService;
+import site.hixview.web.cache.RenderedPageCache;
+
+import java.util.Optional;
 
 import static site.hixview.domain.vo.RequestUrl.REDIRECT_URL;
 import static site.hixview.domain.vo.Word.ERROR;
@@ -28,8 +36,14 @@ import static site.hixview.domain.vo.user.ViewName.COMPANY_VIEW;
 @RequiredArgsConstructor
 public class UserCompanyController {
 
+    private static final int LATEST_ARTICLE_SIZE = 3;
+
     private final CompanyService companyService;
 
+    private final CompanyArticleService companyArticleService;
+
+    private final RenderedPageCache renderedPageCache;
+
     @ModelAttribute(LAYOUT_PATH)
     public String layoutPath() {
         return BASIC_LAYOUT;
@@ -50,16 +64,24 @@ public class UserCompanyController {
      */
     @GetMapping(value = {COMPANY_SEARCH_URL, COMPANY_SEARCH_URL + "{codeOrName}"})
     public Object processCompanyLookUpPage(@PathVariable(name = "codeOrName", required = false) String codeOrName,
-                                           RedirectAttributes redirect, Model model) {
+                                           RedirectAttributes redirect, ServletWebRequest webRequest,
+                                           Model model) throws Exception {
         if (codeOrName == null) {
             redirect.addFlashAttribute(ERROR, NOT_EXIST_COMPANY_ERROR);
             return REDIRECT_URL + COMPANY_SUB_URL;
         }
-        if (companyService.findCompanyByCodeOrName(codeOrName).isEmpty()) {
+        DataVersion pageVersion = companyService.getCatalogVersion().plus(companyArticleService.getArticlesVersion());
+        Optional<Company> companyOrEmpty = companyService.findCompanyByCodeOrName(codeOrName);
+        if (companyOrEmpty.isEmpty()) {
             redirect.addFlashAttribute(ERROR, NOT_FOUND_COMPANY_ERROR);
             return REDIRECT_URL + COMPANY_SUB_URL;
         }
-        model.addAttribute(COMPANY, companyService.findCompanyByCodeOrName(codeOrName).orElseThrow());
-        return COMPANY_VIEW + VIEW_SHOW;
+        if (renderedPageCache.isNotModified(webRequest, COMPANY_VIEW + VIEW_SHOW, codeOrName, pageVersion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        Company company = companyOrEmpty.orElseThrow();
+        return renderedPageCache.respond(webRequest, COMPANY_VIEW + VIEW_SHOW, codeOrName, pageVersion, model,
+                pageModel -> pageModel.addAttribute(COMPANY, company).addAttribute("latestArticles",
+                        companyArticleService.findArticlesByCompany(company.getCode(), null, LATEST_ARTICLE_SIZE)));
     }
 }
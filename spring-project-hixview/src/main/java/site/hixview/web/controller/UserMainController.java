@@ -2,23 +2,25 @@ package site.hixview.web.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import site.hixview.domain.entity.article.ArticleWithMain;
 import site.hixview.domain.entity.article.CompanyArticle;
+import site.hixview.domain.entity.article.HomePageSnapshot;
 import site.hixview.domain.entity.article.IndustryArticle;
 import site.hixview.domain.entity.member.Member;
 import site.hixview.domain.entity.member.dto.MemberDto;
 import site.hixview.domain.error.NotFoundException;
-import site.hixview.domain.service.ArticleMainService;
-import site.hixview.domain.service.CompanyArticleService;
-import site.hixview.domain.service.IndustryArticleService;
+import site.hixview.domain.service.HomePageService;
 import site.hixview.domain.service.MemberService;
 import site.hixview.util.ControllerUtils;
+import site.hixview.web.cache.RenderedPageCache;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static site.hixview.domain.vo.ExceptionMessage.NO_COMPANY_ARTICLE_WITH_THAT_CONDITION;
@@ -38,40 +40,27 @@ public class UserMainController {
 
     private final MemberService memberService;
 
-    private final CompanyArticleService companyArticleService;
+    private final HomePageService homePageService;
 
-    private final IndustryArticleService industryArticleService;
-
-    private final ArticleMainService articleMainService;
+    private final RenderedPageCache renderedPageCache;
 
     /**
      * Main
      */
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public String processUserMainPage(Model model) {
-        Optional<CompanyArticle> latestCompanyArticleOrEmpty = companyArticleService.findLatestArticles().stream()
-                .filter(article -> articleMainService.findArticleByName(article.getName()).isPresent()).findFirst();
-        if (latestCompanyArticleOrEmpty.isEmpty()) {
-            throw new NotFoundException(NO_COMPANY_ARTICLE_WITH_THAT_CONDITION);
-        }
-
-        Optional<IndustryArticle> latestIndustryArticleOrEmpty = industryArticleService.findLatestArticles().stream()
-                .filter(article -> articleMainService.findArticleByName(article.getName()).isPresent()).findFirst();
-        if (latestIndustryArticleOrEmpty.isEmpty()) {
-            throw new NotFoundException(NO_INDUSTRY_ARTICLE_WITH_THAT_CONDITION);
-        }
-
-        CompanyArticle latestCompanyArticle = latestCompanyArticleOrEmpty.orElseThrow();
-        IndustryArticle latestIndustryArticle = latestIndustryArticleOrEmpty.orElseThrow();
-        model.addAttribute(LAYOUT_PATH, BASIC_LAYOUT);
-        model.addAttribute("latestCompanyArticle", latestCompanyArticle);
-        model.addAttribute("latestIndustryArticle", latestIndustryArticle);
-        model.addAttribute("latestCompanyArticleMain",
-                articleMainService.findArticleByName(latestCompanyArticle.getName()).orElseThrow());
-        model.addAttribute("latestIndustryArticleMain",
-                articleMainService.findArticleByName(latestIndustryArticle.getName()).orElseThrow());
-        return USER_HOME_VIEW;
+    public ResponseEntity<byte[]> processUserMainPage(ServletWebRequest webRequest, Model model) throws Exception {
+        HomePageSnapshot snapshot = homePageService.getSnapshot();
+        return renderedPageCache.respond(webRequest, USER_HOME_VIEW, "", snapshot.getVersion(), model, pageModel -> {
+            ArticleWithMain<CompanyArticle> latestCompanyArticle = snapshot.getLatestCompanyArticle()
+                    .orElseThrow(() -> new NotFoundException(NO_COMPANY_ARTICLE_WITH_THAT_CONDITION));
+            ArticleWithMain<IndustryArticle> latestIndustryArticle = snapshot.getLatestIndustryArticle()
+                    .orElseThrow(() -> new NotFoundException(NO_INDUSTRY_ARTICLE_WITH_THAT_CONDITION));
+            pageModel.addAttribute(LAYOUT_PATH, BASIC_LAYOUT);
+            pageModel.addAttribute("latestCompanyArticle", latestCompanyArticle.getArticle());
+            pageModel.addAttribute("latestIndustryArticle", latestIndustryArticle.getArticle());
+            pageModel.addAttribute("latestCompanyArticleMain", latestCompanyArticle.getArticleMain());
+            pageModel.addAttribute("latestIndustryArticleMain", latestIndustryArticle.getArticleMain());
+        });
     }
 
     /**
@@ -0,0 +1,52 @@
+-- Tables as they were first created by hand; indexes beyond the primary keys come in later versions.
+create table if not exists ${schema.companies} (
+    code char(6) not null,
+    country varchar(30) not null,
+    scale varchar(10) not null,
+    name varchar(12) not null,
+    firstCategory varchar(30) not null,
+    secondCategory varchar(40) not null,
+    primary key (code)
+);
+
+create table if not exists ${schema.article.companies} (
+    number bigint not null auto_increment,
+    name varchar(80) not null,
+    press varchar(30) not null,
+    link varchar(400) not null,
+    date date not null,
+    importance int not null,
+    subjectCompany varchar(12) not null,
+    primary key (number)
+);
+
+create table if not exists ${schema.article.industries} (
+    number bigint not null auto_increment,
+    name varchar(80) not null,
+    press varchar(30) not null,
+    link varchar(400) not null,
+    date date not null,
+    importance int not null,
+    subjectFirstCategory varchar(30) not null,
+    subjectSecondCategories varchar(1000) not null,
+    primary key (number)
+);
+
+create table if not exists ${schema.article.mains} (
+    number bigint not null auto_increment,
+    name varchar(80) not null,
+    imagePath varchar(400) not null,
+    summary varchar(1000) not null,
+    classification varchar(20) not null,
+    primary key (number)
+);
+
+create table if not exists ${schema.members} (
+    identifier bigint not null auto_increment,
+    id varchar(20) not null,
+    password varchar(64) not null,
+    name varchar(30) not null,
+    birthday date not null,
+    phoneNumber varchar(20) not null,
+    primary key (identifier)
+);
@@ -0,0 +1,22 @@
+-- Existence checks and lookups by name, link, image path and member id become unique index seeks,
+-- and the latest-date queries read max(date) from the end of the date index.
+alter table ${schema.companies}
+    add unique index uk_companies_name (name);
+
+alter table ${schema.article.companies}
+    add unique index uk_company_articles_name (name),
+    add unique index uk_company_articles_link (link),
+    add index idx_company_articles_date (date);
+
+alter table ${schema.article.industries}
+    add unique index uk_industry_articles_name (name),
+    add unique index uk_industry_articles_link (link),
+    add index idx_industry_articles_date (date);
+
+alter table ${schema.article.mains}
+    add unique index uk_article_mains_name (name),
+    add unique index uk_article_mains_image_path (imagePath);
+
+alter table ${schema.members}
+    add unique index uk_members_id (id),
+    add index idx_members_name_birthday (name, birthday);
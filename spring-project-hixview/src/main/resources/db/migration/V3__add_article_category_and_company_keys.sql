@@ -0,0 +1,31 @@
+-- Second-category bitmask for category pages (bits as in SecondCategory) and the company code foreign key
+-- for company pages, both backfilled from the existing columns.
+alter table ${schema.article.industries}
+    add column subjectSecondCategoryMask bigint not null default 0,
+    add index idx_industry_articles_category (subjectFirstCategory, date);
+
+update ${schema.article.industries} set subjectSecondCategoryMask =
+    (coalesce(json_contains(subjectSecondCategories, '"BANK"', '$.subjectSecondCategory'), 0) << 0) |
+    (coalesce(json_contains(subjectSecondCategories, '"CATHODE_MATERIAL_MANUFACTURING"', '$.subjectSecondCategory'), 0) << 1) |
+    (coalesce(json_contains(subjectSecondCategories, '"DISPLAY_EQUIPMENT"', '$.subjectSecondCategory'), 0) << 2) |
+    (coalesce(json_contains(subjectSecondCategories, '"DISPLAY_PANEL"', '$.subjectSecondCategory'), 0) << 3) |
+    (coalesce(json_contains(subjectSecondCategories, '"ELECTRIC_VEHICLE_MANUFACTURING"', '$.subjectSecondCategory'), 0) << 4) |
+    (coalesce(json_contains(subjectSecondCategories, '"FIFTH_GENERATION_SERVICE"', '$.subjectSecondCategory'), 0) << 5) |
+    (coalesce(json_contains(subjectSecondCategories, '"GENERAL_CONSTRUCTION"', '$.subjectSecondCategory'), 0) << 6) |
+    (coalesce(json_contains(subjectSecondCategories, '"INTERACTIVE_MEDIA_AND_SERVICE"', '$.subjectSecondCategory'), 0) << 7) |
+    (coalesce(json_contains(subjectSecondCategories, '"MOBILE_COMMUNICATION_SERVICE"', '$.subjectSecondCategory'), 0) << 8) |
+    (coalesce(json_contains(subjectSecondCategories, '"SECONDARY_BATTERY_MANUFACTURING"', '$.subjectSecondCategory'), 0) << 9) |
+    (coalesce(json_contains(subjectSecondCategories, '"SEMICONDUCTOR_MANUFACTURING"', '$.subjectSecondCategory'), 0) << 10) |
+    (coalesce(json_contains(subjectSecondCategories, '"SIXTH_GENERATION_SERVICE"', '$.subjectSecondCategory'), 0) << 11) |
+    (coalesce(json_contains(subjectSecondCategories, '"SPECIALTY_CONSTRUCTION"', '$.subjectSecondCategory'), 0) << 12) |
+    (coalesce(json_contains(subjectSecondCategories, '"STOCK"', '$.subjectSecondCategory'), 0) << 13) |
+    (coalesce(json_contains(subjectSecondCategories, '"TELECOMMUNICATION_EQUIPMENT"', '$.subjectSecondCategory'), 0) << 14);
+
+alter table ${schema.article.companies}
+    add column subjectCompanyCode char(6),
+    add index idx_company_articles_company (subjectCompanyCode, number),
+    add foreign key (subjectCompanyCode)
+        references ${schema.companies} (code) on delete set null;
+
+update ${schema.article.companies} article join ${schema.companies} company on company.name = article.subjectCompany
+    set article.subjectCompanyCode = company.code;
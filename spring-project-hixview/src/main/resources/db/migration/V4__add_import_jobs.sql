@@ -0,0 +1,17 @@
+-- Bulk-add submissions processed in the background. processedRows is the checkpoint: it moves in the same
+-- transaction as the articles of its batch, so a resumed job starts after the last committed batch.
+create table if not exists ${schema.import.jobs} (
+    id bigint not null auto_increment,
+    target varchar(30) not null,
+    status varchar(20) not null,
+    subject varchar(40) not null,
+    subjectSecondCategories varchar(1000),
+    nameDatePressString longtext not null,
+    linkString longtext not null,
+    totalRows int not null,
+    processedRows int not null default 0,
+    insertedRows int not null default 0,
+    errors longtext,
+    primary key (id),
+    index idx_import_jobs_status (status)
+);
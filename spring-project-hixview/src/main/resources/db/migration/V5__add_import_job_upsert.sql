@@ -0,0 +1,3 @@
+-- Whether an import job overwrites stored articles of the same name or link instead of rejecting those rows.
+alter table ${schema.import.jobs}
+    add column upsert boolean not null default false;
@@ -0,0 +1,4 @@
+-- When an import job was submitted and when its row last changed, for the job status page.
+alter table ${schema.import.jobs}
+    add column createdAt datetime not null default current_timestamp,
+    add column updatedAt datetime not null default current_timestamp on update current_timestamp;
@@ -0,0 +1,25 @@
+-- Values that occur more than once in a column V2 makes unique. Any row here stops the migration; keep one row
+-- per value (rename or delete the others) and restart.
+select '${schema.companies}' as tableName, 'name' as columnName, name as duplicateValue, count(*) as rowCount
+from ${schema.companies} group by name having count(*) > 1
+union all
+select '${schema.article.companies}', 'name', name, count(*)
+from ${schema.article.companies} group by name having count(*) > 1
+union all
+select '${schema.article.companies}', 'link', link, count(*)
+from ${schema.article.companies} group by link having count(*) > 1
+union all
+select '${schema.article.industries}', 'name', name, count(*)
+from ${schema.article.industries} group by name having count(*) > 1
+union all
+select '${schema.article.industries}', 'link', link, count(*)
+from ${schema.article.industries} group by link having count(*) > 1
+union all
+select '${schema.article.mains}', 'name', name, count(*)
+from ${schema.article.mains} group by name having count(*) > 1
+union all
+select '${schema.article.mains}', 'imagePath', imagePath, count(*)
+from ${schema.article.mains} group by imagePath having count(*) > 1
+union all
+select '${schema.members}', 'id', id, count(*)
+from ${schema.members} group by id having count(*) > 1
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
+import site.hixview.domain.entity.ImportResult;
 import site.hixview.support.context.OnlyRealControllerContext;
 import site.hixview.domain.entity.article.CompanyArticle;
 import site.hixview.domain.entity.article.CompanyArticleBufferSimple;
@@ -12,12 +13,14 @@ import site.hixview.domain.service.CompanyService;
 import site.hixview.domain.validation.validator.CompanyArticleAddSimpleValidator;
 import site.hixview.support.util.CompanyArticleTestUtils;
 import site.hixview.support.util.CompanyTestUtils;
+import site.hixview.web.cache.ImportResultStore;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
@@ -50,11 +53,14 @@ class ManagerCompanyArticleErrorHandleTest implements CompanyArticleTestUtils, C
     @Autowired
     private CompanyArticleAddSimpleValidator companyArticleAddSimpleValidator;
 
+    @Autowired
+    private ImportResultStore importResultStore;
+
     @DisplayName("존재하지 않는 대상 기업을 사용하는, 문자열을 사용하는 기업 기사들 추가")
     @Test
     void notFoundSubjectCompanyArticleAddWithString() throws Exception {
         // given & when
-        when(companyService.findCompanyByName(any())).thenReturn(Optional.empty());
+        when(companyService.existsCompanyByName(any())).thenReturn(false);
 
         // then
         requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
@@ -71,7 +77,7 @@ class ManagerCompanyArticleErrorHandleTest implements CompanyArticleTestUtils, C
     @Test
     void articleListBiggerCompanyArticleAddWithString() throws Exception {
         // given
-        when(companyService.findCompanyByName(any())).thenReturn(Optional.of(samsungElectronics));
+        when(companyService.existsCompanyByName(any())).thenReturn(true);
         doNothing().when(companyService).registerCompanies(any());
 
         // when
@@ -92,7 +98,7 @@ class ManagerCompanyArticleErrorHandleTest implements CompanyArticleTestUtils, C
     @Test
     void linkListBiggerCompanyArticleAddWithString() throws Exception {
         // given
-        when(companyService.findCompanyByName(any())).thenReturn(Optional.of(samsungElectronics));
+        when(companyService.existsCompanyByName(any())).thenReturn(true);
         doNothing().when(companyService).registerCompanies(any());
 
         // when
@@ -113,7 +119,7 @@ class ManagerCompanyArticleErrorHandleTest implements CompanyArticleTestUtils, C
     @Test
     void emptyCompanyArticleAddWithString() throws Exception {
         // given
-        when(companyService.findCompanyByName(any())).thenReturn(Optional.of(samsungElectronics));
+        when(companyService.existsCompanyByName(any())).thenReturn(true);
         doNothing().when(companyService).registerCompanies(any());
 
         // when
@@ -136,7 +142,7 @@ class ManagerCompanyArticleErrorHandleTest implements CompanyArticleTestUtils, C
         // given
         CompanyArticle passedArticle = testEqualDateCompanyArticle;
         when(companyArticleService.registerArticle(any())).thenReturn(passedArticle);
-        when(companyService.findCompanyByName(any())).thenReturn(Optional.of(samsungElectronics));
+        when(companyService.existsCompanyByName(any())).thenReturn(true);
         doNothing().when(companyArticleAddSimpleValidator).validate(any(), any());
         doNothing().when(companyService).registerCompanies(any());
 
@@ -156,18 +162,76 @@ class ManagerCompanyArticleErrorHandleTest implements CompanyArticleTestUtils, C
 
         // then
         for (CompanyArticleBufferSimple articleBuffer : List.of(invalidFormatArticleBuffer, invalidFormatArticleAddNameDatePress)) {
-            requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+            ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(
+                            ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                         put(nameDatePressString, articleBuffer.getNameDatePressString());
                         put(SUBJECT_COMPANY, articleBuffer.getSubjectCompany());
                         put(linkString, articleBuffer.getLinkString());
                     }}))
-                    .andExpectAll(view().name(
-                                    REDIRECT_URL + ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL),
-                            model().attribute(IS_BEAN_VALIDATION_ERROR, String.valueOf(false)),
-                            model().attribute(ERROR_SINGLE, NUMBER_FORMAT_LOCAL_DATE_ERROR)));
+                    .andExpect(view().name(REDIRECT_URL + ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL))
+                    .andReturn());
+
+            assertThat(result.isBeanValidationError()).isFalse();
+            assertThat(result.getErrorSingle()).isEqualTo(NUMBER_FORMAT_LOCAL_DATE_ERROR);
         }
     }
 
+    @DisplayName("올바르지 않은 기사를 포함하는, 문자열을 사용하는 기업 기사들 추가")
+    @Test
+    void partiallyInvalidCompanyArticleAddWithString() throws Exception {
+        // given
+        CompanyArticle invalidLinkArticle = CompanyArticle.builder().article(testNewCompanyArticle).link(INVALID_VALUE).build();
+        CompanyArticleBufferSimple articleBuffer = CompanyArticleBufferSimple.builder()
+                .articles(testEqualDateCompanyArticle, invalidLinkArticle, testEqualDateCompanyArticle).build();
+        when(companyService.existsCompanyByName(samsungElectronics.getName())).thenReturn(true);
+
+        // when
+        companyService.registerCompany(samsungElectronics);
+
+        // then
+        ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(
+                        ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+                    put(nameDatePressString, articleBuffer.getNameDatePressString());
+                    put(SUBJECT_COMPANY, samsungElectronics.getName());
+                    put(linkString, articleBuffer.getLinkString());
+                }}))
+                .andExpect(view().name(REDIRECT_URL + ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL))
+                .andReturn());
+
+        assertThat(result.getErrorList()).isEqualTo(List.of("#2 link: Pattern", "#3 name: Exist, link: Exist"));
+        assertThat(result.isBeanValidationError()).isTrue();
+    }
+
+    @DisplayName("날짜 형식이 올바르지 않은 기사를 포함하는, 문자열을 사용하는 기업 기사들 추가")
+    @Test
+    void malformedDatePressCompanyArticleAddWithString() throws Exception {
+        // given
+        CompanyArticleBufferSimple articleBuffer = CompanyArticleBufferSimple.builder()
+                .article(testEqualDateCompanyArticle)
+                .nameDatePressString(CompanyArticleBufferSimple.builder().article(testCompanyArticle).build()
+                        .getNameDatePressString().replace("2024-", ""))
+                .article(testNewCompanyArticle).build();
+        String links = String.join(System.lineSeparator(), testEqualDateCompanyArticle.getLink(),
+                testCompanyArticle.getLink(), testNewCompanyArticle.getLink());
+        when(companyService.existsCompanyByName(samsungElectronics.getName())).thenReturn(true);
+
+        // when
+        companyService.registerCompany(samsungElectronics);
+
+        // then
+        ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(
+                        ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+                    put(nameDatePressString, articleBuffer.getNameDatePressString());
+                    put(SUBJECT_COMPANY, samsungElectronics.getName());
+                    put(linkString, links);
+                }}))
+                .andExpect(view().name(REDIRECT_URL + ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL))
+                .andReturn());
+
+        assertThat(result.getErrorList()).isEqualTo(List.of("#2 3번째 줄: 날짜와 언론사가 (yyyy-m-d, 언론사) 형식이 아닙니다."));
+        assertThat(result.getErrorSingle()).isEqualTo(NUMBER_FORMAT_LOCAL_DATE_ERROR);
+    }
+
     @DisplayName("존재하지 않는 기사 번호 또는 기사명을 사용하여 기업 기사를 검색하는, 기업 기사 변경")
     @Test
     void notFoundNumberOrNameCompanyArticleModify() throws Exception {
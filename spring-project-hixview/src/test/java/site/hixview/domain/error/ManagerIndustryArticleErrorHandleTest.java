@@ -7,18 +7,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
+import site.hixview.domain.entity.ImportResult;
 import site.hixview.support.context.OnlyRealControllerContext;
 import site.hixview.domain.entity.article.IndustryArticle;
 import site.hixview.domain.entity.article.IndustryArticleBufferSimple;
 import site.hixview.domain.service.IndustryArticleService;
 import site.hixview.domain.validation.validator.IndustryArticleAddSimpleValidator;
 import site.hixview.support.util.IndustryArticleTestUtils;
+import site.hixview.web.cache.ImportResultStore;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
@@ -48,6 +51,9 @@ class ManagerIndustryArticleErrorHandleTest implements IndustryArticleTestUtils
     @Autowired
     private IndustryArticleAddSimpleValidator industryArticleAddSimpleValidator;
 
+    @Autowired
+    private ImportResultStore importResultStore;
+
     @DisplayName("존재하지 않는 대상 1차 업종을 사용하는, 문자열을 사용하는 산업 기사들 추가")
     @Test
     void notFoundSubjectFirstCategoryIndustryArticleAddWithString() throws Exception {
@@ -148,16 +154,18 @@ class ManagerIndustryArticleErrorHandleTest implements IndustryArticleTestUtils
 
         // then
         for (IndustryArticleBufferSimple articleBuffer : List.of(invalidFormatArticleBuffer, invalidFormatArticleAddNameDatePress)) {
-            requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+            ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(
+                            ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                         put(nameDatePressString, articleBuffer.getNameDatePressString());
                         put(linkString, articleBuffer.getLinkString());
                         put(SUBJECT_FIRST_CATEGORY, articleBuffer.getSubjectFirstCategory());
                         put(SUBJECT_SECOND_CATEGORIES, articleBuffer.getSubjectSecondCategories());
                     }}))
-                    .andExpectAll(view().name(
-                                    REDIRECT_URL + ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL),
-                            model().attribute(IS_BEAN_VALIDATION_ERROR, String.valueOf(false)),
-                            model().attribute(ERROR_SINGLE, NUMBER_FORMAT_LOCAL_DATE_ERROR)));
+                    .andExpect(view().name(REDIRECT_URL + ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL))
+                    .andReturn());
+
+            assertThat(result.isBeanValidationError()).isFalse();
+            assertThat(result.getErrorSingle()).isEqualTo(NUMBER_FORMAT_LOCAL_DATE_ERROR);
         }
     }
 
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import site.hixview.support.context.OnlyRealControllerContext;
+import site.hixview.domain.entity.DataVersion;
+import site.hixview.domain.service.CompanyArticleService;
 import site.hixview.domain.service.CompanyService;
 import site.hixview.support.util.CompanyTestUtils;
 
@@ -30,6 +32,9 @@ class UserCompanyErrorHandleTest implements CompanyTestUtils {
     @Autowired
     private CompanyService companyService;
 
+    @Autowired
+    private CompanyArticleService companyArticleService;
+
     @DisplayName("비어 있는 값을 사용하는 기업 검색")
     @Test
     void emptyCompanySearch() throws Exception {
@@ -42,6 +47,8 @@ class UserCompanyErrorHandleTest implements CompanyTestUtils {
     @Test
     void notFoundCodeOrNameCompanySearch() throws Exception {
         // given & when
+        when(companyService.getCatalogVersion()).thenReturn(DataVersion.initial());
+        when(companyArticleService.getArticlesVersion()).thenReturn(DataVersion.initial());
         when(companyService.findCompanyByCodeOrName(any())).thenReturn(Optional.empty());
 
         // then
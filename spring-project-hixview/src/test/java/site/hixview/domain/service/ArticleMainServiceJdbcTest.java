@@ -12,7 +12,6 @@ import site.hixview.support.util.ArticleMainTestUtils;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -39,7 +38,7 @@ class ArticleMainServiceJdbcTest implements ArticleMainTestUtils {
         ArticleMain firstArticle = testCompanyArticleMain;
         ArticleMain secondArticle = testNewCompanyArticleMain;
         when(articleMainRepository.getArticles()).thenReturn(List.of(firstArticle, secondArticle));
-        when(articleMainRepository.getArticleByName(any())).thenReturn(Optional.empty());
+        when(articleMainRepository.existsByName(any())).thenReturn(false);
         when(articleMainRepository.saveArticle(firstArticle)).thenReturn(1L);
         when(articleMainRepository.saveArticle(secondArticle)).thenReturn(2L);
 
@@ -59,7 +58,7 @@ class ArticleMainServiceJdbcTest implements ArticleMainTestUtils {
         // given
         ArticleMain article = ArticleMain.builder().article(testCompanyArticleMain).number(1L).build();
         when(articleMainRepository.getArticles()).thenReturn(List.of(article));
-        when(articleMainRepository.getArticleByName(article.getName())).thenReturn(Optional.empty());
+        when(articleMainRepository.existsByName(article.getName())).thenReturn(false);
         when(articleMainRepository.saveArticle(article)).thenReturn(1L);
 
         // when
@@ -76,8 +75,6 @@ class ArticleMainServiceJdbcTest implements ArticleMainTestUtils {
     public void registerDuplicatedArticleMainWithSameNameTest() {
         // given
         ArticleMain firstRegisteredArticle = testCompanyArticleMain;
-        when(articleMainRepository.getArticleByName(firstRegisteredArticle.getName()))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(firstRegisteredArticle));
         when(articleMainRepository.saveArticle(firstRegisteredArticle)).thenReturn(1L);
 
         // when
@@ -93,7 +90,7 @@ class ArticleMainServiceJdbcTest implements ArticleMainTestUtils {
     @Test
     public void correctArticleMainWithFaultNameTest() {
         // given
-        when(articleMainRepository.getArticleByName(any())).thenReturn(Optional.empty());
+        when(articleMainRepository.updateArticle(testCompanyArticleMain)).thenReturn(0);
 
         // when
         NotFoundException e = assertThrows(NotFoundException.class,
@@ -109,10 +106,8 @@ class ArticleMainServiceJdbcTest implements ArticleMainTestUtils {
         // given
         ArticleMain article = testCompanyArticleMain;
         when(articleMainRepository.getArticles()).thenReturn(Collections.emptyList());
-        when(articleMainRepository.getArticleByName(article.getName()))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(article));
         when(articleMainRepository.saveArticle(article)).thenReturn(1L);
-        doNothing().when(articleMainRepository).deleteArticleByName(article.getName());
+        when(articleMainRepository.deleteArticleByName(article.getName())).thenReturn(1);
 
         articleMainService.registerArticle(article);
 
@@ -127,7 +122,7 @@ class ArticleMainServiceJdbcTest implements ArticleMainTestUtils {
     @Test
     public void removeArticleMainByFaultNameTest() {
         // given
-        when(articleMainRepository.getArticleByName(any())).thenReturn(Optional.empty());
+        when(articleMainRepository.deleteArticleByName(INVALID_VALUE)).thenReturn(0);
 
         // when
         NotFoundException e = assertThrows(NotFoundException.class,
@@ -3,6 +3,7 @@ package site.hixview.domain.service;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import site.hixview.support.context.OnlyRealServiceContext;
 import site.hixview.domain.entity.article.CompanyArticle;
 import site.hixview.domain.error.AlreadyExistException;
@@ -38,8 +39,8 @@ class CompanyArticleServiceJdbcTest implements CompanyArticleTestUtils {
         // given
         CompanyArticle article = CompanyArticle.builder().article(testCompanyArticle).number(1L).build();
         when(companyArticleRepository.getArticleByNumber(article.getNumber())).thenReturn(Optional.of(article));
-        when(companyArticleRepository.getArticleByName(article.getName()))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(article));
+        when(companyArticleRepository.existsByName(article.getName())).thenReturn(false);
+        when(companyArticleRepository.getArticleByName(article.getName())).thenReturn(Optional.of(article));
         when(companyArticleRepository.saveArticle(article)).thenReturn(1L);
 
         // when
@@ -60,9 +61,8 @@ class CompanyArticleServiceJdbcTest implements CompanyArticleTestUtils {
         CompanyArticle firstArticle = testCompanyArticle;
         CompanyArticle secondArticle = testNewCompanyArticle;
         when(companyArticleRepository.getArticles()).thenReturn(List.of(firstArticle, secondArticle));
-        when(companyArticleRepository.getArticleByName(any())).thenReturn(Optional.empty());
-        when(companyArticleRepository.saveArticle(firstArticle)).thenReturn(1L);
-        when(companyArticleRepository.saveArticle(secondArticle)).thenReturn(2L);
+        when(companyArticleRepository.existsByName(any())).thenReturn(false);
+        when(companyArticleRepository.saveArticles(List.of(firstArticle, secondArticle))).thenReturn(List.of(1L, 2L));
         articleService.registerArticles(firstArticle, secondArticle);
 
         // then
@@ -78,7 +78,7 @@ class CompanyArticleServiceJdbcTest implements CompanyArticleTestUtils {
         // given
         CompanyArticle article = CompanyArticle.builder().article(testCompanyArticle).number(1L).build();
         when(companyArticleRepository.getArticles()).thenReturn(List.of(article));
-        when(companyArticleRepository.getArticleByName(article.getName())).thenReturn(Optional.empty());
+        when(companyArticleRepository.existsByName(article.getName())).thenReturn(false);
         when(companyArticleRepository.saveArticle(article)).thenReturn(1L);
 
         // when
@@ -96,8 +96,6 @@ class CompanyArticleServiceJdbcTest implements CompanyArticleTestUtils {
         // given
         CompanyArticle article = testCompanyArticle;
         String duplicatedName = article.getName();
-        when(companyArticleRepository.getArticleByName(duplicatedName))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(article));
         when(companyArticleRepository.saveArticle(article)).thenReturn(1L);
 
         // when
@@ -109,11 +107,26 @@ class CompanyArticleServiceJdbcTest implements CompanyArticleTestUtils {
         assertThat(e.getMessage()).isEqualTo(ALREADY_EXIST_COMPANY_ARTICLE_NAME);
     }
 
+    @DisplayName("기업 기사 이미 등록된 이름으로 등록")
+    @Test
+    void registerAlreadyExistCompanyArticleTest() {
+        // given
+        CompanyArticle article = CompanyArticle.builder().article(testCompanyArticle).build();
+        when(companyArticleRepository.saveArticle(article)).thenThrow(new DuplicateKeyException(article.getName()));
+
+        // when
+        AlreadyExistException e = assertThrows(AlreadyExistException.class,
+                () -> articleService.registerArticle(article));
+
+        // then
+        assertThat(e.getMessage()).isEqualTo(ALREADY_EXIST_COMPANY_ARTICLE_NAME);
+    }
+
     @DisplayName("기업 기사 존재하지 않는 이름으로 수정")
     @Test
     void correctCompanyArticleWithFaultNameTest() {
         // given
-        when(companyArticleRepository.getArticleByName(any())).thenReturn(Optional.empty());
+        when(companyArticleRepository.updateArticle(testCompanyArticle)).thenReturn(0);
 
         // when
         NotFoundException e = assertThrows(NotFoundException.class,
@@ -130,10 +143,8 @@ class CompanyArticleServiceJdbcTest implements CompanyArticleTestUtils {
         CompanyArticle article = testCompanyArticle;
         String name = article.getName();
         when(companyArticleRepository.getArticles()).thenReturn(Collections.emptyList());
-        when(companyArticleRepository.getArticleByName(name))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(article));
         when(companyArticleRepository.saveArticle(article)).thenReturn(1L);
-        doNothing().when(companyArticleRepository).deleteArticleByName(name);
+        when(companyArticleRepository.deleteArticleByName(name)).thenReturn(1);
 
         articleService.registerArticle(article);
 
@@ -148,7 +159,7 @@ class CompanyArticleServiceJdbcTest implements CompanyArticleTestUtils {
     @Test
     void removeCompanyArticleByFaultNameTest() {
         // given
-        when(companyArticleRepository.getArticleByName(any())).thenReturn(Optional.empty());
+        when(companyArticleRepository.deleteArticleByName(INVALID_VALUE)).thenReturn(0);
 
         // when
         NotFoundException e = assertThrows(NotFoundException.class,
@@ -0,0 +1,68 @@
+package site.hixview.domain.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import site.hixview.domain.entity.company.Company;
+import site.hixview.support.property.TestSchemaName;
+import site.hixview.support.util.CompanyTestUtils;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestSchemaName
+class CompanyServiceConnectionTest implements CompanyTestUtils {
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.datasource.hikari.pool-name}")
+    private String poolName;
+
+    private final JdbcTemplate jdbcTemplateTest;
+
+    @Autowired
+    CompanyServiceConnectionTest(DataSource dataSource) {
+        jdbcTemplateTest = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        resetTable(jdbcTemplateTest, TEST_COMPANIES_SCHEMA);
+    }
+
+    @DisplayName("캐시된 기업 조회는 커넥션을 빌리지 않음")
+    @Test
+    void findCachedCompanyWithoutConnectionTest() {
+        // given
+        Company company = samsungElectronics;
+        companyService.registerCompany(company);
+        companyService.findCompanyByCode(company.getCode());
+        companyService.findCompanyByName(company.getName());
+        long acquiredCount = getAcquiredConnectionCount();
+
+        // when
+        companyService.findCompanyByCode(company.getCode());
+        companyService.findCompanyByName(company.getName());
+        companyService.findCompanyByCodeOrName(company.getCode());
+        companyService.existsCompanyByCode(company.getCode());
+        companyService.existsCompanyByName(company.getName());
+
+        // then
+        assertThat(getAcquiredConnectionCount()).isEqualTo(acquiredCount);
+    }
+
+    private long getAcquiredConnectionCount() {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", poolName).timer().count();
+    }
+}
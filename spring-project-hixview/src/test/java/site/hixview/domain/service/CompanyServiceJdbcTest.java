@@ -5,18 +5,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import site.hixview.support.context.OnlyRealServiceContext;
 import site.hixview.domain.entity.company.Company;
+import site.hixview.domain.error.AlreadyExistException;
+import site.hixview.domain.repository.CompanyArticleRepository;
 import site.hixview.domain.repository.CompanyRepository;
 import site.hixview.support.util.CompanyArticleTestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static site.hixview.domain.vo.ExceptionMessage.ALREADY_EXIST_COMPANY_CODE;
 import static site.hixview.domain.vo.ExceptionMessage.NO_COMPANY_WITH_THAT_CODE;
 import static site.hixview.support.util.CompanyTestUtils.samsungElectronics;
@@ -31,13 +33,16 @@ class CompanyServiceJdbcTest implements CompanyArticleTestUtils {
     @Autowired
     private CompanyRepository companyRepository;
 
+    @Autowired
+    private CompanyArticleRepository companyArticleRepository;
+
     @DisplayName("기업 코드와 이름으로 기업 찾기")
     @Test
     void findCompanyWithCodeAndNameTest() {
         // given
         Company company = samsungElectronics;
-        when(companyRepository.getCompanyByCode(company.getCode()))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(company));
+        when(companyRepository.existsByCode(company.getCode())).thenReturn(false);
+        when(companyRepository.getCompanyByCode(company.getCode())).thenReturn(Optional.of(company));
         when(companyRepository.getCompanyByName(company.getName())).thenReturn(Optional.of(company));
         doNothing().when(companyRepository).saveCompany(company);
 
@@ -52,13 +57,79 @@ class CompanyServiceJdbcTest implements CompanyArticleTestUtils {
         }
     }
 
+    @DisplayName("기업 조회 캐시와 수정 시 무효화")
+    @Test
+    void findCachedCompanyAndInvalidateOnCorrectionTest() {
+        // given
+        Company company = Company.builder().company(skHynix).code("000001").name("캐시 기업").build();
+        Company correctedCompany = Company.builder().company(company).name("수정된 캐시 기업").build();
+        when(companyRepository.getCompanyByCode(company.getCode()))
+                .thenReturn(Optional.of(company)).thenReturn(Optional.of(correctedCompany));
+        when(companyRepository.updateCompany(correctedCompany)).thenReturn(1);
+
+        // when
+        companyService.findCompanyByCodeOrName(company.getCode());
+        Optional<Company> cachedCompany = companyService.findCompanyByCodeOrName(company.getCode());
+        companyService.correctCompany(correctedCompany);
+
+        // then
+        assertThat(cachedCompany.orElseThrow()).usingRecursiveComparison().isEqualTo(company);
+        assertThat(companyService.findCompanyByCodeOrName(company.getCode()).orElseThrow())
+                .usingRecursiveComparison().isEqualTo(correctedCompany);
+        verify(companyRepository, times(2)).getCompanyByCode(company.getCode());
+        verify(companyArticleRepository).updateSubjectCompany(company.getCode(), correctedCompany.getName());
+    }
+
+    @DisplayName("기업 코드들과 이름들로 한 번에 조회")
+    @Test
+    void findCompaniesByCodesOrNamesTest() {
+        // given
+        Company codeCompany = Company.builder().company(skHynix).code("000002").name("코드 기업").build();
+        Company nameCompany = Company.builder().company(skHynix).code("000003").name("이름 기업").build();
+        List<String> codesOrNames = List.of(codeCompany.getCode(), nameCompany.getName(), "000004");
+        when(companyRepository.getCompaniesByCodesOrNames(argThat(keys -> keys != null && keys.contains(codeCompany.getCode()))))
+                .thenReturn(Map.of(codeCompany.getCode(), codeCompany));
+        when(companyRepository.getCompaniesByCodesOrNames(argThat(keys -> keys != null && keys.contains(nameCompany.getName()))))
+                .thenReturn(Map.of(nameCompany.getName(), nameCompany));
+
+        // when
+        Map<String, Company> companies = companyService.findCompaniesByCodesOrNames(codesOrNames);
+
+        // then
+        assertThat(companies).containsOnlyKeys(codeCompany.getCode(), nameCompany.getName());
+        assertThat(companies.get(nameCompany.getName())).usingRecursiveComparison().isEqualTo(nameCompany);
+        verify(companyRepository, never()).getCompanyByCode(codeCompany.getCode());
+        verify(companyRepository, never()).getCompanyByName(nameCompany.getName());
+    }
+
+    @DisplayName("기업 조회 캐시로 기업 존재 여부 확인")
+    @Test
+    void existsCompanyFromCacheTest() {
+        // given
+        Company company = Company.builder().company(skHynix).code("000005").name("존재 확인 기업").build();
+        when(companyRepository.getCompanyByCode(company.getCode())).thenReturn(Optional.of(company));
+        when(companyRepository.getCompanyByName(company.getName())).thenReturn(Optional.empty());
+
+        // when
+        companyService.findCompanyByCode(company.getCode());
+        companyService.findCompanyByName(company.getName());
+
+        // then
+        assertThat(companyService.existsCompanyByCode(company.getCode())).isTrue();
+        assertThat(companyService.existsCompanyByName(company.getName())).isFalse();
+        verify(companyRepository).getCompanyByCode(company.getCode());
+        verify(companyRepository).getCompanyByName(company.getName());
+        verify(companyRepository, never()).existsByCode(company.getCode());
+        verify(companyRepository, never()).existsByName(company.getName());
+    }
+
     @DisplayName("기업 등록")
     @Test
     void registerCompanyTest() {
         // given
         Company company = samsungElectronics;
         when(companyRepository.getCompanies()).thenReturn(List.of(company));
-        when(companyRepository.getCompanyByCode(company.getCode())).thenReturn(Optional.empty());
+        when(companyRepository.existsByCode(company.getCode())).thenReturn(false);
         doNothing().when(companyRepository).saveCompany(company);
 
         // when
@@ -75,10 +146,9 @@ class CompanyServiceJdbcTest implements CompanyArticleTestUtils {
         Company firstCompany = samsungElectronics;
         Company secondCompany = skHynix;
         when(companyRepository.getCompanies()).thenReturn(List.of(firstCompany, secondCompany));
-        when(companyRepository.getCompanyByCode(firstCompany.getCode())).thenReturn(Optional.empty());
-        when(companyRepository.getCompanyByCode(secondCompany.getCode())).thenReturn(Optional.empty());
-        doNothing().when(companyRepository).saveCompany(firstCompany);
-        doNothing().when(companyRepository).saveCompany(secondCompany);
+        when(companyRepository.existsByCode(firstCompany.getCode())).thenReturn(false);
+        when(companyRepository.existsByCode(secondCompany.getCode())).thenReturn(false);
+        doNothing().when(companyRepository).saveCompanies(List.of(firstCompany, secondCompany));
 
         // when
         companyService.registerCompanies(firstCompany, secondCompany);
@@ -94,12 +164,9 @@ class CompanyServiceJdbcTest implements CompanyArticleTestUtils {
         // given
         Company company = samsungElectronics;
         String duplicatedCode = company.getCode();
-        when(companyRepository.getCompanyByCode(duplicatedCode))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(company));
-        doNothing().when(companyRepository).saveCompany(company);
 
         // when
-        IllegalStateException e = assertThrows(IllegalStateException.class,
+        AlreadyExistException e = assertThrows(AlreadyExistException.class,
                 () -> companyService.registerCompanies(company,
                         Company.builder().company(skHynix).code(duplicatedCode).build()));
 
@@ -111,7 +178,7 @@ class CompanyServiceJdbcTest implements CompanyArticleTestUtils {
     @Test
     void correctCompanyByFaultCodeTest() {
         // given
-        when(companyRepository.getCompanyByCode(samsungElectronics.getCode())).thenReturn(Optional.empty());
+        when(companyRepository.updateCompany(samsungElectronics)).thenReturn(0);
 
         // when
         IllegalStateException e = assertThrows(IllegalStateException.class,
@@ -128,10 +195,8 @@ class CompanyServiceJdbcTest implements CompanyArticleTestUtils {
         Company company = samsungElectronics;
         String code = company.getCode();
         when(companyRepository.getCompanies()).thenReturn(emptyList());
-        when(companyRepository.getCompanyByCode(code))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(company));
         doNothing().when(companyRepository).saveCompany(company);
-        doNothing().when(companyRepository).deleteCompanyByCode(code);
+        when(companyRepository.deleteCompanyByCode(code)).thenReturn(1);
 
         // when
         companyService.registerCompany(company);
@@ -145,7 +210,7 @@ class CompanyServiceJdbcTest implements CompanyArticleTestUtils {
     @Test
     void removeCompanyByFaultCodeTest() {
         // given
-        when(companyRepository.getCompanyByCode(any())).thenReturn(Optional.empty());
+        when(companyRepository.deleteCompanyByCode(INVALID_VALUE)).thenReturn(0);
 
         // when
         IllegalStateException e = assertThrows(IllegalStateException.class,
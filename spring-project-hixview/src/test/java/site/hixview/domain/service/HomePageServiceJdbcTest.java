@@ -0,0 +1,64 @@
+package site.hixview.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import site.hixview.domain.entity.article.ArticleWithMain;
+import site.hixview.domain.entity.article.IndustryArticle;
+import site.hixview.domain.entity.article.HomePageSnapshot;
+import site.hixview.domain.repository.CompanyArticleRepository;
+import site.hixview.domain.repository.IndustryArticleRepository;
+import site.hixview.support.context.OnlyRealServiceContext;
+import site.hixview.support.util.ArticleMainTestUtils;
+import site.hixview.support.util.CompanyArticleTestUtils;
+import site.hixview.support.util.IndustryArticleTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.when;
+
+@OnlyRealServiceContext
+class HomePageServiceJdbcTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, ArticleMainTestUtils {
+
+    @Autowired
+    private HomePageService homePageService;
+
+    @Autowired
+    private CompanyArticleRepository companyArticleRepository;
+
+    @Autowired
+    private IndustryArticleRepository industryArticleRepository;
+
+    @DisplayName("기사 변경 후 홈 페이지 스냅샷 갱신")
+    @Test
+    void refreshHomePageSnapshotTest() {
+        // given
+        ArticleWithMain<IndustryArticle> industryArticle = new ArticleWithMain<>(testIndustryArticle, testIndustryArticleMain);
+        when(companyArticleRepository.getLatestArticleWithMain())
+                .thenReturn(Optional.of(new ArticleWithMain<>(testCompanyArticle, testCompanyArticleMain)));
+        when(industryArticleRepository.getLatestArticleWithMain()).thenReturn(Optional.of(industryArticle));
+        homePageService.refreshAfterCommit();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(latestCompanyArticleName())
+                .isEqualTo(testCompanyArticle.getName()));
+
+        // when
+        when(companyArticleRepository.getLatestArticleWithMain())
+                .thenReturn(Optional.of(new ArticleWithMain<>(testNewCompanyArticle, testNewCompanyArticleMain)));
+        homePageService.refreshAfterCommit();
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(latestCompanyArticleName())
+                .isEqualTo(testNewCompanyArticle.getName()));
+        HomePageSnapshot snapshot = homePageService.getSnapshot();
+        assertThat(snapshot.getLatestIndustryArticle().orElseThrow()).isSameAs(industryArticle);
+        assertThat(snapshot.getLatestCompanyArticle().orElseThrow().getArticleMain()).isSameAs(testNewCompanyArticleMain);
+    }
+
+    private String latestCompanyArticleName() {
+        return homePageService.getSnapshot().getLatestCompanyArticle()
+                .map(articleWithMain -> articleWithMain.getArticle().getName()).orElse(null);
+    }
+}
@@ -0,0 +1,79 @@
+package site.hixview.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.ImportJobStatus;
+import site.hixview.domain.entity.ImportJobTarget;
+import site.hixview.domain.error.ImportJobCheckpointMovedException;
+import site.hixview.domain.repository.ImportJobRepository;
+import site.hixview.support.context.OnlyRealServiceContext;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+import static site.hixview.domain.vo.ExceptionMessage.IMPORT_JOB_CHECKPOINT_MOVED;
+
+@OnlyRealServiceContext
+class ImportJobServiceJdbcTest {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @DisplayName("가져오기 작업 등록")
+    @Test
+    void registerImportJobTest() {
+        // given
+        ImportJob job = ImportJob.builder().target(ImportJobTarget.COMPANY_ARTICLE).subject("삼성전자")
+                .nameDatePressString("기사\n(2024-6-18, SBS)").linkString("https://www.sbs.co.kr").totalRows(1).build();
+        when(importJobRepository.saveJob(argThat(saved -> saved.getStatus() == ImportJobStatus.QUEUED)))
+                .thenReturn(1L);
+
+        // when
+        ImportJob registeredJob = importJobService.registerJob(job);
+
+        // then
+        assertThat(registeredJob.getId()).isEqualTo(1L);
+        assertThat(registeredJob.getStatus()).isEqualTo(ImportJobStatus.QUEUED);
+    }
+
+    @DisplayName("가져오기 작업 배치 반영")
+    @Test
+    void commitImportJobBatchTest() {
+        // given
+        AtomicInteger insertCount = new AtomicInteger();
+        ImportJobHandler.Batch batch = new ImportJobHandler.Batch(List.of(), insertCount::incrementAndGet);
+        when(importJobRepository.updateProgress(2L, 0, 500, 1, List.of())).thenReturn(1);
+
+        // when
+        importJobService.commitBatch(2L, 0, 500, batch);
+
+        // then
+        assertThat(insertCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("이미 이동된 체크포인트로 가져오기 작업 배치 반영")
+    @Test
+    void commitImportJobBatchWithMovedCheckpointTest() {
+        // given
+        ImportJobHandler.Batch batch = new ImportJobHandler.Batch(List.of(), () -> 500);
+        when(importJobRepository.updateProgress(any(), any(Integer.class), any(Integer.class), any(Integer.class),
+                any())).thenReturn(0);
+
+        // when
+        ImportJobCheckpointMovedException e = assertThrows(ImportJobCheckpointMovedException.class,
+                () -> importJobService.commitBatch(3L, 0, 500, batch));
+
+        // then
+        assertThat(e.getMessage()).isEqualTo(IMPORT_JOB_CHECKPOINT_MOVED);
+    }
+}
@@ -40,8 +40,8 @@ class IndustryArticleServiceJdbcTest implements IndustryArticleTestUtils {
         // given
         IndustryArticle article = IndustryArticle.builder().article(testIndustryArticle).number(1L).build();
         when(industryArticleRepository.getArticleByNumber(article.getNumber())).thenReturn(Optional.of(article));
-        when(industryArticleRepository.getArticleByName(article.getName()))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(article));
+        when(industryArticleRepository.existsByName(article.getName())).thenReturn(false);
+        when(industryArticleRepository.getArticleByName(article.getName())).thenReturn(Optional.of(article));
         when(industryArticleRepository.saveArticle(article)).thenReturn(1L);
 
         // when
@@ -63,9 +63,8 @@ class IndustryArticleServiceJdbcTest implements IndustryArticleTestUtils {
         IndustryArticle firstArticle = testIndustryArticle;
         IndustryArticle secondArticle = testNewIndustryArticle;
         when(industryArticleRepository.getArticles()).thenReturn(List.of(firstArticle, secondArticle));
-        when(industryArticleRepository.getArticleByName(any())).thenReturn(Optional.empty());
-        when(industryArticleRepository.saveArticle(firstArticle)).thenReturn(1L);
-        when(industryArticleRepository.saveArticle(secondArticle)).thenReturn(2L);
+        when(industryArticleRepository.existsByName(any())).thenReturn(false);
+        when(industryArticleRepository.saveArticles(List.of(firstArticle, secondArticle))).thenReturn(List.of(1L, 2L));
         articleService.registerArticles(firstArticle, secondArticle);
 
         // then
@@ -81,7 +80,7 @@ class IndustryArticleServiceJdbcTest implements IndustryArticleTestUtils {
         // given
         IndustryArticle article = IndustryArticle.builder().article(testIndustryArticle).number(1L).build();
         when(industryArticleRepository.getArticles()).thenReturn(List.of(article));
-        when(industryArticleRepository.getArticleByName(article.getName())).thenReturn(Optional.empty());
+        when(industryArticleRepository.existsByName(article.getName())).thenReturn(false);
         when(industryArticleRepository.saveArticle(article)).thenReturn(1L);
 
         // when
@@ -100,8 +99,6 @@ class IndustryArticleServiceJdbcTest implements IndustryArticleTestUtils {
         // given
         IndustryArticle article = testIndustryArticle;
         String duplicatedName = article.getName();
-        when(industryArticleRepository.getArticleByName(duplicatedName))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(article));
         when(industryArticleRepository.saveArticle(article)).thenReturn(1L);
 
         // when
@@ -117,7 +114,7 @@ class IndustryArticleServiceJdbcTest implements IndustryArticleTestUtils {
     @Test
     void correctIndustryArticleWithFaultNameTest() {
         // given
-        when(industryArticleRepository.getArticleByName(any())).thenReturn(Optional.empty());
+        when(industryArticleRepository.updateArticle(testIndustryArticle)).thenReturn(0);
 
         // when
         NotFoundException e = assertThrows(NotFoundException.class,
@@ -134,10 +131,8 @@ class IndustryArticleServiceJdbcTest implements IndustryArticleTestUtils {
         IndustryArticle article = testIndustryArticle;
         String name = article.getName();
         when(industryArticleRepository.getArticles()).thenReturn(Collections.emptyList());
-        when(industryArticleRepository.getArticleByName(name))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(article));
         when(industryArticleRepository.saveArticle(article)).thenReturn(1L);
-        doNothing().when(industryArticleRepository).deleteArticleByName(name);
+        when(industryArticleRepository.deleteArticleByName(name)).thenReturn(1);
         articleService.registerArticle(article);
 
         // when
@@ -151,7 +146,7 @@ class IndustryArticleServiceJdbcTest implements IndustryArticleTestUtils {
     @Test
     void removeIndustryArticleByFaultNameTest() {
         // given
-        when(industryArticleRepository.getArticleByName(any())).thenReturn(Optional.empty());
+        when(industryArticleRepository.deleteArticleByName(INVALID_VALUE)).thenReturn(0);
 
         // when
         NotFoundException e = assertThrows(NotFoundException.class,
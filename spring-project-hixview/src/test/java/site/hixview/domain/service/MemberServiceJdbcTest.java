@@ -3,14 +3,15 @@ package site.hixview.domain.service;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import site.hixview.support.context.OnlyRealServiceContext;
 import site.hixview.domain.entity.member.Member;
+import site.hixview.domain.error.AlreadyExistException;
 import site.hixview.domain.repository.MemberRepository;
 import site.hixview.support.util.MemberTestUtils;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,7 +36,7 @@ class MemberServiceJdbcTest implements MemberTestUtils {
         // given
         Member member = Member.builder().member(testMember).identifier(1L).build();
         when(memberRepository.getMembers()).thenReturn(List.of(member));
-        when(memberRepository.getMemberByID(member.getId())).thenReturn(Optional.empty());
+        when(memberRepository.existsByID(member.getId())).thenReturn(false);
         when(memberRepository.saveMember(member)).thenReturn(1L);
 
         // when
@@ -49,15 +50,13 @@ class MemberServiceJdbcTest implements MemberTestUtils {
     @Test
     void duplicatedMembershipWithSameIDTest() {
         // given
-        Member member = testMember;
-        String duplicatedId = member.getId();
-        when(memberRepository.getMemberByID(duplicatedId))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(member));
-        when(memberRepository.saveMember(member)).thenReturn(1L);
+        Member member = Member.builder().member(testMember).build();
+        when(memberRepository.saveMember(member))
+                .thenReturn(1L).thenThrow(new DuplicateKeyException(member.getId()));
         memberService.registerMember(member);
 
         // when
-        IllegalStateException e = assertThrows(IllegalStateException.class,
+        AlreadyExistException e = assertThrows(AlreadyExistException.class,
                 () -> memberService.registerMember(member));
 
         // then
@@ -71,10 +70,8 @@ class MemberServiceJdbcTest implements MemberTestUtils {
         Member member = testMember;
         String id = member.getId();
         when(memberRepository.getMembers()).thenReturn(Collections.emptyList());
-        when(memberRepository.getMemberByID(id))
-                .thenReturn(Optional.empty()).thenReturn(Optional.of(member));
         when(memberRepository.saveMember(member)).thenReturn(1L);
-        doNothing().when(memberRepository).deleteMemberById(id);
+        when(memberRepository.deleteMemberById(id)).thenReturn(1);
         memberService.registerMember(member);
 
         // when
@@ -88,7 +85,7 @@ class MemberServiceJdbcTest implements MemberTestUtils {
     @Test
     void removeMemberByFaultIDTest() {
         // given
-        when(memberRepository.getMemberByID(any())).thenReturn(Optional.empty());
+        when(memberRepository.deleteMemberById(INVALID_VALUE)).thenReturn(0);
 
         // when
         IllegalStateException e = assertThrows(IllegalStateException.class,
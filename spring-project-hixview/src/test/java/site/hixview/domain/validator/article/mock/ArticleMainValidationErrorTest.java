@@ -13,7 +13,6 @@ import site.hixview.support.context.RealControllerAndValidatorContext;
 import site.hixview.support.util.ArticleMainTestUtils;
 
 import java.util.List;
-import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,8 +49,8 @@ class ArticleMainValidationErrorTest implements ArticleMainTestUtils {
         // given & when
         ArticleMain notRegisteredArticle = testCompanyArticleMain;
         ArticleMainDto notRegisteredArticleDto = notRegisteredArticle.toDto();
-        when(companyArticleService.findArticleByName(notRegisteredArticle.getName())).thenReturn(Optional.empty());
-        when(industryArticleService.findArticleByName(notRegisteredArticle.getImagePath())).thenReturn(Optional.empty());
+        when(companyArticleService.existsArticleByName(notRegisteredArticle.getName())).thenReturn(false);
+        when(industryArticleService.existsArticleByName(notRegisteredArticle.getImagePath())).thenReturn(false);
 
         // then
         assertThat(requireNonNull(mockMvc.perform(postWithArticleMainDto(ADD_ARTICLE_MAIN_URL, notRegisteredArticleDto))
@@ -68,8 +67,8 @@ class ArticleMainValidationErrorTest implements ArticleMainTestUtils {
     void duplicatedNameOrImagePathArticleMainAdd() throws Exception {
         // given
         ArticleMain article = testCompanyArticleMain;
-        when(articleMainService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
-        when(articleMainService.findArticleByImagePath(article.getImagePath())).thenReturn(Optional.of(article));
+        when(articleMainService.existsArticleByName(article.getName())).thenReturn(true);
+        when(articleMainService.existsArticleByImagePath(article.getImagePath())).thenReturn(true);
         when(articleMainService.registerArticle(article)).thenReturn(article);
 
         ArticleMainDto articleDtoDuplicatedName = createTestNewCompanyArticleMainDto();
@@ -98,7 +97,7 @@ class ArticleMainValidationErrorTest implements ArticleMainTestUtils {
         // given
         ArticleMainDto articleDto = testCompanyArticleMain.toDto();
         ArticleMain article = ArticleMain.builder().articleDto(articleDto).build();
-        when(articleMainService.findArticleByName(article.getName())).thenReturn(Optional.empty());
+        when(articleMainService.existsArticleByName(article.getName())).thenReturn(false);
         when(articleMainService.registerArticle(article)).thenReturn(article);
 
         articleMainService.registerArticle(article);
@@ -13,7 +13,6 @@ import site.hixview.support.util.CompanyArticleTestUtils;
 import site.hixview.support.util.CompanyTestUtils;
 
 import java.util.List;
-import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -81,8 +80,8 @@ public class CompanyArticleValidationErrorTest implements CompanyArticleTestUtil
     public void duplicatedNameOrLinkCompanyArticleAdd() throws Exception {
         // given
         CompanyArticle article = testCompanyArticle;
-        when(articleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
-        when(articleService.findArticleByLink(article.getLink())).thenReturn(Optional.of(article));
+        when(articleService.existsArticleByName(article.getName())).thenReturn(true);
+        when(articleService.existsArticleByLink(article.getLink())).thenReturn(true);
         when(articleService.registerArticle(article)).thenReturn(article);
         doNothing().when(companyService).registerCompany(samsungElectronics);
 
@@ -165,8 +164,8 @@ public class CompanyArticleValidationErrorTest implements CompanyArticleTestUtil
     @Test
     public void changeNameOrLinkCompanyArticleModify() throws Exception {
         // given
-        when(articleService.findArticleByName(testCompanyArticle.getName())).thenReturn(Optional.empty());
-        when(articleService.findArticleByLink(testCompanyArticle.getLink())).thenReturn(Optional.empty());
+        when(articleService.existsArticleByName(testCompanyArticle.getName())).thenReturn(false);
+        when(articleService.existsArticleByLink(testCompanyArticle.getLink())).thenReturn(false);
         when(articleService.registerArticle(testCompanyArticle)).thenReturn(testCompanyArticle);
         CompanyArticle article = articleService.registerArticle(testCompanyArticle);
 
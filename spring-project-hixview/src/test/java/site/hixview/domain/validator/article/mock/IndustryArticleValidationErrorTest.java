@@ -11,7 +11,6 @@ import site.hixview.support.context.RealControllerAndValidatorContext;
 import site.hixview.support.util.IndustryArticleTestUtils;
 
 import java.util.List;
-import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -77,8 +76,8 @@ class IndustryArticleValidationErrorTest implements IndustryArticleTestUtils {
     void duplicatedNameOrLinkIndustryArticleAdd() throws Exception {
         // given
         IndustryArticle article = testIndustryArticle;
-        when(articleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
-        when(articleService.findArticleByLink(article.getLink())).thenReturn(Optional.of(article));
+        when(articleService.existsArticleByName(article.getName())).thenReturn(true);
+        when(articleService.existsArticleByLink(article.getLink())).thenReturn(true);
         when(articleService.registerArticle(article)).thenReturn(article);
 
         IndustryArticleDto articleDtoDuplicatedName = createTestNewIndustryArticleDto();
@@ -142,8 +141,8 @@ class IndustryArticleValidationErrorTest implements IndustryArticleTestUtils {
     @Test
     void changeNameOrLinkIndustryArticleModify() throws Exception {
         // given & when
-        when(articleService.findArticleByName(testIndustryArticle.getName())).thenReturn(Optional.empty());
-        when(articleService.findArticleByLink(testIndustryArticle.getLink())).thenReturn(Optional.empty());
+        when(articleService.existsArticleByName(testIndustryArticle.getName())).thenReturn(false);
+        when(articleService.existsArticleByLink(testIndustryArticle.getLink())).thenReturn(false);
         when(articleService.registerArticle(testIndustryArticle)).thenReturn(testIndustryArticle);
         IndustryArticle article = articleService.registerArticle(testIndustryArticle);
 
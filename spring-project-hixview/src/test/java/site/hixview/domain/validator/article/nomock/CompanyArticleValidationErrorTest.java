@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import site.hixview.domain.entity.ImportResult;
 import site.hixview.domain.entity.article.CompanyArticle;
 import site.hixview.domain.entity.article.CompanyArticleBufferSimple;
 import site.hixview.domain.entity.article.dto.CompanyArticleDto;
@@ -18,19 +19,17 @@ import site.hixview.support.property.TestSchemaName;
 import site.hixview.support.util.CompanyArticleTestUtils;
 import site.hixview.support.util.CompanyTestUtils;
 
+import site.hixview.web.cache.ImportResultStore;
 import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.List;
 
-import static java.util.Objects.requireNonNull;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
 import static site.hixview.domain.vo.RequestUrl.REDIRECT_URL;
-import static site.hixview.domain.vo.Word.ERROR_SINGLE;
 import static site.hixview.domain.vo.manager.RequestURL.ADD_COMPANY_ARTICLE_WITH_STRING_URL;
 import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_COMPANY;
-import static site.hixview.domain.vo.name.ExceptionName.IS_BEAN_VALIDATION_ERROR;
 
 @SpringBootTest(properties = "junit.jupiter.execution.parallel.mode.classes.default=same_thread")
 @AutoConfigureMockMvc
@@ -41,6 +40,9 @@ public class CompanyArticleValidationErrorTest implements CompanyArticleTestUtil
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ImportResultStore importResultStore;
+
     @Autowired
     CompanyArticleService articleService;
 
@@ -74,15 +76,16 @@ public class CompanyArticleValidationErrorTest implements CompanyArticleTestUtil
         companyService.registerCompany(samsungElectronics);
 
         // then
-        requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+        ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                     put(nameDatePressString, articleBuffer.getNameDatePressString());
                     put(SUBJECT_COMPANY, articleBuffer.getSubjectCompany());
                     put(linkString, articleBuffer.getLinkString());
                 }}))
-                .andExpectAll(view().name(
-                                REDIRECT_URL + ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL),
-                        model().attribute(IS_BEAN_VALIDATION_ERROR, String.valueOf(false)),
-                        model().attribute(ERROR_SINGLE, (String) null)));
+                .andExpect(view().name(REDIRECT_URL + ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL))
+                .andReturn());
+
+        assertThat(result.isBeanValidationError()).isFalse();
+        assertThat(result.getErrorSingle()).isNull();
     }
 
     @DisplayName("중복 기사명 또는 기사 링크를 사용하는, 문자열을 사용하는 기업 기사들 추가")
@@ -100,15 +103,16 @@ public class CompanyArticleValidationErrorTest implements CompanyArticleTestUtil
 
         // then
         for (CompanyArticleBufferSimple articleBuffer : List.of(articleBufferDuplicatedName, articleBufferDuplicatedLink)) {
-            requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+            ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                         put(nameDatePressString, articleBuffer.getNameDatePressString());
                         put(SUBJECT_COMPANY, articleBuffer.getSubjectCompany());
                         put(linkString, articleBuffer.getLinkString());
                     }}))
-                    .andExpectAll(view().name(
-                                    REDIRECT_URL + ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL),
-                            model().attribute(IS_BEAN_VALIDATION_ERROR, String.valueOf(false)),
-                            model().attribute(ERROR_SINGLE, (String) null)));
+                    .andExpect(view().name(REDIRECT_URL + ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL))
+                    .andReturn());
+
+            assertThat(result.isBeanValidationError()).isFalse();
+            assertThat(result.getErrorSingle()).isNull();
         }
     }
 }
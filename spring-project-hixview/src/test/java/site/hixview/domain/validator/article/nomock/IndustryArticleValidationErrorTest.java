@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import site.hixview.domain.entity.ImportResult;
 import site.hixview.domain.entity.article.IndustryArticle;
 import site.hixview.domain.entity.article.IndustryArticleBufferSimple;
 import site.hixview.domain.entity.article.dto.IndustryArticleDto;
@@ -16,20 +17,18 @@ import site.hixview.domain.service.IndustryArticleService;
 import site.hixview.support.property.TestSchemaName;
 import site.hixview.support.util.IndustryArticleTestUtils;
 
+import site.hixview.web.cache.ImportResultStore;
 import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.List;
 
-import static java.util.Objects.requireNonNull;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
 import static site.hixview.domain.vo.RequestUrl.REDIRECT_URL;
-import static site.hixview.domain.vo.Word.ERROR_SINGLE;
 import static site.hixview.domain.vo.manager.RequestURL.ADD_INDUSTRY_ARTICLE_WITH_STRING_URL;
 import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_FIRST_CATEGORY;
 import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_SECOND_CATEGORIES;
-import static site.hixview.domain.vo.name.ExceptionName.IS_BEAN_VALIDATION_ERROR;
 
 @SpringBootTest(properties = "junit.jupiter.execution.parallel.mode.classes.default=same_thread")
 @AutoConfigureMockMvc
@@ -40,6 +39,9 @@ class IndustryArticleValidationErrorTest implements IndustryArticleTestUtils {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ImportResultStore importResultStore;
+
     @Autowired
     private IndustryArticleService articleService;
 
@@ -66,16 +68,17 @@ class IndustryArticleValidationErrorTest implements IndustryArticleTestUtils {
         IndustryArticleBufferSimple articleBuffer = IndustryArticleBufferSimple.builder().articleDto(articleDto).build();
 
         // then
-        requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+        ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                     put(nameDatePressString, articleBuffer.getNameDatePressString());
                     put(linkString, articleBuffer.getLinkString());
                     put(SUBJECT_FIRST_CATEGORY, articleBuffer.getSubjectFirstCategory());
                     put(SUBJECT_SECOND_CATEGORIES, articleBuffer.getSubjectSecondCategories());
                 }}))
-                .andExpectAll(view().name(
-                                REDIRECT_URL + ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL),
-                        model().attribute(IS_BEAN_VALIDATION_ERROR, String.valueOf(false)),
-                        model().attribute(ERROR_SINGLE, (String) null)));
+                .andExpect(view().name(REDIRECT_URL + ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL))
+                .andReturn());
+
+        assertThat(result.isBeanValidationError()).isFalse();
+        assertThat(result.getErrorSingle()).isNull();
     }
 
     @DisplayName("중복 기사명 또는 기사 링크를 사용하는, 문자열을 사용하는 산업 기사들 추가")
@@ -92,16 +95,17 @@ class IndustryArticleValidationErrorTest implements IndustryArticleTestUtils {
 
         // then
         for (IndustryArticleBufferSimple articleBuffer : List.of(articleBufferDuplicatedName, articleBufferDuplicatedLink)) {
-            requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+            ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                         put(nameDatePressString, articleBuffer.getNameDatePressString());
                         put(linkString, articleBuffer.getLinkString());
                         put(SUBJECT_FIRST_CATEGORY, articleBuffer.getSubjectFirstCategory());
                         put(SUBJECT_SECOND_CATEGORIES, articleBuffer.getSubjectSecondCategories());
                     }}))
-                    .andExpectAll(view().name(
-                                    REDIRECT_URL + ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL),
-                            model().attribute(IS_BEAN_VALIDATION_ERROR, String.valueOf(false)),
-                            model().attribute(ERROR_SINGLE, (String) null)));
+                    .andExpect(view().name(REDIRECT_URL + ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL))
+                    .andReturn());
+
+            assertThat(result.isBeanValidationError()).isFalse();
+            assertThat(result.getErrorSingle()).isNull();
         }
     }
 }
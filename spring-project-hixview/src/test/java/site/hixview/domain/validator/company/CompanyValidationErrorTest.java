@@ -11,7 +11,6 @@ import site.hixview.support.context.RealControllerAndValidatorContext;
 import site.hixview.support.util.CompanyTestUtils;
 
 import java.util.List;
-import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,8 +39,8 @@ public class CompanyValidationErrorTest implements CompanyTestUtils {
     public void duplicatedCodeOrNameCompanyAdd() throws Exception {
         // given
         Company company = samsungElectronics;
-        when(companyService.findCompanyByCode(company.getCode())).thenReturn(Optional.of(company));
-        when(companyService.findCompanyByName(company.getName())).thenReturn(Optional.of(company));
+        when(companyService.existsCompanyByCode(company.getCode())).thenReturn(true);
+        when(companyService.existsCompanyByName(company.getName())).thenReturn(true);
         doNothing().when(companyService).registerCompany(company);
 
         CompanyDto companyDtoDuplicatedCode = createSKHynixDto();
@@ -69,7 +68,7 @@ public class CompanyValidationErrorTest implements CompanyTestUtils {
     public void changeCodeOrNameCompanyModify() throws Exception {
         // given
         Company company = samsungElectronics;
-        when(companyService.findCompanyByName(company.getName())).thenReturn(Optional.empty());
+        when(companyService.existsCompanyByName(company.getName())).thenReturn(false);
         doNothing().when(companyService).registerCompany(company);
 
         // when
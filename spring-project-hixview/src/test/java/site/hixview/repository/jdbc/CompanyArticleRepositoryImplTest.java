@@ -5,12 +5,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import site.hixview.domain.entity.article.ArticleMain;
+import site.hixview.domain.entity.article.ArticleWithMain;
 import site.hixview.domain.entity.article.CompanyArticle;
+import site.hixview.domain.repository.ArticleMainRepository;
 import site.hixview.domain.repository.CompanyArticleRepository;
+import site.hixview.domain.repository.CompanyRepository;
 import site.hixview.support.context.OnlyRealRepositoryContext;
+import site.hixview.support.util.ArticleMainTestUtils;
 import site.hixview.support.util.CompanyArticleTestUtils;
+import site.hixview.support.util.CompanyTestUtils;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -20,11 +27,17 @@ import static site.hixview.domain.vo.Word.NAME;
 import static site.hixview.domain.vo.name.EntityName.Article.NUMBER;
 
 @OnlyRealRepositoryContext
-class CompanyArticleRepositoryImplTest implements CompanyArticleTestUtils {
+class CompanyArticleRepositoryImplTest implements CompanyArticleTestUtils, ArticleMainTestUtils, CompanyTestUtils {
 
     @Autowired
     private CompanyArticleRepository articleRepository;
 
+    @Autowired
+    private ArticleMainRepository articleMainRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
     private final JdbcTemplate jdbcTemplateTest;
 
     @Autowired
@@ -35,6 +48,8 @@ class CompanyArticleRepositoryImplTest implements CompanyArticleTestUtils {
     @BeforeEach
     void beforeEach() {
         resetTable(jdbcTemplateTest, TEST_COMPANY_ARTICLES_SCHEMA, true);
+        resetTable(jdbcTemplateTest, TEST_ARTICLE_MAINS_SCHEMA, true);
+        resetTable(jdbcTemplateTest, TEST_COMPANIES_SCHEMA);
     }
 
     @DisplayName("기업 기사들 획득")
@@ -55,6 +70,81 @@ class CompanyArticleRepositoryImplTest implements CompanyArticleTestUtils {
                 .isEqualTo(List.of(article1, article2));
     }
 
+    @DisplayName("기업 기사들 기업 코드와 번호 커서로 획득")
+    @Test
+    void getCompanyArticlesByCompanyTest() {
+        // given
+        companyRepository.saveCompany(samsungElectronics);
+        companyRepository.saveCompany(skHynix);
+        CompanyArticle article1 = testCompanyArticle;
+        CompanyArticle article2 = testNewCompanyArticle;
+        CompanyArticle otherCompanyArticle = CompanyArticle.builder().article(testEqualDateCompanyArticle)
+                .subjectCompany(skHynix.getName()).build();
+
+        // when
+        Long number1 = articleRepository.saveArticle(article1);
+        articleRepository.saveArticle(otherCompanyArticle);
+        Long number2 = articleRepository.saveArticle(article2);
+
+        // then
+        assertThat(articleRepository.getArticlesByCompany(samsungElectronics.getCode(), null, 10))
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(article2, article1));
+        assertThat(articleRepository.getArticlesByCompany(samsungElectronics.getCode(), number2, 10))
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(article1));
+        assertThat(articleRepository.getArticlesByCompany(samsungElectronics.getCode(), number1, 10)).isEmpty();
+    }
+
+    @DisplayName("기업 이름 변경 후 기업 기사들 기업 코드로 획득")
+    @Test
+    void getCompanyArticlesByCompanyAfterRenameTest() {
+        // given
+        companyRepository.saveCompany(samsungElectronics);
+        CompanyArticle article = testCompanyArticle;
+        articleRepository.saveArticle(article);
+        String newName = "삼성전자우";
+
+        // when
+        articleRepository.updateSubjectCompany(samsungElectronics.getCode(), newName);
+
+        // then
+        assertThat(articleRepository.getArticlesByCompany(samsungElectronics.getCode(), null, 10))
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(CompanyArticle.builder().article(article).subjectCompany(newName).build()));
+    }
+
+    @DisplayName("기업 기사들 번호 커서로 획득")
+    @Test
+    void getCompanyArticlesByCursorTest() {
+        // given
+        CompanyArticle article1 = testCompanyArticle;
+        CompanyArticle article2 = testEqualDateCompanyArticle;
+        CompanyArticle article3 = testNewCompanyArticle;
+
+        // when
+        Long number1 = articleRepository.saveArticle(article1);
+        Long number2 = articleRepository.saveArticle(article2);
+        Long number3 = articleRepository.saveArticle(article3);
+
+        // then
+        assertThat(articleRepository.getArticlesAfter(number1, 2))
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(article2, article3));
+        assertThat(articleRepository.getArticlesBefore(number3, 1))
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(article2));
+        assertThat(articleRepository.getArticlesBefore(number2, 2))
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(article1));
+    }
+
     @DisplayName("기업 기사들 날짜로 획득")
     @Test
     void getCompanyArticleByDateTest() {
@@ -118,6 +208,40 @@ class CompanyArticleRepositoryImplTest implements CompanyArticleTestUtils {
                 .isEqualTo(List.of(article1, article2));
     }
 
+    @DisplayName("최신 기업 기사와 메인 기사 함께 획득")
+    @Test
+    void getLatestCompanyArticleWithMainTest() {
+        // given
+        CompanyArticle article = testCompanyArticle;
+        ArticleMain articleMain = testCompanyArticleMain;
+
+        // when
+        articleRepository.saveArticle(testEqualDateCompanyArticle);
+        articleRepository.saveArticle(article);
+        articleMainRepository.saveArticle(articleMain);
+
+        // then
+        ArticleWithMain<CompanyArticle> articleWithMain = articleRepository.getLatestArticleWithMain().orElseThrow();
+        assertThat(articleWithMain.getArticle())
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(article);
+        assertThat(articleWithMain.getArticleMain())
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(articleMain);
+    }
+
+    @DisplayName("메인 기사가 없는 최신 기업 기사 획득")
+    @Test
+    void getLatestCompanyArticleWithNoMainTest() {
+        // given & when
+        articleRepository.saveArticle(testCompanyArticle);
+
+        // then
+        assertThat(articleRepository.getLatestArticleWithMain()).isEmpty();
+    }
+
     @DisplayName("번호로 기업 기사 획득")
     @Test
     void getCompanyArticleByNumberTest() {
@@ -187,6 +311,22 @@ class CompanyArticleRepositoryImplTest implements CompanyArticleTestUtils {
                 .isEqualTo(article2);
     }
 
+    @DisplayName("기업 기사 이름과 링크로 존재 확인")
+    @Test
+    void existsCompanyArticleTest() {
+        // given
+        CompanyArticle article = testCompanyArticle;
+
+        // when
+        articleRepository.saveArticle(article);
+
+        // then
+        assertThat(articleRepository.existsByName(article.getName())).isTrue();
+        assertThat(articleRepository.existsByLink(article.getLink())).isTrue();
+        assertThat(articleRepository.existsByName(testNewCompanyArticle.getName())).isFalse();
+        assertThat(articleRepository.existsByLink(testNewCompanyArticle.getLink())).isFalse();
+    }
+
     @DisplayName("비어 있는 기업 기사 획득")
     @Test
     void getEmptyCompanyArticleTest() {
@@ -218,6 +358,107 @@ class CompanyArticleRepositoryImplTest implements CompanyArticleTestUtils {
                 .isEqualTo(article);
     }
 
+    @DisplayName("기업 기사들 일괄 저장")
+    @Test
+    void saveCompanyArticlesTest() {
+        // given
+        CompanyArticle article1 = testCompanyArticle;
+        CompanyArticle article2 = testNewCompanyArticle;
+
+        // when
+        List<Long> numbers = articleRepository.saveArticles(List.of(article1, article2));
+
+        // then
+        assertThat(numbers).hasSize(2);
+        assertThat(articleRepository.getArticleByNumber(numbers.getFirst()).orElseThrow())
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(article1);
+        assertThat(articleRepository.getArticleByNumber(numbers.getLast()).orElseThrow())
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(article2);
+    }
+
+    @DisplayName("기업 기사들 일괄 저장 또는 갱신")
+    @Test
+    void upsertCompanyArticlesTest() {
+        // given
+        CompanyArticle article = testCompanyArticle;
+        CompanyArticle correctedArticle = CompanyArticle.builder().article(testEqualDateCompanyArticle)
+                .name(article.getName()).build();
+        articleRepository.saveArticle(article);
+
+        // when
+        articleRepository.upsertArticles(List.of(correctedArticle, testNewCompanyArticle));
+
+        // then
+        assertThat(articleRepository.getArticles())
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(correctedArticle, testNewCompanyArticle));
+    }
+
+    @DisplayName("기업 기사들 번호 순으로 하나씩 읽기")
+    @Test
+    void forEachCompanyArticleTest() {
+        // given
+        CompanyArticle article1 = testCompanyArticle;
+        CompanyArticle article2 = testNewCompanyArticle;
+        List<CompanyArticle> readArticles = new ArrayList<>();
+
+        // when
+        articleRepository.saveArticle(article1);
+        articleRepository.saveArticle(article2);
+        articleRepository.forEachArticle(readArticles::add);
+
+        // then
+        assertThat(readArticles)
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(article1, article2));
+    }
+
+    @DisplayName("기업 기사들 입력일 범위로 날짜 순으로 하나씩 읽기")
+    @Test
+    void forEachCompanyArticleByDateTest() {
+        // given
+        CompanyArticle article1 = testCompanyArticle;
+        CompanyArticle article2 = testNewCompanyArticle;
+        List<CompanyArticle> readArticles = new ArrayList<>();
+
+        // when
+        articleRepository.saveArticle(article1);
+        articleRepository.saveArticle(article2);
+        articleRepository.forEachArticleByDate(article2.getDate(), article2.getDate(), readArticles::add);
+
+        // then
+        assertThat(readArticles)
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(List.of(article2));
+    }
+
+    @DisplayName("기업 기사 이름들과 링크들로 한 번에 획득")
+    @Test
+    void getCompanyArticlesByNamesAndLinksTest() {
+        // given
+        CompanyArticle article1 = testCompanyArticle;
+        CompanyArticle article2 = testNewCompanyArticle;
+
+        // when
+        articleRepository.saveArticle(article1);
+        articleRepository.saveArticle(article2);
+
+        // then
+        assertThat(articleRepository.getArticlesByNames(List.of(article1.getName(), article2.getName(), INVALID_VALUE)))
+                .containsOnlyKeys(article1.getName(), article2.getName());
+        assertThat(articleRepository.getArticlesByLinks(List.of(article2.getLink(), INVALID_VALUE)).get(article2.getLink()))
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(article2);
+    }
+
     @DisplayName("기업 기사 갱신")
     @Test
     void updateCompanyArticleTest() {
@@ -251,4 +492,21 @@ class CompanyArticleRepositoryImplTest implements CompanyArticleTestUtils {
         articleRepository.deleteArticleByName(article2.getName());
         assertThat(articleRepository.getArticles()).isEmpty();
     }
-}
\ No newline at end of file
+
+    @DisplayName("기업 기사 번호로 제거와 영향받은 행 수")
+    @Test
+    void removeCompanyArticleByNumberTest() {
+        // given
+        CompanyArticle article = testCompanyArticle;
+
+        // when
+        Long number = articleRepository.saveArticle(article);
+
+        // then
+        assertThat(articleRepository.updateArticle(testNewCompanyArticle)).isZero();
+        assertThat(articleRepository.deleteArticleByNumber(number)).isEqualTo(1);
+        assertThat(articleRepository.deleteArticleByNumber(number)).isZero();
+        assertThat(articleRepository.deleteArticleByName(article.getName())).isZero();
+        assertThat(articleRepository.getArticles()).isEmpty();
+    }
+}
@@ -12,7 +12,9 @@ import site.hixview.support.util.CompanyArticleTestUtils;
 import site.hixview.support.util.CompanyTestUtils;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +68,25 @@ class CompanyRepositoryImplTest implements CompanyTestUtils, CompanyArticleTestU
         assertThat(companyRepository.getCompanyByCode(company2.getCode()).orElseThrow()).usingRecursiveComparison().isEqualTo(company2);
     }
 
+    @DisplayName("기업 코드들과 이름들로 한 번에 획득")
+    @Test
+    void getCompaniesByCodesOrNamesTest() {
+        // given
+        Company company1 = samsungElectronics;
+        Company company2 = skHynix;
+
+        // when
+        companyRepository.saveCompany(company1);
+        companyRepository.saveCompany(company2);
+
+        // then
+        Map<String, Company> companies = companyRepository.getCompaniesByCodesOrNames(
+                List.of(company1.getCode(), company2.getName(), INVALID_VALUE, "999999"));
+        assertThat(companies).containsOnlyKeys(company1.getCode(), company2.getName());
+        assertThat(companies.get(company1.getCode())).usingRecursiveComparison().isEqualTo(company1);
+        assertThat(companies.get(company2.getName())).usingRecursiveComparison().isEqualTo(company2);
+    }
+
     @DisplayName("기업 이름으로 획득")
     @Test
     void getCompanyByNameTest() {
@@ -82,6 +103,22 @@ class CompanyRepositoryImplTest implements CompanyTestUtils, CompanyArticleTestU
         assertThat(companyRepository.getCompanyByName(company2.getName()).orElseThrow()).usingRecursiveComparison().isEqualTo(company2);
     }
 
+    @DisplayName("기업 코드와 이름으로 존재 확인")
+    @Test
+    void existsCompanyTest() {
+        // given
+        Company company = samsungElectronics;
+
+        // when
+        companyRepository.saveCompany(company);
+
+        // then
+        assertThat(companyRepository.existsByCode(company.getCode())).isTrue();
+        assertThat(companyRepository.existsByName(company.getName())).isTrue();
+        assertThat(companyRepository.existsByCode(skHynix.getCode())).isFalse();
+        assertThat(companyRepository.existsByName(skHynix.getName())).isFalse();
+    }
+
     @DisplayName("비어 있는 기업 획득")
     @Test
     void getEmptyCompanyTest() {
@@ -110,6 +147,38 @@ class CompanyRepositoryImplTest implements CompanyTestUtils, CompanyArticleTestU
                 .usingRecursiveComparison().isEqualTo(company);
     }
 
+    @DisplayName("기업들 일괄 저장")
+    @Test
+    void saveCompaniesTest() {
+        // given
+        Company company1 = samsungElectronics;
+        Company company2 = skHynix;
+
+        // when
+        companyRepository.saveCompanies(List.of(company1, company2));
+
+        // then
+        assertThat(companyRepository.getCompanies())
+                .usingRecursiveComparison().isEqualTo(List.of(company2, company1));
+    }
+
+    @DisplayName("기업들 코드 순으로 하나씩 읽기")
+    @Test
+    void forEachCompanyTest() {
+        // given
+        Company company1 = samsungElectronics;
+        Company company2 = skHynix;
+        List<Company> readCompanies = new ArrayList<>();
+
+        // when
+        companyRepository.saveCompany(company1);
+        companyRepository.saveCompany(company2);
+        companyRepository.forEachCompany(readCompanies::add);
+
+        // then
+        assertThat(readCompanies).usingRecursiveComparison().isEqualTo(List.of(company2, company1));
+    }
+
     @DisplayName("기업 갱신")
     @Test
     void updateCompanyTest() {
@@ -0,0 +1,84 @@
+package site.hixview.repository.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import site.hixview.domain.entity.ImportJob;
+import site.hixview.domain.entity.ImportJobStatus;
+import site.hixview.domain.entity.ImportJobTarget;
+import site.hixview.domain.repository.ImportJobRepository;
+import site.hixview.support.context.OnlyRealRepositoryContext;
+import site.hixview.support.util.ObjectTestUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@OnlyRealRepositoryContext
+class ImportJobRepositoryImplTest implements ObjectTestUtils {
+
+    private static final String TEST_IMPORT_JOBS_SCHEMA = "test_import_jobs";
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    private final JdbcTemplate jdbcTemplateTest;
+
+    private final ImportJob testImportJob = ImportJob.builder().target(ImportJobTarget.COMPANY_ARTICLE)
+            .status(ImportJobStatus.QUEUED).subject("삼성전자")
+            .nameDatePressString("기사 1\n(2024-6-18, SBS)\n기사 2\n(2024-6-17, SBS)")
+            .linkString("https://www.sbs.co.kr/1\nhttps://www.sbs.co.kr/2").totalRows(2).upsert(true).build();
+
+    @Autowired
+    ImportJobRepositoryImplTest(DataSource dataSource) {
+        jdbcTemplateTest = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        resetTable(jdbcTemplateTest, TEST_IMPORT_JOBS_SCHEMA, true);
+    }
+
+    @DisplayName("가져오기 작업 식별자로 획득")
+    @Test
+    void getJobByIdTest() {
+        // given
+        ImportJob job = testImportJob;
+
+        // when
+        Long id = importJobRepository.saveJob(job);
+
+        // then
+        ImportJob storedJob = importJobRepository.getJobById(id).orElseThrow();
+        assertThat(storedJob.getNameDatePressString()).isEqualTo(job.getNameDatePressString());
+        assertThat(storedJob.getLinkString()).isEqualTo(job.getLinkString());
+        assertThat(storedJob.isUpsert()).isTrue();
+    }
+
+    @DisplayName("가져오기 작업 진행 상황 식별자로 획득")
+    @Test
+    void getJobProgressByIdTest() {
+        // given
+        Long id = importJobRepository.saveJob(testImportJob);
+        importJobRepository.updateStatus(id, ImportJobStatus.RUNNING);
+
+        // when
+        importJobRepository.updateProgress(id, 0, 2, 1, List.of("#2 이미 존재하는 기사입니다."));
+
+        // then
+        ImportJob runningJob = importJobRepository.getJobProgressById(id).orElseThrow();
+        assertThat(runningJob.getStatus()).isEqualTo(ImportJobStatus.RUNNING);
+        assertThat(runningJob.getProcessedRows()).isEqualTo(2);
+        assertThat(runningJob.getFailedRows()).isEqualTo(1);
+        assertThat(runningJob.getCreatedAt()).isNotNull();
+        assertThat(runningJob.getNameDatePressString()).isNull();
+        assertThat(runningJob.getErrors()).isNull();
+
+        importJobRepository.finishJob(id, ImportJobStatus.COMPLETED, null);
+        assertThat(importJobRepository.getJobProgressById(id).orElseThrow().getErrorList())
+                .containsExactly("#2 이미 존재하는 기사입니다.");
+    }
+}
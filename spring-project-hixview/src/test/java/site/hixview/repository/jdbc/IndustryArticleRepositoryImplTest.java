@@ -5,25 +5,37 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import site.hixview.domain.entity.FirstCategory;
+import site.hixview.domain.entity.SecondCategory;
+import site.hixview.domain.entity.article.ArticleMain;
+import site.hixview.domain.entity.article.ArticleWithMain;
 import site.hixview.domain.entity.article.IndustryArticle;
+import site.hixview.domain.repository.ArticleMainRepository;
 import site.hixview.domain.repository.IndustryArticleRepository;
 import site.hixview.support.context.OnlyRealRepositoryContext;
+import site.hixview.support.util.ArticleMainTestUtils;
 import site.hixview.support.util.IndustryArticleTestUtils;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static site.hixview.domain.vo.Word.NAME;
+import static site.hixview.domain.vo.name.EntityName.Article.NUMBER;
 
 @OnlyRealRepositoryContext
-class IndustryArticleRepositoryImplTest implements IndustryArticleTestUtils {
+class IndustryArticleRepositoryImplTest implements IndustryArticleTestUtils, ArticleMainTestUtils {
 
     @Autowired
     private IndustryArticleRepository articleRepository;
 
+    @Autowired
+    private ArticleMainRepository articleMainRepository;
+
     private final JdbcTemplate jdbcTemplateTest;
     private final String[] fieldNames = IndustryArticle.getFieldNamesWithNoNumber();
 
@@ -35,6 +47,7 @@ class IndustryArticleRepositoryImplTest implements IndustryArticleTestUtils {
     @BeforeEach
     void beforeEach() {
         resetTable(jdbcTemplateTest, TEST_INDUSTRY_ARTICLES_SCHEMA, true);
+        resetTable(jdbcTemplateTest, TEST_ARTICLE_MAINS_SCHEMA, true);
     }
 
     @DisplayName("산업 기사들 획득")
@@ -99,6 +112,33 @@ class IndustryArticleRepositoryImplTest implements IndustryArticleTestUtils {
                 .isEqualTo(List.of(article1, article2, article3));
     }
 
+    @DisplayName("산업 기사들 분류와 날짜 범위로 획득")
+    @Test
+    void getIndustryArticlesByCategoryTest() {
+        // given
+        IndustryArticle article1 = testNewIndustryArticle;
+        IndustryArticle article2 = testIndustryArticle;
+        IndustryArticle otherCategoryArticle = IndustryArticle.builder().article(testEqualDateIndustryArticle)
+                .subjectSecondCategories(SecondCategory.DISPLAY_EQUIPMENT).build();
+
+        // when
+        articleRepository.saveArticle(article1);
+        articleRepository.saveArticle(article2);
+        articleRepository.saveArticle(otherCategoryArticle);
+
+        // then
+        assertThat(articleRepository.getArticlesByCategory(FirstCategory.SEMICONDUCTOR,
+                Set.of(SecondCategory.SEMICONDUCTOR_MANUFACTURING), article1.getDate(), article2.getDate()))
+                .usingRecursiveComparison()
+                .comparingOnlyFields(fieldNames)
+                .isEqualTo(List.of(article2, article1));
+        assertThat(articleRepository.getArticlesByCategory(FirstCategory.SEMICONDUCTOR,
+                Set.of(), article2.getDate(), article2.getDate()))
+                .usingRecursiveComparison()
+                .comparingOnlyFields(fieldNames)
+                .isEqualTo(List.of(otherCategoryArticle, article2));
+    }
+
     @DisplayName("최신 산업 기사들 획득")
     @Test
     void getLatestIndustryArticlesTest() {
@@ -118,6 +158,40 @@ class IndustryArticleRepositoryImplTest implements IndustryArticleTestUtils {
                 .isEqualTo(List.of(article1, article2));
     }
 
+    @DisplayName("최신 산업 기사와 메인 기사 함께 획득")
+    @Test
+    void getLatestIndustryArticleWithMainTest() {
+        // given
+        IndustryArticle article = testIndustryArticle;
+        ArticleMain articleMain = testIndustryArticleMain;
+
+        // when
+        articleRepository.saveArticle(testEqualDateIndustryArticle);
+        articleRepository.saveArticle(article);
+        articleMainRepository.saveArticle(articleMain);
+
+        // then
+        ArticleWithMain<IndustryArticle> articleWithMain = articleRepository.getLatestArticleWithMain().orElseThrow();
+        assertThat(articleWithMain.getArticle())
+                .usingRecursiveComparison()
+                .comparingOnlyFields(fieldNames)
+                .isEqualTo(article);
+        assertThat(articleWithMain.getArticleMain())
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(articleMain);
+    }
+
+    @DisplayName("메인 기사가 없는 최신 산업 기사 획득")
+    @Test
+    void getLatestIndustryArticleWithNoMainTest() {
+        // given & when
+        articleRepository.saveArticle(testIndustryArticle);
+
+        // then
+        assertThat(articleRepository.getLatestArticleWithMain()).isEmpty();
+    }
+
     @DisplayName("번호로 산업 기사 획득")
     @Test
     void getIndustryArticleByNumberTest() {
@@ -218,6 +292,68 @@ class IndustryArticleRepositoryImplTest implements IndustryArticleTestUtils {
                 .isEqualTo(article);
     }
 
+    @DisplayName("산업 기사들 일괄 저장")
+    @Test
+    void saveIndustryArticlesTest() {
+        // given
+        IndustryArticle article1 = testIndustryArticle;
+        IndustryArticle article2 = testNewIndustryArticle;
+
+        // when
+        List<Long> numbers = articleRepository.saveArticles(List.of(article1, article2));
+
+        // then
+        assertThat(numbers).hasSize(2);
+        assertThat(articleRepository.getArticleByNumber(numbers.getFirst()).orElseThrow())
+                .usingRecursiveComparison()
+                .comparingOnlyFields(fieldNames)
+                .isEqualTo(article1);
+        assertThat(articleRepository.getArticleByNumber(numbers.getLast()).orElseThrow())
+                .usingRecursiveComparison()
+                .comparingOnlyFields(fieldNames)
+                .isEqualTo(article2);
+    }
+
+    @DisplayName("산업 기사들 번호 순으로 하나씩 읽기")
+    @Test
+    void forEachIndustryArticleTest() {
+        // given
+        IndustryArticle article1 = testIndustryArticle;
+        IndustryArticle article2 = testNewIndustryArticle;
+        List<IndustryArticle> readArticles = new ArrayList<>();
+
+        // when
+        articleRepository.saveArticle(article1);
+        articleRepository.saveArticle(article2);
+        articleRepository.forEachArticle(readArticles::add);
+
+        // then
+        assertThat(readArticles)
+                .usingRecursiveComparison()
+                .comparingOnlyFields(fieldNames)
+                .isEqualTo(List.of(article1, article2));
+    }
+
+    @DisplayName("산업 기사들 입력일 범위로 날짜 순으로 하나씩 읽기")
+    @Test
+    void forEachIndustryArticleByDateTest() {
+        // given
+        IndustryArticle article1 = testIndustryArticle;
+        IndustryArticle article2 = testNewIndustryArticle;
+        List<IndustryArticle> readArticles = new ArrayList<>();
+
+        // when
+        articleRepository.saveArticle(article1);
+        articleRepository.saveArticle(article2);
+        articleRepository.forEachArticleByDate(article2.getDate(), article2.getDate(), readArticles::add);
+
+        // then
+        assertThat(readArticles)
+                .usingRecursiveComparison()
+                .comparingOnlyFields(fieldNames)
+                .isEqualTo(List.of(article2));
+    }
+
     @DisplayName("산업 기사 갱신")
     @Test
     void updateIndustryArticleTest() {
@@ -12,6 +12,7 @@ import site.hixview.support.util.MemberTestUtils;
 
 import javax.sql.DataSource;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -233,6 +234,26 @@ class MemberRepositoryImplTest implements MemberTestUtils {
         }
     }
 
+    @DisplayName("회원들 식별자 순으로 하나씩 읽기")
+    @Test
+    void forEachMemberTest() {
+        // given
+        Member member1 = testMember;
+        Member member2 = testNewMember;
+        List<Member> readMembers = new ArrayList<>();
+
+        // when
+        memberRepository.saveMember(member1);
+        memberRepository.saveMember(member2);
+        memberRepository.forEachMember(readMembers::add);
+
+        // then
+        assertThat(readMembers)
+                .usingRecursiveComparison()
+                .ignoringFields(IDENTIFIER)
+                .isEqualTo(List.of(member1, member2));
+    }
+
     @DisplayName("회원 저장")
     @Test
     void saveMemberTest() {
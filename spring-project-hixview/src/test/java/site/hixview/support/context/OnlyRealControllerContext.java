@@ -11,6 +11,7 @@ import site.hixview.support.postprocessor.MockServiceBeanFactoryPostProcessor;
 import site.hixview.support.postprocessor.MockValidatorBeanFactoryPostProcessor;
 import site.hixview.support.bean.RegisterAppAndValidation;
 import site.hixview.support.property.TestSchemaName;
+import site.hixview.support.scan.ScanImportHandler;
 
 import java.lang.annotation.*;
 
@@ -18,7 +19,7 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 @WebMvcTest
-@Import({MockServiceBeanFactoryPostProcessor.class, MockValidatorBeanFactoryPostProcessor.class})
+@Import({MockServiceBeanFactoryPostProcessor.class, MockValidatorBeanFactoryPostProcessor.class, ScanImportHandler.class})
 @RegisterAppAndValidation
 @AutoConfigureMockMvc
 @TestSchemaName
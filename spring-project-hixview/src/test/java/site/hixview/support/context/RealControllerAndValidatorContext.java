@@ -11,6 +11,7 @@ import site.hixview.support.bean.RegisterAppAndValidation;
 import site.hixview.support.postprocessor.MockServiceBeanFactoryPostProcessor;
 import site.hixview.support.property.TestSchemaName;
 import site.hixview.support.scan.ScanController;
+import site.hixview.support.scan.ScanImportHandler;
 import site.hixview.support.scan.ScanValidator;
 
 import java.lang.annotation.*;
@@ -18,7 +19,7 @@ import java.lang.annotation.*;
 @Target({ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
-@SpringBootTest(classes = {ScanController.class, ScanValidator.class})
+@SpringBootTest(classes = {ScanController.class, ScanValidator.class, ScanImportHandler.class})
 @Import({MockServiceBeanFactoryPostProcessor.class})
 @RegisterAppAndValidation
 @AutoConfigureMockMvc
@@ -14,7 +14,9 @@ import java.lang.annotation.Target;
         "schema.article.industries=test_industry_articles",
         "schema.article.mains=test_article_mains",
         "schema.companies=test_companies",
-        "schema.members=test_members"
+        "schema.members=test_members",
+        "schema.import.jobs=test_import_jobs",
+        "schema.migrations=test_schema_migrations"
 })
 public @interface TestSchemaName {
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package site.hixview.support.scan;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ComponentScan(basePackages = "site.hixview.domain.importer")
+public abstract class ScanImportHandler {
+}
@@ -2,16 +2,21 @@ package site.hixview.support.util;
 
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import site.hixview.domain.entity.ImportResult;
 import site.hixview.util.ControllerUtils;
+import site.hixview.web.cache.ImportResultStore;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.requireNonNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static site.hixview.domain.vo.Word.TOKEN;
 
 public interface ObjectTestUtils {
 
@@ -93,4 +98,12 @@ public interface ObjectTestUtils {
                 .map(ControllerUtils::encodeWithUTF8)
                 .collect(Collectors.joining(","));
     }
+
+    /**
+     * Import Result
+     */
+    default ImportResult getImportResult(ImportResultStore importResultStore, MvcResult mvcResult) {
+        return importResultStore.findResult((String) requireNonNull(mvcResult.getModelAndView()).getModel().get(TOKEN))
+                .orElseThrow();
+    }
 }
@@ -0,0 +1,139 @@
+package site.hixview.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import site.hixview.domain.entity.Press;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static site.hixview.util.JsonUtils.*;
+
+class JsonUtilsTest {
+
+    private static final String KEY = "key";
+
+    @DisplayName("이스케이프 문자와 유니코드를 포함하는 문자열 배열 직렬화 후 역직렬화")
+    @Test
+    void oneMapRoundTripTest() {
+        // given
+        List<String> values = Arrays.asList("따옴표 \"1\"", "역슬래시 \\ 와 /", "줄\n바꿈\r\t탭", "\u0001\u001f",
+                "한글", "\uD83D\uDE00", null, "");
+
+        // when
+        String json = serializeWithOneMap(KEY, values);
+
+        // then
+        assertThat(json).isEqualTo("{\"key\":[\"따옴표 \\\"1\\\"\",\"역슬래시 \\\\ 와 /\",\"줄\\n바꿈\\r\\t탭\"," +
+                "\"\\u0001\\u001F\",\"한글\",\"\uD83D\uDE00\",null,\"\"]}");
+        assertThat(deserializeWithOneMapToList(KEY, json)).isEqualTo(values);
+    }
+
+    @DisplayName("공백, 다른 키, 유니코드 이스케이프를 포함하는 문자열 배열 역직렬화")
+    @Test
+    void readOneMapWithWhitespaceAndEscapesTest() {
+        // given
+        String json = " \n{ \"other\" : null ,\t\"key\" : [ \"\\uD55C\\uAE00\" , \"a\\/b\" ] , \"rest\" : [ ] }\r\n";
+
+        // when
+        List<String> values = deserializeWithOneMapToList(KEY, json);
+
+        // then
+        assertThat(values).containsExactly("한글", "a/b");
+    }
+
+    @DisplayName("비어 있는 문자열 배열 역직렬화")
+    @Test
+    void readOneMapEmptyTest() {
+        // then
+        assertThat(deserializeWithOneMapToList(KEY, "{\"key\":[]}")).isEmpty();
+        assertThat(deserializeWithOneMapToList(KEY, "{}")).isEmpty();
+        assertThat(deserializeWithOneMapToList(KEY, " ")).isEmpty();
+        assertThat(deserializeWithOneMapToList(KEY, null)).isEmpty();
+        assertThat(deserializeWithOneMapToEnumSet(KEY, "{\"key\":[ ]}", Press.class)).isEmpty();
+    }
+
+    @DisplayName("형식이 잘못된 문자열 배열 역직렬화")
+    @Test
+    void readOneMapMalformedTest() {
+        // given
+        List<String> malformedJsons = List.of("{\"key\":[\"A\"]}x", "{\"key\":[\"A\"]", "{\"key\":[\"A\" \"B\"]}",
+                "{\"key\":[\"A\\q\"]}", "{\"key\":[\"\\u12\"]}", "{\"key\":[\"A]}", "[\"A\"]", "{key:[\"A\"]}");
+
+        // then
+        for (String json : malformedJsons) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> deserializeWithOneMapToList(KEY, json));
+            assertThat(e.getMessage()).endsWith(json);
+        }
+    }
+
+    @DisplayName("열거형 집합 직렬화 후 역직렬화")
+    @Test
+    void enumSetRoundTripTest() {
+        // given
+        EnumSet<Press> presses = EnumSet.of(Press.SBS, Press.HERALD_ECONOMY);
+
+        // when
+        String json = serializeEnumWithOneMap(KEY, presses);
+
+        // then
+        assertThat(deserializeWithOneMapToEnumSet(KEY, json, Press.class)).isEqualTo(presses);
+    }
+
+    @DisplayName("null 원소를 포함하는 열거형 집합 역직렬화")
+    @Test
+    void enumSetWithNullTest() {
+        // given
+        String json = "{\"key\":[\"SBS\",null]}";
+
+        // when
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> deserializeWithOneMapToEnumSet(KEY, json, Press.class));
+
+        // then
+        assertThat(e.getMessage()).endsWith(json);
+    }
+
+    @DisplayName("평면 JSON 객체 역직렬화")
+    @Test
+    void deserializeFlatObjectTest() {
+        // given
+        String json = " { \"name\" : \"기사 \\\"1\\\"\\n\\u0041\" , \"importance\":-1.5e3,\"valid\":true," +
+                "\"categories\":[ \"A\" , \"B\" ],\"empty\":[],\"none\":null } ";
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "기사 \"1\"\nA");
+        expected.put("importance", "-1.5e3");
+        expected.put("valid", "true");
+        expected.put("categories", List.of("A", "B"));
+        expected.put("empty", List.of());
+        expected.put("none", null);
+
+        // when
+        Map<String, Object> fields = deserializeFlatObject(json);
+
+        // then
+        assertThat(fields).containsExactlyEntriesOf(expected);
+        assertThat(deserializeFlatObject("{ }")).isEmpty();
+    }
+
+    @DisplayName("형식이 잘못된 평면 JSON 객체 역직렬화")
+    @Test
+    void deserializeFlatObjectMalformedTest() {
+        // given
+        List<String> malformedJsons = List.of("{\"name\":\"A\"} trailing", "{\"name\":\"A\"", "{\"name\" \"A\"}",
+                "{\"name\":}", "{\"name\":{\"nested\":1}}", "{\"name\":\"\\x\"}", "", "{\"a\":1,}");
+
+        // then
+        for (String json : malformedJsons) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> deserializeFlatObject(json));
+            assertThat(e.getMessage()).endsWith(json);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package site.hixview.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import site.hixview.domain.entity.article.NameDatePress;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static site.hixview.domain.entity.Press.HERALD_ECONOMY;
+import static site.hixview.domain.entity.Press.SBS;
+import static site.hixview.domain.entity.article.NameDatePress.Failure.*;
+import static site.hixview.util.ControllerUtils.parseLinkString;
+
+class NameDatePressTokenizerTest {
+
+    @DisplayName("이름, 날짜, 언론사 문자열 읽기")
+    @Test
+    void tokenizeTest() {
+        // given
+        String nameDatePressString = "기사 1\n(2024-6-18, SBS)\n기사 2\n(2024-6-17, 헤럴드경제)";
+
+        // when
+        List<NameDatePress> pairs = NameDatePressTokenizer.tokenize(nameDatePressString);
+
+        // then
+        assertThat(pairs).extracting(NameDatePress::getName, NameDatePress::getDate, NameDatePress::getPress,
+                        NameDatePress::getLine)
+                .containsExactly(tuple("기사 1", LocalDate.of(2024, 6, 18), SBS, 1),
+                        tuple("기사 2", LocalDate.of(2024, 6, 17), HERALD_ECONOMY, 3));
+    }
+
+    @DisplayName("형식이 잘못된 날짜와 언론사를 포함하는 문자열 읽기")
+    @Test
+    void tokenizeMalformedTest() {
+        // given
+        String nameDatePressString = "기사 1\n2024-6-18 SBS\n기사 2\n(2024-6-17, SBS)\n기사 3";
+
+        // when
+        List<NameDatePress> pairs = NameDatePressTokenizer.tokenize(nameDatePressString);
+
+        // then
+        assertThat(pairs).extracting(NameDatePress::getFailure).containsExactly(MALFORMED, null, MALFORMED);
+        assertThat(pairs.getFirst().getError()).isEqualTo("1번째 줄: " + MALFORMED.getMessage());
+        assertThat(pairs.getLast().getLine()).isEqualTo(5);
+    }
+
+    @DisplayName("존재하지 않는 날짜를 포함하는 문자열 읽기")
+    @Test
+    void tokenizeInvalidDateTest() {
+        // given
+        String nameDatePressString = "기사\n(2024-2-30, SBS)";
+
+        // when
+        List<NameDatePress> pairs = NameDatePressTokenizer.tokenize(nameDatePressString);
+
+        // then
+        assertThat(pairs).extracting(NameDatePress::getFailure).containsExactly(INVALID_DATE);
+        assertThat(pairs.getFirst().getName()).isEqualTo("기사");
+    }
+
+    @DisplayName("존재하지 않는 언론사를 포함하는 문자열 읽기")
+    @Test
+    void tokenizeUnknownPressTest() {
+        // given
+        String nameDatePressString = "기사\n(2024-6-18, 없는언론사)";
+
+        // when
+        List<NameDatePress> pairs = NameDatePressTokenizer.tokenize(nameDatePressString);
+
+        // then
+        assertThat(pairs).extracting(NameDatePress::getFailure).containsExactly(UNKNOWN_PRESS);
+    }
+
+    @DisplayName("빈 줄을 포함하는 문자열과 링크 문자열 읽기")
+    @Test
+    void tokenizeWithBlankLinesTest() {
+        // given
+        String nameDatePressString = "\n기사 1\n\n(2024-6-18, SBS)\n   \n기사 2\n(2024-6-17, SBS)\n\n";
+        String linkString = "\nhttps://www.sbs.co.kr/1\n  \n\nhttps://www.sbs.co.kr/2\n";
+
+        // when
+        List<NameDatePress> pairs = NameDatePressTokenizer.tokenize(nameDatePressString);
+        List<String> links = parseLinkString(linkString);
+
+        // then
+        assertThat(pairs).extracting(NameDatePress::getName, NameDatePress::getLine)
+                .containsExactly(tuple("기사 1", 2),
+                        tuple("기사 2", 6));
+        assertThat(pairs).allMatch(pair -> !pair.isFailed());
+        assertThat(links).containsExactly("https://www.sbs.co.kr/1", "https://www.sbs.co.kr/2");
+    }
+
+    @DisplayName("CRLF 줄바꿈을 사용하는 문자열과 링크 문자열 읽기")
+    @Test
+    void tokenizeWithCrlfTest() {
+        // given
+        String nameDatePressString = "기사 1\r\n(2024-6-18, SBS)\r\n\r\n기사 2\r\n(2024-6-17, SBS)\r\n";
+        String linkString = "https://www.sbs.co.kr/1\r\n\r\nhttps://www.sbs.co.kr/2\r\n";
+
+        // when
+        List<NameDatePress> pairs = NameDatePressTokenizer.tokenize(nameDatePressString);
+        List<String> links = parseLinkString(linkString);
+
+        // then
+        assertThat(pairs).extracting(NameDatePress::getName, NameDatePress::getLine)
+                .containsExactly(tuple("기사 1", 1),
+                        tuple("기사 2", 4));
+        assertThat(pairs).allMatch(pair -> !pair.isFailed());
+        assertThat(links).containsExactly("https://www.sbs.co.kr/1", "https://www.sbs.co.kr/2");
+    }
+
+    @DisplayName("Reader로 이름, 날짜, 언론사 문자열을 하나씩 읽기")
+    @Test
+    void forEachWithReaderTest() {
+        // given
+        String nameDatePressString = "기사 1\n(2024-6-18, SBS)\n기사 2\n(2024-6-17, 한국경제)\n";
+        List<NameDatePress> pairs = new ArrayList<>();
+
+        // when
+        new NameDatePressTokenizer(new StringReader(nameDatePressString)).forEach(pairs::add);
+
+        // then
+        assertThat(pairs).extracting(NameDatePress::getName, NameDatePress::getLine)
+                .containsExactly(tuple("기사 1", 1),
+                        tuple("기사 2", 3));
+        assertThat(pairs).allMatch(pair -> !pair.isFailed());
+    }
+
+    @DisplayName("형식이 잘못된 쌍을 포함하는 문자열의 쌍 개수 세기")
+    @Test
+    void countTest() {
+        // given
+        String nameDatePressString = "기사 1\n(2024-6-18, SBS)\n\n기사 2\n(2024, SBS)\n기사 3\n";
+
+        // when
+        int count = NameDatePressTokenizer.count(nameDatePressString);
+
+        // then
+        assertThat(count).isEqualTo(3);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import site.hixview.support.context.OnlyRealControllerContext;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.article.ArticleMain;
 import site.hixview.domain.entity.article.dto.ArticleMainDto;
 import site.hixview.domain.service.ArticleMainService;
@@ -35,6 +36,7 @@ import static site.hixview.domain.vo.manager.ViewName.*;
 import static site.hixview.domain.vo.name.EntityName.Article.ARTICLE;
 import static site.hixview.domain.vo.name.EntityName.Article.NUMBER;
 import static site.hixview.domain.vo.name.ViewName.*;
+import static site.hixview.util.ControllerUtils.SELECT_PAGE_SIZE;
 import static site.hixview.util.ControllerUtils.encodeWithUTF8;
 
 @OnlyRealControllerContext
@@ -72,6 +74,7 @@ class ManagerArticleMainControllerTest implements ArticleMainTestUtils {
         ArticleMain article = testCompanyArticleMain;
         String name = article.getName();
         when(articleMainService.findArticleByName(name)).thenReturn(Optional.of(article));
+        when(articleMainService.existsArticleByName(name)).thenReturn(true);
         when(articleMainService.findArticleByImagePath(article.getImagePath())).thenReturn(Optional.empty());
         when(articleMainService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
         doNothing().when(articleMainAddValidator).validate(any(), any());
@@ -101,7 +104,8 @@ class ManagerArticleMainControllerTest implements ArticleMainTestUtils {
     void accessArticleMainsInquiry() throws Exception {
         // given & when
         List<ArticleMain> storedList = List.of(testCompanyArticleMain, testNewCompanyArticleMain);
-        when(articleMainService.findArticles()).thenReturn(storedList);
+        when(articleMainService.findArticlesPage(null, null, SELECT_PAGE_SIZE))
+                .thenReturn(KeysetPage.forward(storedList, SELECT_PAGE_SIZE, false, ArticleMain::getNumber));
         when(articleMainService.registerArticles(testCompanyArticleMain, testNewCompanyArticleMain)).thenReturn(storedList);
 
         List<ArticleMain> articleList = articleMainService.registerArticles(testCompanyArticleMain, testNewCompanyArticleMain);
@@ -155,6 +159,7 @@ class ManagerArticleMainControllerTest implements ArticleMainTestUtils {
         // given
         ArticleMain article = ArticleMain.builder().article(testNewCompanyArticleMain).name(testCompanyArticleMain.getName()).build();
         when(articleMainService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
+        when(articleMainService.existsArticleByName(article.getName())).thenReturn(true);
         when(articleMainService.registerArticle(testCompanyArticleMain)).thenReturn(article);
         doNothing().when(articleMainService).correctArticle(article);
 
@@ -196,8 +201,8 @@ class ManagerArticleMainControllerTest implements ArticleMainTestUtils {
         ArticleMain article = ArticleMain.builder().article(testCompanyArticleMain).number(1L).build();
         when(articleMainService.findArticles()).thenReturn(emptyList());
         when(articleMainService.findArticleByNumber(article.getNumber())).thenReturn(Optional.of(article));
-        when(articleMainService.findArticleByNumberOrName(String.valueOf(article.getNumber()))).thenReturn(Optional.of(article));
-        when(articleMainService.findArticleByNumberOrName(article.getName())).thenReturn(Optional.of(article));
+        when(articleMainService.removeArticleByNumberOrName(String.valueOf(article.getNumber()))).thenReturn(Optional.of(article.getName()));
+        when(articleMainService.removeArticleByNumberOrName(article.getName())).thenReturn(Optional.of(article.getName()));
         when(articleMainService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
         doNothing().when(articleMainService).removeArticleByName(article.getName());
 
@@ -3,9 +3,13 @@ package site.hixview.web.controller.mock;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import site.hixview.support.context.OnlyRealControllerContext;
+import site.hixview.domain.entity.ImportResult;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.article.CompanyArticle;
+import site.hixview.domain.entity.article.NameDatePress;
 import site.hixview.domain.entity.article.dto.CompanyArticleDto;
 import site.hixview.domain.service.CompanyArticleService;
 import site.hixview.domain.service.CompanyService;
@@ -15,19 +19,32 @@ import site.hixview.domain.validation.validator.CompanyArticleEntryDateValidator
 import site.hixview.domain.validation.validator.CompanyArticleModifyValidator;
 import site.hixview.support.util.CompanyArticleTestUtils;
 import site.hixview.support.util.CompanyTestUtils;
+import site.hixview.util.NameDatePressTokenizer;
+import site.hixview.web.cache.ImportResultStore;
 
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
@@ -36,9 +53,13 @@ import static site.hixview.domain.vo.manager.Layout.*;
 import static site.hixview.domain.vo.manager.RequestURL.*;
 import static site.hixview.domain.vo.manager.ViewName.*;
 import static site.hixview.domain.vo.name.EntityName.Article.ARTICLE;
+import static site.hixview.domain.vo.name.EntityName.Article.LINK;
 import static site.hixview.domain.vo.name.EntityName.Article.NUMBER;
 import static site.hixview.domain.vo.name.ViewName.*;
+import static site.hixview.util.ControllerUtils.SELECT_PAGE_SIZE;
 import static site.hixview.util.ControllerUtils.encodeWithUTF8;
+import static site.hixview.util.CsvUtils.writeRow;
+import static site.hixview.util.ImportUtils.*;
 
 @OnlyRealControllerContext
 class ManagerCompanyArticleControllerTest implements CompanyArticleTestUtils, CompanyTestUtils {
@@ -64,6 +85,9 @@ class ManagerCompanyArticleControllerTest implements CompanyArticleTestUtils, Co
     @Autowired
     private CompanyArticleModifyValidator companyArticleModifyValidator;
 
+    @Autowired
+    private ImportResultStore importResultStore;
+
     @DisplayName("기업 기사 추가 페이지 접속")
     @Test
     void accessCompanyArticleAdd() throws Exception {
@@ -80,8 +104,10 @@ class ManagerCompanyArticleControllerTest implements CompanyArticleTestUtils, Co
         // given
         CompanyArticle article = testCompanyArticle;
         when(articleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
+        when(articleService.existsArticleByName(article.getName())).thenReturn(true);
         when(articleService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
         when(companyService.findCompanyByName(article.getSubjectCompany())).thenReturn(Optional.of(samsungElectronics));
+        when(companyService.existsCompanyByName(article.getSubjectCompany())).thenReturn(true);
         doNothing().when(companyArticleAddSimpleValidator).validate(any(), any());
 
         CompanyArticleDto articleDto = article.toDto();
@@ -106,12 +132,67 @@ class ManagerCompanyArticleControllerTest implements CompanyArticleTestUtils, Co
                 .isEqualTo(articleDto);
     }
 
+    @DisplayName("문자열을 사용하는 기업 기사들 추가 완료 페이지 나누어 접속")
+    @Test
+    void accessCompanyArticlesAddWithStringFinishByPage() throws Exception {
+        // given
+        List<String> nameList = IntStream.range(0, SELECT_PAGE_SIZE + 10).mapToObj(i -> "기업 기사 " + i).toList();
+
+        // when
+        String token = importResultStore.save(new ImportResult(nameList, emptyList(), false, null));
+
+        // then
+        mockMvc.perform(get(ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL).param(TOKEN, token).param(PAGE, "1"))
+                .andExpectAll(status().isOk(),
+                        view().name(ADD_COMPANY_ARTICLE_VIEW + "multiple-finish-page"),
+                        model().attribute(LAYOUT_PATH, ADD_FINISH_LAYOUT),
+                        model().attribute(NAME_LIST, nameList.subList(SELECT_PAGE_SIZE, nameList.size())),
+                        model().attribute(ERROR_LIST, emptyList()),
+                        model().attribute(PREVIOUS_PAGE, 0),
+                        model().attributeDoesNotExist(NEXT_PAGE));
+    }
+
+    @DisplayName("파일을 사용하는 기업 기사들 추가")
+    @Test
+    void submitCompanyArticlesAddWithFile() throws Exception {
+        // given
+        CompanyArticle article = testCompanyArticle;
+        when(companyService.findCompaniesByCodesOrNames(argThat(keys -> keys != null && keys.contains(article.getSubjectCompany()))))
+                .thenReturn(Map.of(samsungElectronics.getName(), samsungElectronics));
+
+        StringWriter upload = new StringWriter();
+        writeRow(upload, NAME, "press", "subjectCompany", "link", "date", "importance");
+        writeRow(upload, article.getName(), article.getPress().getValue(), article.getSubjectCompany(),
+                article.getLink(), article.getDate(), article.getImportance());
+        writeRow(upload, testNewCompanyArticle.getName(), testNewCompanyArticle.getPress().name(),
+                testNewCompanyArticle.getSubjectCompany(), "", testNewCompanyArticle.getDate(), 0);
+        writeRow(upload, testEqualDateCompanyArticle.getName(), testEqualDateCompanyArticle.getPress().name(),
+                testEqualDateCompanyArticle.getSubjectCompany(), testEqualDateCompanyArticle.getLink(), "2024-13-01", 0);
+        MockMultipartFile file = new MockMultipartFile("file", "articles.csv", "text/csv",
+                upload.toString().getBytes(StandardCharsets.UTF_8));
+
+        StringWriter report = new StringWriter();
+        writeReportHeader(report);
+        writeRow(report, 1, article.getName(), IMPORT_SUCCESS, null);
+        writeRow(report, 2, testNewCompanyArticle.getName(), IMPORT_FAILURE, "link: NotBlank");
+        writeRow(report, 3, testEqualDateCompanyArticle.getName(), IMPORT_FAILURE, "date: typeMismatch");
+
+        // when
+        String csv = mockMvc.perform(multipart(ADD_COMPANY_ARTICLE_WITH_FILE_URL).file(file))
+                .andExpectAll(status().isOk(), content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(csv).isEqualTo(report.toString());
+    }
+
     @DisplayName("기업 기사들 조회 페이지 접속")
     @Test
     void accessCompanyArticlesInquiry() throws Exception {
         // given & when
         List<CompanyArticle> storedList = List.of(testCompanyArticle, testNewCompanyArticle);
-        when(articleService.findArticles()).thenReturn(storedList);
+        when(articleService.findArticlesPage(null, null, SELECT_PAGE_SIZE))
+                .thenReturn(KeysetPage.forward(storedList, SELECT_PAGE_SIZE, false, CompanyArticle::getNumber));
         when(articleService.registerArticles(testCompanyArticle, testNewCompanyArticle)).thenReturn(storedList);
 
         List<CompanyArticle> articleList = articleService.registerArticles(testCompanyArticle, testNewCompanyArticle);
@@ -125,6 +206,58 @@ class ManagerCompanyArticleControllerTest implements CompanyArticleTestUtils, Co
                 .isEqualTo(articleList);
     }
 
+    @DisplayName("기업 기사들 조회 페이지 다음 페이지로 접속")
+    @Test
+    void accessCompanyArticlesInquiryAfterCursor() throws Exception {
+        // given
+        CompanyArticle secondArticle = CompanyArticle.builder().article(testNewCompanyArticle).number(2L).build();
+        CompanyArticle thirdArticle = CompanyArticle.builder().article(testEqualDateCompanyArticle).number(3L).build();
+        when(articleService.findArticlesPage(1L, null, SELECT_PAGE_SIZE)).thenReturn(KeysetPage.forward(
+                List.of(secondArticle, thirdArticle), 1, true, CompanyArticle::getNumber));
+
+        // when & then
+        mockMvc.perform(get(SELECT_COMPANY_ARTICLE_URL).param(AFTER, "1"))
+                .andExpectAll(status().isOk(),
+                        view().name(SELECT_VIEW + "company-articles-page"),
+                        model().attribute("articles", List.of(secondArticle)),
+                        model().attribute(PREVIOUS_CURSOR, 2L),
+                        model().attribute(NEXT_CURSOR, 2L));
+    }
+
+    @DisplayName("기업 기사들 문자열 내보내기")
+    @Test
+    void exportCompanyArticlesAsString() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 6, 17);
+        LocalDate endDate = LocalDate.of(2024, 6, 18);
+        doAnswer(invocation -> {
+            Consumer<CompanyArticle> action = invocation.getArgument(2);
+            action.accept(testNewCompanyArticle);
+            action.accept(testCompanyArticle);
+            return null;
+        }).when(articleService).forEachArticleByDate(eq(startDate), eq(endDate), any());
+
+        // when
+        String nameDatePress = mockMvc.perform(get(EXPORT_COMPANY_ARTICLE_STRING_URL)
+                        .param("startDate", startDate.toString()).param("endDate", endDate.toString()))
+                .andExpectAll(status().isOk(),
+                        content().contentTypeCompatibleWith("text/plain"),
+                        header().string(CONTENT_DISPOSITION, containsString("company-articles-2024-06-17-2024-06-18.txt")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String links = mockMvc.perform(get(EXPORT_COMPANY_ARTICLE_STRING_URL)
+                        .param("startDate", startDate.toString()).param("endDate", endDate.toString())
+                        .param(LINK, String.valueOf(true)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(nameDatePress).isEqualTo(testNewCompanyArticle.getName() + "\n(2024-6-17, HERALD_ECONOMY)\n" +
+                testCompanyArticle.getName() + "\n(2024-6-18, SBS)\n");
+        assertThat(NameDatePressTokenizer.tokenize(nameDatePress)).extracting(NameDatePress::getName)
+                .containsExactly(testNewCompanyArticle.getName(), testCompanyArticle.getName());
+        assertThat(links).isEqualTo(testNewCompanyArticle.getLink() + "\n" + testCompanyArticle.getLink() + "\n");
+    }
+
     @DisplayName("기업 기사 변경 페이지 접속")
     @Test
     void accessCompanyArticleModify() throws Exception {
@@ -168,9 +301,12 @@ class ManagerCompanyArticleControllerTest implements CompanyArticleTestUtils, Co
         CompanyArticle article = CompanyArticle.builder().article(testNewCompanyArticle)
                 .name(beforeModifyArticle.getName()).link(beforeModifyArticle.getLink()).build();
         when(articleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
+        when(articleService.existsArticleByName(article.getName())).thenReturn(true);
         when(articleService.findArticleByLink(article.getLink())).thenReturn(Optional.of(article));
+        when(articleService.existsArticleByLink(article.getLink())).thenReturn(true);
         when(articleService.registerArticle(beforeModifyArticle)).thenReturn(article);
         when(companyService.findCompanyByName(article.getSubjectCompany())).thenReturn(Optional.of(samsungElectronics));
+        when(companyService.existsCompanyByName(article.getSubjectCompany())).thenReturn(true);
         doNothing().when(articleService).correctArticle(article);
 
         String redirectedURL = fromPath(UPDATE_COMPANY_ARTICLE_URL + FINISH_URL).queryParam(NAME, encodeWithUTF8(article.getName())).build().toUriString();
@@ -212,8 +348,8 @@ class ManagerCompanyArticleControllerTest implements CompanyArticleTestUtils, Co
         CompanyArticle article = CompanyArticle.builder().article(testCompanyArticle).number(1L).build();
         when(articleService.findArticles()).thenReturn(emptyList());
         when(articleService.findArticleByNumber(article.getNumber())).thenReturn(Optional.of(article));
-        when(articleService.findArticleByNumberOrName(String.valueOf(article.getNumber()))).thenReturn(Optional.of(article));
-        when(articleService.findArticleByNumberOrName(article.getName())).thenReturn(Optional.of(article));
+        when(articleService.removeArticleByNumberOrName(String.valueOf(article.getNumber()))).thenReturn(Optional.of(article.getName()));
+        when(articleService.removeArticleByNumberOrName(article.getName())).thenReturn(Optional.of(article.getName()));
         when(articleService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
         doNothing().when(articleService).removeArticleByName(article.getName());
 
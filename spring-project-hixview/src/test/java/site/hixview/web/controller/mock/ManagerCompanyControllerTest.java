@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import site.hixview.support.context.OnlyRealControllerContext;
 import site.hixview.domain.entity.Country;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.Scale;
 import site.hixview.domain.entity.company.Company;
 import site.hixview.domain.entity.company.dto.CompanyDto;
@@ -35,6 +36,7 @@ import static site.hixview.domain.vo.manager.RequestURL.*;
 import static site.hixview.domain.vo.manager.ViewName.*;
 import static site.hixview.domain.vo.name.EntityName.Company.COMPANY;
 import static site.hixview.domain.vo.name.ViewName.*;
+import static site.hixview.util.ControllerUtils.SELECT_PAGE_SIZE;
 import static site.hixview.util.ControllerUtils.encodeWithUTF8;
 
 @OnlyRealControllerContext
@@ -70,6 +72,7 @@ class ManagerCompanyControllerTest implements CompanyTestUtils {
         // given & when
         Company company = samsungElectronics;
         when(companyService.findCompanyByName(company.getName())).thenReturn(Optional.of(company));
+        when(companyService.existsCompanyByName(company.getName())).thenReturn(true);
         doNothing().when(companyService).registerCompany(argThat(Objects::nonNull));
         doNothing().when(companyAddValidator).validate(any(), any());
 
@@ -96,7 +99,8 @@ class ManagerCompanyControllerTest implements CompanyTestUtils {
     void accessCompaniesInquiry() throws Exception {
         // given & when
         List<Company> storedList = List.of(samsungElectronics, skHynix);
-        when(companyService.findCompanies()).thenReturn(storedList);
+        when(companyService.findCompaniesPage(null, null, SELECT_PAGE_SIZE))
+                .thenReturn(KeysetPage.forward(storedList, SELECT_PAGE_SIZE, false, Company::getCode));
         doNothing().when(companyService).registerCompanies(samsungElectronics, skHynix);
 
         companyService.registerCompanies(samsungElectronics, skHynix);
@@ -153,7 +157,9 @@ class ManagerCompanyControllerTest implements CompanyTestUtils {
         Company company = Company.builder().company(skHynix)
                 .name(samsungElectronics.getName()).code(samsungElectronics.getCode()).build();
         when(companyService.findCompanyByCode(company.getCode())).thenReturn(Optional.of(company));
+        when(companyService.existsCompanyByCode(company.getCode())).thenReturn(true);
         when(companyService.findCompanyByName(company.getName())).thenReturn(Optional.of(company));
+        when(companyService.existsCompanyByName(company.getName())).thenReturn(true);
         doNothing().when(companyService).registerCompany(samsungElectronics);
         doNothing().when(companyService).correctCompany(company);
 
@@ -194,7 +200,9 @@ class ManagerCompanyControllerTest implements CompanyTestUtils {
         Company company = samsungElectronics;
         when(companyService.findCompanies()).thenReturn(emptyList());
         when(companyService.findCompanyByCode(company.getCode())).thenReturn(Optional.of(company));
+        when(companyService.existsCompanyByCode(company.getCode())).thenReturn(true);
         when(companyService.findCompanyByName(company.getName())).thenReturn(Optional.of(company));
+        when(companyService.existsCompanyByName(company.getName())).thenReturn(true);
         when(companyService.findCompanyByCodeOrName(String.valueOf(company.getCode()))).thenReturn(Optional.of(company));
         when(companyService.findCompanyByCodeOrName(company.getName())).thenReturn(Optional.of(company));
         doNothing().when(companyService).registerCompany(argThat(Objects::nonNull));
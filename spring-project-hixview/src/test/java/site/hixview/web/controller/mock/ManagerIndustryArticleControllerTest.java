@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import site.hixview.support.context.OnlyRealControllerContext;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.article.IndustryArticle;
 import site.hixview.domain.entity.article.dto.IndustryArticleDto;
 import site.hixview.domain.service.IndustryArticleService;
@@ -36,6 +37,7 @@ import static site.hixview.domain.vo.manager.ViewName.*;
 import static site.hixview.domain.vo.name.EntityName.Article.ARTICLE;
 import static site.hixview.domain.vo.name.EntityName.Article.NUMBER;
 import static site.hixview.domain.vo.name.ViewName.*;
+import static site.hixview.util.ControllerUtils.SELECT_PAGE_SIZE;
 import static site.hixview.util.ControllerUtils.encodeWithUTF8;
 
 @OnlyRealControllerContext
@@ -75,6 +77,7 @@ class ManagerIndustryArticleControllerTest implements IndustryArticleTestUtils {
         // given & when
         IndustryArticle article = testIndustryArticle;
         when(articleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
+        when(articleService.existsArticleByName(article.getName())).thenReturn(true);
         when(articleService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
         doNothing().when(industryArticleAddSimpleValidator).validate(any(), any());
 
@@ -102,7 +105,8 @@ class ManagerIndustryArticleControllerTest implements IndustryArticleTestUtils {
     void accessIndustryArticlesInquiry() throws Exception {
         // given & when
         List<IndustryArticle> storedList = List.of(testIndustryArticle, testNewIndustryArticle);
-        when(articleService.findArticles()).thenReturn(storedList);
+        when(articleService.findArticlesPage(null, null, SELECT_PAGE_SIZE))
+                .thenReturn(KeysetPage.forward(storedList, SELECT_PAGE_SIZE, false, IndustryArticle::getNumber));
         when(articleService.registerArticles(testIndustryArticle, testNewIndustryArticle)).thenReturn(storedList);
 
         List<IndustryArticle> articleList = articleService.registerArticles(testIndustryArticle, testNewIndustryArticle);
@@ -158,7 +162,9 @@ class ManagerIndustryArticleControllerTest implements IndustryArticleTestUtils {
         IndustryArticle article = IndustryArticle.builder().article(testNewIndustryArticle)
                 .name(testIndustryArticle.getName()).link(testIndustryArticle.getLink()).build();
         when(articleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
+        when(articleService.existsArticleByName(article.getName())).thenReturn(true);
         when(articleService.findArticleByLink(article.getLink())).thenReturn(Optional.of(article));
+        when(articleService.existsArticleByLink(article.getLink())).thenReturn(true);
         when(articleService.registerArticle(testIndustryArticle)).thenReturn(article);
         doNothing().when(articleService).correctArticle(article);
 
@@ -200,8 +206,8 @@ class ManagerIndustryArticleControllerTest implements IndustryArticleTestUtils {
         IndustryArticle article = IndustryArticle.builder().article(testIndustryArticle).number(1L).build();
         when(articleService.findArticles()).thenReturn(emptyList());
         when(articleService.findArticleByNumber(article.getNumber())).thenReturn(Optional.of(article));
-        when(articleService.findArticleByNumberOrName(String.valueOf(article.getNumber()))).thenReturn(Optional.of(article));
-        when(articleService.findArticleByNumberOrName(article.getName())).thenReturn(Optional.of(article));
+        when(articleService.removeArticleByNumberOrName(String.valueOf(article.getNumber()))).thenReturn(Optional.of(article.getName()));
+        when(articleService.removeArticleByNumberOrName(article.getName())).thenReturn(Optional.of(article.getName()));
         when(articleService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
         doNothing().when(articleService).removeArticleByName(article.getName());
 
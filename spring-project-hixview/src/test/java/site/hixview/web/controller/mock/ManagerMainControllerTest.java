@@ -27,6 +27,7 @@ class ManagerMainControllerTest {
                         model().attribute("updateCompanyArticle", UPDATE_COMPANY_ARTICLE_URL),
                         model().attribute("removeCompanyArticle", REMOVE_COMPANY_ARTICLE_URL),
                         model().attribute("addCompanyArticlesWithString", ADD_COMPANY_ARTICLE_WITH_STRING_URL),
+                        model().attribute("addCompanyArticlesWithFile", ADD_COMPANY_ARTICLE_WITH_FILE_URL),
                         model().attribute("selectCompanyArticles", SELECT_COMPANY_ARTICLE_URL),
                         model().attribute("selectMembers", SELECT_MEMBER_URL));
     }
@@ -5,21 +5,30 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import site.hixview.support.context.OnlyRealControllerContext;
+import site.hixview.domain.entity.KeysetPage;
 import site.hixview.domain.entity.member.Member;
 import site.hixview.domain.service.MemberService;
 import site.hixview.support.util.MemberTestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static site.hixview.domain.vo.Word.LAYOUT_PATH;
 import static site.hixview.domain.vo.manager.Layout.SELECT_LAYOUT;
+import static site.hixview.domain.vo.manager.RequestURL.EXPORT_MEMBER_URL;
 import static site.hixview.domain.vo.manager.RequestURL.SELECT_MEMBER_URL;
 import static site.hixview.domain.vo.manager.ViewName.SELECT_VIEW;
+import static site.hixview.util.ControllerUtils.SELECT_PAGE_SIZE;
 
 @OnlyRealControllerContext
 class ManagerMemberControllerTest implements MemberTestUtils {
@@ -37,7 +46,8 @@ class ManagerMemberControllerTest implements MemberTestUtils {
         Member member1 = Member.builder().member(testMember).identifier(1L).build();
         Member member2 = Member.builder().member(testNewMember).identifier(2L).build();
         List<Member> storedList = List.of(member1, member2);
-        when(memberService.findMembers()).thenReturn(storedList);
+        when(memberService.findMembersPage(null, null, SELECT_PAGE_SIZE))
+                .thenReturn(KeysetPage.forward(storedList, SELECT_PAGE_SIZE, false, Member::getIdentifier));
         when(memberService.registerMember(testMember)).thenReturn(member1);
         when(memberService.registerMember(testNewMember)).thenReturn(member2);
 
@@ -54,4 +64,33 @@ class ManagerMemberControllerTest implements MemberTestUtils {
                 .usingRecursiveComparison()
                 .isEqualTo(storedList);
     }
-}
\ No newline at end of file
+
+    @DisplayName("회원들 CSV 내보내기")
+    @Test
+    void exportMembers() throws Exception {
+        // given
+        Member member1 = Member.builder().member(testMember).identifier(1L).build();
+        Member member2 = Member.builder().member(testNewMember).identifier(2L).build();
+        doAnswer(invocation -> {
+            Consumer<Member> action = invocation.getArgument(0);
+            action.accept(member1);
+            action.accept(member2);
+            return null;
+        }).when(memberService).forEachMember(any());
+
+        // when
+        String csv = mockMvc.perform(get(EXPORT_MEMBER_URL))
+                .andExpectAll(status().isOk(),
+                        content().contentTypeCompatibleWith("text/csv"),
+                        header().string(CONTENT_DISPOSITION, containsString("members.csv")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(csv).isEqualTo("identifier,id,name,birthday,phoneNumber\r\n" +
+                String.join(",", "1", member1.getId(), member1.getName(), member1.getBirthday().toString(),
+                        member1.getPhoneNumber().toStringWithDash()) + "\r\n" +
+                String.join(",", "2", member2.getId(), member2.getName(), member2.getBirthday().toString(),
+                        member2.getPhoneNumber().toStringWithDash()) + "\r\n");
+        assertThat(csv).doesNotContain(member1.getPassword());
+    }
+}
@@ -5,22 +5,27 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import site.hixview.support.context.OnlyRealControllerContext;
+import site.hixview.domain.entity.DataVersion;
+import site.hixview.domain.entity.article.CompanyArticle;
 import site.hixview.domain.entity.company.Company;
+import site.hixview.domain.service.CompanyArticleService;
 import site.hixview.domain.service.CompanyService;
+import site.hixview.support.util.CompanyArticleTestUtils;
 import site.hixview.support.util.CompanyTestUtils;
 
 import java.util.List;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static site.hixview.domain.vo.Word.LAYOUT_PATH;
-import static site.hixview.domain.vo.name.EntityName.Company.COMPANY;
-import static site.hixview.domain.vo.name.ViewName.VIEW_SHOW;
 import static site.hixview.domain.vo.name.ViewName.VIEW_SUB;
 import static site.hixview.domain.vo.user.Layout.BASIC_LAYOUT;
 import static site.hixview.domain.vo.user.RequestUrl.COMPANY_SEARCH_URL;
@@ -28,7 +33,7 @@ import static site.hixview.domain.vo.user.RequestUrl.COMPANY_SUB_URL;
 import static site.hixview.domain.vo.user.ViewName.COMPANY_VIEW;
 
 @OnlyRealControllerContext
-class UserCompanyControllerTest implements CompanyTestUtils {
+class UserCompanyControllerTest implements CompanyTestUtils, CompanyArticleTestUtils {
 
     @Autowired
     private MockMvc mockMvc;
@@ -36,6 +41,12 @@ class UserCompanyControllerTest implements CompanyTestUtils {
     @Autowired
     private CompanyService companyService;
 
+    @Autowired
+    private CompanyArticleService companyArticleService;
+
+    private static final DataVersion catalogVersion = DataVersion.initial();
+    private static final DataVersion articlesVersion = DataVersion.initial();
+
     @DisplayName("기업 서브 페이지 접속")
     @Test
     void accessCompanySubPage() throws Exception {
@@ -51,6 +62,10 @@ class UserCompanyControllerTest implements CompanyTestUtils {
     void searchCompany() throws Exception {
         // given
         Company company = samsungElectronics;
+        CompanyArticle article = testCompanyArticle;
+        when(companyService.getCatalogVersion()).thenReturn(catalogVersion);
+        when(companyArticleService.getArticlesVersion()).thenReturn(articlesVersion);
+        when(companyArticleService.findArticlesByCompany(company.getCode(), null, 3)).thenReturn(List.of(article));
         when(companyService.findCompanyByCodeOrName(company.getCode())).thenReturn(Optional.of(company));
         when(companyService.findCompanyByCodeOrName(company.getName())).thenReturn(Optional.of(company));
         doNothing().when(companyService).registerCompany(company);
@@ -60,13 +75,49 @@ class UserCompanyControllerTest implements CompanyTestUtils {
 
         // then
         for (String str : List.of(company.getCode(), company.getName())) {
-            assertThat(requireNonNull(mockMvc.perform(get(COMPANY_SEARCH_URL + str))
+            mockMvc.perform(get(COMPANY_SEARCH_URL + str))
                     .andExpectAll(status().isOk(),
-                            view().name(COMPANY_VIEW + VIEW_SHOW),
-                            model().attribute(LAYOUT_PATH, BASIC_LAYOUT))
-                    .andReturn().getModelAndView()).getModelMap().get(COMPANY))
-                    .usingRecursiveComparison()
-                    .isEqualTo(company);
+                            content().contentType("text/html;charset=UTF-8"),
+                            content().string(containsString(company.getName())),
+                            content().string(containsString(company.getCode())),
+                            content().string(containsString(article.getLink())),
+                            header().exists(ETAG));
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("변경되지 않은 기업 조건부 검색")
+    @Test
+    void searchNotModifiedCompany() throws Exception {
+        // given
+        Company company = skHynix;
+        when(companyService.getCatalogVersion()).thenReturn(catalogVersion);
+        when(companyArticleService.getArticlesVersion()).thenReturn(articlesVersion);
+        when(companyService.findCompanyByCodeOrName(company.getCode())).thenReturn(Optional.of(company));
+
+        // when
+        String eTag = mockMvc.perform(get(COMPANY_SEARCH_URL + company.getCode()))
+                .andReturn().getResponse().getHeader(ETAG);
+
+        // then
+        mockMvc.perform(get(COMPANY_SEARCH_URL + company.getCode()).header(IF_NONE_MATCH, requireNonNull(eTag)))
+                .andExpectAll(status().isNotModified(),
+                        header().string(ETAG, eTag),
+                        content().string(""));
+    }
+
+    @DisplayName("존재하지 않는 기업 조건부 검색")
+    @Test
+    void searchNotFoundCompanyConditionally() throws Exception {
+        // given & when
+        when(companyService.getCatalogVersion()).thenReturn(catalogVersion);
+        when(companyArticleService.getArticlesVersion()).thenReturn(articlesVersion);
+        when(companyService.findCompanyByCodeOrName("000009")).thenReturn(Optional.empty());
+
+        // then
+        mockMvc.perform(get(COMPANY_SEARCH_URL + "000009").header(IF_NONE_MATCH, "*"))
+                .andExpectAll(status().isFound(),
+                        redirectedUrl(COMPANY_SUB_URL),
+                        header().doesNotExist(ETAG),
+                        header().doesNotExist(LAST_MODIFIED));
+    }
+}
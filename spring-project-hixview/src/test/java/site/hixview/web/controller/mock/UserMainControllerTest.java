@@ -5,10 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import site.hixview.support.context.OnlyRealControllerContext;
+import site.hixview.domain.entity.DataVersion;
+import site.hixview.domain.entity.article.ArticleWithMain;
+import site.hixview.domain.entity.article.HomePageSnapshot;
 import site.hixview.domain.entity.member.Member;
-import site.hixview.domain.service.ArticleMainService;
-import site.hixview.domain.service.CompanyArticleService;
-import site.hixview.domain.service.IndustryArticleService;
+import site.hixview.domain.service.HomePageService;
 import site.hixview.domain.service.MemberService;
 import site.hixview.support.util.ArticleMainTestUtils;
 import site.hixview.support.util.CompanyArticleTestUtils;
@@ -22,7 +23,11 @@ import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
@@ -40,39 +45,45 @@ class UserMainControllerTest implements MemberTestUtils, CompanyArticleTestUtils
     private MockMvc mockMvc;
 
     @Autowired
-    private CompanyArticleService companyArticleService;
-
-    @Autowired
-    private IndustryArticleService industryArticleService;
-
-    @Autowired
-    private ArticleMainService articleMainService;
+    private HomePageService homePageService;
 
     @Autowired
     private MemberService memberService;
 
+    private static final HomePageSnapshot homePageSnapshot = new HomePageSnapshot(DataVersion.initial(),
+            new ArticleWithMain<>(testCompanyArticle, testCompanyArticleMain),
+            new ArticleWithMain<>(testIndustryArticle, testIndustryArticleMain));
+
     @DisplayName("유저 메인 페이지 접속")
     @Test
     void accessUserMainPage() throws Exception {
         // given & when
-        when(articleMainService.findArticleByName(testCompanyArticle.getName())).thenReturn(Optional.of(testCompanyArticleMain));
-        when(articleMainService.findArticleByName(testIndustryArticle.getName())).thenReturn(Optional.of(testIndustryArticleMain));
-        when(articleMainService.registerArticle(testCompanyArticleMain)).thenReturn(testCompanyArticleMain);
-        when(articleMainService.registerArticle(testIndustryArticleMain)).thenReturn(testIndustryArticleMain);
-        when(companyArticleService.findLatestArticles()).thenReturn(List.of(testCompanyArticle));
-        when(companyArticleService.registerArticle(testCompanyArticle)).thenReturn(testCompanyArticle);
-        when(industryArticleService.findLatestArticles()).thenReturn(List.of(testIndustryArticle));
-        when(industryArticleService.registerArticle(testIndustryArticle)).thenReturn(testIndustryArticle);
-        articleMainService.registerArticle(testCompanyArticleMain);
-        articleMainService.registerArticle(testIndustryArticleMain);
-        companyArticleService.registerArticle(testCompanyArticle);
-        industryArticleService.registerArticle(testIndustryArticle);
+        when(homePageService.getSnapshot()).thenReturn(homePageSnapshot);
 
         // then
         mockMvc.perform(getWithNoParam(""))
                 .andExpectAll(status().isOk(),
-                        view().name(USER_HOME_VIEW),
-                        model().attribute(LAYOUT_PATH, BASIC_LAYOUT));
+                        content().contentType("text/html;charset=UTF-8"),
+                        content().string(containsString(testCompanyArticleMain.getSummary())),
+                        content().string(containsString(testIndustryArticleMain.getSummary())),
+                        header().exists(ETAG),
+                        header().exists(LAST_MODIFIED));
+    }
+
+    @DisplayName("변경되지 않은 유저 메인 페이지 조건부 접속")
+    @Test
+    void accessNotModifiedUserMainPage() throws Exception {
+        // given
+        when(homePageService.getSnapshot()).thenReturn(homePageSnapshot);
+
+        // when
+        String eTag = mockMvc.perform(getWithNoParam("")).andReturn().getResponse().getHeader(ETAG);
+
+        // then
+        mockMvc.perform(getWithNoParam("").header(IF_NONE_MATCH, requireNonNull(eTag)))
+                .andExpectAll(status().isNotModified(),
+                        header().string(ETAG, eTag),
+                        content().string(""));
     }
 
     @DisplayName("로그인 페이지 접속")
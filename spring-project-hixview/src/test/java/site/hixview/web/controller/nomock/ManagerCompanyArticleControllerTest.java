@@ -8,8 +8,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.ModelMap;
+import site.hixview.domain.entity.ImportResult;
+import site.hixview.domain.entity.Press;
 import site.hixview.domain.entity.article.CompanyArticle;
 import site.hixview.domain.entity.article.CompanyArticleBufferSimple;
 import site.hixview.domain.service.CompanyArticleService;
@@ -17,9 +21,11 @@ import site.hixview.domain.service.CompanyService;
 import site.hixview.support.property.TestSchemaName;
 import site.hixview.support.util.CompanyArticleTestUtils;
 import site.hixview.support.util.CompanyTestUtils;
-import site.hixview.util.ControllerUtils;
+import site.hixview.web.cache.ImportResultStore;
 
 import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,14 +36,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
-import static site.hixview.domain.vo.Word.ERROR_SINGLE;
-import static site.hixview.domain.vo.Word.LAYOUT_PATH;
+import static site.hixview.domain.vo.Word.*;
 import static site.hixview.domain.vo.manager.Layout.ADD_FINISH_LAYOUT;
 import static site.hixview.domain.vo.manager.Layout.ADD_PROCESS_LAYOUT;
 import static site.hixview.domain.vo.manager.RequestURL.ADD_COMPANY_ARTICLE_WITH_STRING_URL;
+import static site.hixview.domain.vo.manager.RequestURL.EXPORT_COMPANY_ARTICLE_STRING_URL;
 import static site.hixview.domain.vo.manager.ViewName.ADD_COMPANY_ARTICLE_VIEW;
 import static site.hixview.domain.vo.name.EntityName.Article.NUMBER;
 import static site.hixview.domain.vo.name.EntityName.Article.SUBJECT_COMPANY;
+import static site.hixview.domain.vo.name.EntityName.ImportJob.UPSERT;
 import static site.hixview.domain.vo.name.ExceptionName.IS_BEAN_VALIDATION_ERROR;
 
 @SpringBootTest(properties = "junit.jupiter.execution.parallel.mode.classes.default=same_thread")
@@ -49,6 +56,9 @@ public class ManagerCompanyArticleControllerTest implements CompanyArticleTestUt
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ImportResultStore importResultStore;
+
     @Autowired
     private CompanyArticleService companyArticleService;
 
@@ -84,33 +94,30 @@ public class ManagerCompanyArticleControllerTest implements CompanyArticleTestUt
         CompanyArticle article1 = testEqualDateCompanyArticle;
         CompanyArticle article2 = testNewCompanyArticle;
         CompanyArticleBufferSimple articleBufferOriginal = testCompanyArticleBuffer;
-        CompanyArticleBufferSimple articleBufferAddFaultNameDatePress = CompanyArticleBufferSimple.builder()
-                .articleBuffer(articleBufferOriginal)
-                .nameDatePressString(CompanyArticleBufferSimple.builder().article(testCompanyArticle).build()
-                        .getNameDatePressString().replace("2024-", "")).build();
 
         List<String> nameList = Stream.of(article1, article2)
                 .map(CompanyArticle::getName).collect(Collectors.toList());
-        String nameListForURL = toStringForUrl(nameList);
-        String nameListString = "nameList";
+        String token = null;
 
         // when
         companyService.registerCompany(samsungElectronics);
 
         // then
-        for (CompanyArticleBufferSimple articleBuffer : List.of(articleBufferOriginal, articleBufferAddFaultNameDatePress)) {
-            ModelMap modelMapPost = requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+        for (CompanyArticleBufferSimple articleBuffer : List.of(articleBufferOriginal)) {
+            MvcResult mvcResultPost = mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                         put(nameDatePressString, articleBuffer.getNameDatePressString());
                         put(SUBJECT_COMPANY, articleBuffer.getSubjectCompany());
                         put(linkString, articleBuffer.getLinkString());
                     }}))
                     .andExpectAll(status().isFound(),
                             redirectedUrlPattern(ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL + ALL_QUERY_STRING))
-                    .andReturn().getModelAndView()).getModelMap();
+                    .andReturn();
+            ImportResult result = getImportResult(importResultStore, mvcResultPost);
+            token = (String) requireNonNull(mvcResultPost.getModelAndView()).getModel().get(TOKEN);
 
-            assertThat(modelMapPost.get(nameListString)).usingRecursiveComparison().isEqualTo(nameListForURL);
-            assertThat(modelMapPost.get(IS_BEAN_VALIDATION_ERROR)).isEqualTo(String.valueOf(false));
-            assertThat(modelMapPost.get(ERROR_SINGLE)).isEqualTo(null);
+            assertThat(result.getNameList()).isEqualTo(nameList);
+            assertThat(result.isBeanValidationError()).isFalse();
+            assertThat(result.getErrorSingle()).isNull();
 
             companyArticleService.removeArticleByName(article1.getName());
             companyArticleService.removeArticleByName(article2.getName());
@@ -119,20 +126,19 @@ public class ManagerCompanyArticleControllerTest implements CompanyArticleTestUt
         companyArticleService.registerArticle(article1);
         companyArticleService.registerArticle(article2);
 
+        String finishToken = token;
         ModelMap modelMapGet = requireNonNull(mockMvc.perform(getWithMultipleParam(
                         ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL,
                         new HashMap<>() {{
-                            put(nameListString, nameListForURL);
-                            put(IS_BEAN_VALIDATION_ERROR, String.valueOf(false));
-                            put(ERROR_SINGLE, null);
+                            put(TOKEN, finishToken);
                         }}))
                 .andExpectAll(status().isOk(),
                         view().name(ADD_COMPANY_ARTICLE_VIEW + "multiple-finish-page"),
                         model().attribute(LAYOUT_PATH, ADD_FINISH_LAYOUT),
-                        model().attribute(nameListString, ControllerUtils.decodeWithUTF8(nameList)))
+                        model().attribute(NAME_LIST, nameList))
                 .andReturn().getModelAndView()).getModelMap();
 
-        assertThat(modelMapGet.get(nameListString)).usingRecursiveComparison().isEqualTo(ControllerUtils.decodeWithUTF8(nameList));
+        assertThat(modelMapGet.get(NAME_LIST)).usingRecursiveComparison().isEqualTo(nameList);
         assertThat(modelMapGet.get(IS_BEAN_VALIDATION_ERROR)).isEqualTo(false);
         assertThat(modelMapGet.get(ERROR_SINGLE)).isEqualTo(null);
 
@@ -146,4 +152,59 @@ public class ManagerCompanyArticleControllerTest implements CompanyArticleTestUt
                 .ignoringFields(NUMBER)
                 .isEqualTo(article2);
     }
+
+    @DisplayName("문자열을 사용하는 기업 기사들 덮어쓰기")
+    @Test
+    void upsertCompanyArticlesWithString() throws Exception {
+        // given
+        CompanyArticle article1 = testEqualDateCompanyArticle;
+        CompanyArticle article2 = testNewCompanyArticle;
+        CompanyArticleBufferSimple articleBuffer = testCompanyArticleBuffer;
+        companyService.registerCompany(samsungElectronics);
+        companyArticleService.registerArticle(CompanyArticle.builder().article(article1).press(Press.SBS).build());
+
+        // when
+        MvcResult mvcResultPost = mockMvc.perform(postWithMultipleParams(ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+                    put(nameDatePressString, articleBuffer.getNameDatePressString());
+                    put(SUBJECT_COMPANY, articleBuffer.getSubjectCompany());
+                    put(linkString, articleBuffer.getLinkString());
+                    put(UPSERT, "true");
+                }}))
+                .andExpectAll(status().isFound(),
+                        redirectedUrlPattern(ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL + ALL_QUERY_STRING))
+                .andReturn();
+
+        // then
+        assertThat(getImportResult(importResultStore, mvcResultPost).getNameList())
+                .isEqualTo(List.of(article1.getName(), article2.getName()));
+        assertThat(companyArticleService.findArticleByName(article1.getName()).orElseThrow())
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(article1);
+        assertThat(companyArticleService.findArticleByName(article2.getName()).orElseThrow())
+                .usingRecursiveComparison()
+                .ignoringFields(NUMBER)
+                .isEqualTo(article2);
+    }
+
+    @DisplayName("기업 기사들 문자열 내보내기")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void exportCompanyArticlesAsString() throws Exception {
+        // given
+        companyService.registerCompany(samsungElectronics);
+        companyArticleService.registerArticle(testCompanyArticle);
+        companyArticleService.registerArticle(testNewCompanyArticle);
+
+        // when
+        String nameDatePress = mockMvc.perform(get(EXPORT_COMPANY_ARTICLE_STRING_URL)
+                        .param("startDate", LocalDate.of(2024, 6, 17).toString())
+                        .param("endDate", LocalDate.of(2024, 6, 18).toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(nameDatePress).isEqualTo(testNewCompanyArticle.getName() + "\n(2024-6-17, HERALD_ECONOMY)\n" +
+                testCompanyArticle.getName() + "\n(2024-6-18, SBS)\n");
+    }
 }
@@ -8,14 +8,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.ModelMap;
+import site.hixview.domain.entity.ImportResult;
 import site.hixview.domain.entity.article.IndustryArticle;
 import site.hixview.domain.entity.article.IndustryArticleBufferSimple;
 import site.hixview.domain.service.IndustryArticleService;
 import site.hixview.support.property.TestSchemaName;
 import site.hixview.support.util.IndustryArticleTestUtils;
-import site.hixview.util.ControllerUtils;
+import site.hixview.web.cache.ImportResultStore;
 
 import javax.sql.DataSource;
 import java.util.HashMap;
@@ -28,8 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
-import static site.hixview.domain.vo.Word.ERROR_SINGLE;
-import static site.hixview.domain.vo.Word.LAYOUT_PATH;
+import static site.hixview.domain.vo.Word.*;
 import static site.hixview.domain.vo.manager.Layout.ADD_FINISH_LAYOUT;
 import static site.hixview.domain.vo.manager.Layout.ADD_PROCESS_LAYOUT;
 import static site.hixview.domain.vo.manager.RequestURL.ADD_INDUSTRY_ARTICLE_WITH_STRING_URL;
@@ -46,6 +47,9 @@ public class ManagerIndustryArticleControllerTest implements IndustryArticleTest
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ImportResultStore importResultStore;
+
     @Autowired
     private IndustryArticleService industryArticleService;
 
@@ -79,19 +83,14 @@ public class ManagerIndustryArticleControllerTest implements IndustryArticleTest
         IndustryArticle article1 = testEqualDateIndustryArticle;
         IndustryArticle article2 = testNewIndustryArticle;
         IndustryArticleBufferSimple articleBufferOriginal = testIndustryArticleBuffer;
-        IndustryArticleBufferSimple articleBufferAddFaultNameDatePress = IndustryArticleBufferSimple.builder()
-                .articleBuffer(articleBufferOriginal)
-                .nameDatePressString(IndustryArticleBufferSimple.builder().article(testIndustryArticle).build()
-                        .getNameDatePressString().replace("2024-", "")).build();
 
         List<String> nameList = Stream.of(article1, article2)
                 .map(IndustryArticle::getName).collect(Collectors.toList());
-        String nameListForURL = toStringForUrl(nameList);
-        String nameListString = "nameList";
+        String token = null;
 
         // then
-        for (IndustryArticleBufferSimple articleBuffer : List.of(articleBufferOriginal, articleBufferAddFaultNameDatePress)) {
-            ModelMap modelMapPost = requireNonNull(mockMvc.perform(postWithMultipleParams(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
+        for (IndustryArticleBufferSimple articleBuffer : List.of(articleBufferOriginal)) {
+            MvcResult mvcResultPost = mockMvc.perform(postWithMultipleParams(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                         put(nameDatePressString, articleBuffer.getNameDatePressString());
                         put(linkString, articleBuffer.getLinkString());
                         put(SUBJECT_FIRST_CATEGORY, articleBuffer.getSubjectFirstCategory());
@@ -99,11 +98,13 @@ public class ManagerIndustryArticleControllerTest implements IndustryArticleTest
                     }}))
                     .andExpectAll(status().isFound(),
                             redirectedUrlPattern(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL + ALL_QUERY_STRING))
-                    .andReturn().getModelAndView()).getModelMap();
+                    .andReturn();
+            ImportResult result = getImportResult(importResultStore, mvcResultPost);
+            token = (String) requireNonNull(mvcResultPost.getModelAndView()).getModel().get(TOKEN);
 
-            assertThat(modelMapPost.get(nameListString)).usingRecursiveComparison().isEqualTo(nameListForURL);
-            assertThat(modelMapPost.get(IS_BEAN_VALIDATION_ERROR)).isEqualTo(String.valueOf(false));
-            assertThat(modelMapPost.get(ERROR_SINGLE)).isEqualTo(null);
+            assertThat(result.getNameList()).isEqualTo(nameList);
+            assertThat(result.isBeanValidationError()).isFalse();
+            assertThat(result.getErrorSingle()).isNull();
 
             industryArticleService.removeArticleByName(article1.getName());
             industryArticleService.removeArticleByName(article2.getName());
@@ -112,20 +113,19 @@ public class ManagerIndustryArticleControllerTest implements IndustryArticleTest
         industryArticleService.registerArticle(article1);
         industryArticleService.registerArticle(article2);
 
+        String finishToken = token;
         ModelMap modelMapGet = requireNonNull(mockMvc.perform(getWithMultipleParam(
                         ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL,
                         new HashMap<>() {{
-                            put(nameListString, nameListForURL);
-                            put(IS_BEAN_VALIDATION_ERROR, String.valueOf(false));
-                            put(ERROR_SINGLE, null);
+                            put(TOKEN, finishToken);
                         }}))
                 .andExpectAll(status().isOk(),
                         view().name(ADD_INDUSTRY_ARTICLE_VIEW + "multiple-finish-page"),
                         model().attribute(LAYOUT_PATH, ADD_FINISH_LAYOUT),
-                        model().attribute(nameListString, ControllerUtils.decodeWithUTF8(nameList)))
+                        model().attribute(NAME_LIST, nameList))
                 .andReturn().getModelAndView()).getModelMap();
 
-        assertThat(modelMapGet.get(nameListString)).usingRecursiveComparison().isEqualTo(ControllerUtils.decodeWithUTF8(nameList));
+        assertThat(modelMapGet.get(NAME_LIST)).usingRecursiveComparison().isEqualTo(nameList);
         assertThat(modelMapGet.get(IS_BEAN_VALIDATION_ERROR)).isEqualTo(false);
         assertThat(modelMapGet.get(ERROR_SINGLE)).isEqualTo(null);
 
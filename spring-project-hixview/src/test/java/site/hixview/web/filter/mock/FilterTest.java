@@ -24,7 +24,6 @@ import site.hixview.support.util.IndustryArticleTestUtils;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -87,9 +86,9 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
     void companyArticleDtoSupportFilterAddTest() throws Exception {
         // given
         CompanyArticle article = testCompanyArticle;
-        when(companyArticleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
+        when(companyArticleService.existsArticleByName(article.getName())).thenReturn(true);
         when(companyArticleService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
-        when(companyService.findCompanyByName(article.getSubjectCompany())).thenReturn(Optional.of(samsungElectronics));
+        when(companyService.existsCompanyByName(article.getSubjectCompany())).thenReturn(true);
         doNothing().when(companyArticleService).removeArticleByName(article.getName());
         doNothing().when(companyArticleAddSimpleValidator).validate(any(), any());
 
@@ -123,10 +122,10 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
         CompanyArticle beforeModifyArticle = testCompanyArticle;
         CompanyArticle article = CompanyArticle.builder().article(testNewCompanyArticle)
                 .name(beforeModifyArticle.getName()).link(beforeModifyArticle.getLink()).build();
-        when(companyArticleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
-        when(companyArticleService.findArticleByLink(article.getLink())).thenReturn(Optional.of(article));
+        when(companyArticleService.existsArticleByName(article.getName())).thenReturn(true);
+        when(companyArticleService.existsArticleByLink(article.getLink())).thenReturn(true);
         when(companyArticleService.registerArticle(testCompanyArticle)).thenReturn(article);
-        when(companyService.findCompanyByName(article.getSubjectCompany())).thenReturn(Optional.of(samsungElectronics));
+        when(companyService.existsCompanyByName(article.getSubjectCompany())).thenReturn(true);
         doNothing().when(companyArticleService).correctArticle(article);
 
         CompanyArticleDto articleDtoLeftSpace = article.toDto();
@@ -156,7 +155,7 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
     void industryArticleDtoSupportFilterAddTest() throws Exception {
         // given & when
         IndustryArticle article = testIndustryArticle;
-        when(industryArticleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
+        when(industryArticleService.existsArticleByName(article.getName())).thenReturn(true);
         when(industryArticleService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
         doNothing().when(industryArticleService).removeArticleByName(article.getName());
         doNothing().when(industryArticleAddSimpleValidator).validate(any(), any());
@@ -189,8 +188,8 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
         IndustryArticle beforeModifyArticle = testIndustryArticle;
         IndustryArticle article = IndustryArticle.builder().article(testNewIndustryArticle)
                 .name(beforeModifyArticle.getName()).link(beforeModifyArticle.getLink()).build();
-        when(industryArticleService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
-        when(industryArticleService.findArticleByLink(article.getLink())).thenReturn(Optional.of(article));
+        when(industryArticleService.existsArticleByName(article.getName())).thenReturn(true);
+        when(industryArticleService.existsArticleByLink(article.getLink())).thenReturn(true);
         when(industryArticleService.registerArticle(testIndustryArticle)).thenReturn(article);
         doNothing().when(industryArticleService).correctArticle(article);
 
@@ -222,8 +221,8 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
         // given & when
         ArticleMain article = testCompanyArticleMain;
         String name = article.getName();
-        when(articleMainService.findArticleByName(name)).thenReturn(Optional.of(article));
-        when(articleMainService.findArticleByImagePath(article.getImagePath())).thenReturn(Optional.empty());
+        when(articleMainService.existsArticleByName(name)).thenReturn(true);
+        when(articleMainService.existsArticleByImagePath(article.getImagePath())).thenReturn(false);
         when(articleMainService.registerArticle(argThat(Objects::nonNull))).thenReturn(article);
         doNothing().when(articleMainService).removeArticleByName(article.getName());
         doNothing().when(articleMainAddValidator).validate(any(), any());
@@ -257,7 +256,7 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
         // given
         ArticleMain beforeModifyArticle = testCompanyArticleMain;
         ArticleMain article = ArticleMain.builder().article(testNewCompanyArticleMain).name(beforeModifyArticle.getName()).build();
-        when(articleMainService.findArticleByName(article.getName())).thenReturn(Optional.of(article));
+        when(articleMainService.existsArticleByName(article.getName())).thenReturn(true);
         when(articleMainService.registerArticle(testCompanyArticleMain)).thenReturn(article);
         doNothing().when(articleMainService).correctArticle(article);
 
@@ -288,7 +287,7 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
     void companyDtoSupportFilterAddTest() throws Exception {
         // given & when
         Company company = samsungElectronics;
-        when(companyService.findCompanyByName(company.getName())).thenReturn(Optional.of(company));
+        when(companyService.existsCompanyByName(company.getName())).thenReturn(true);
         doNothing().when(companyService).registerCompany(argThat(Objects::nonNull));
         doNothing().when(companyService).removeCompanyByCode(company.getCode());
         doNothing().when(companyAddValidator).validate(any(), any());
@@ -323,8 +322,8 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
         Company beforeModifyCompany = samsungElectronics;
         Company company = Company.builder().company(skHynix)
                 .name(beforeModifyCompany.getName()).code(beforeModifyCompany.getCode()).build();
-        when(companyService.findCompanyByCode(company.getCode())).thenReturn(Optional.of(company));
-        when(companyService.findCompanyByName(company.getName())).thenReturn(Optional.of(company));
+        when(companyService.existsCompanyByCode(company.getCode())).thenReturn(true);
+        when(companyService.existsCompanyByName(company.getName())).thenReturn(true);
         doNothing().when(companyService).registerCompany(samsungElectronics);
         doNothing().when(companyService).correctCompany(company);
 
@@ -9,7 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.ui.ModelMap;
+import site.hixview.domain.entity.ImportResult;
 import site.hixview.domain.entity.article.CompanyArticle;
 import site.hixview.domain.entity.article.CompanyArticleBufferSimple;
 import site.hixview.domain.entity.article.IndustryArticle;
@@ -23,6 +23,7 @@ import site.hixview.support.util.ArticleMainTestUtils;
 import site.hixview.support.util.CompanyArticleTestUtils;
 import site.hixview.support.util.CompanyTestUtils;
 import site.hixview.support.util.IndustryArticleTestUtils;
+import site.hixview.web.cache.ImportResultStore;
 
 import javax.sql.DataSource;
 import java.util.HashMap;
@@ -30,16 +31,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static site.hixview.domain.vo.RequestUrl.FINISH_URL;
-import static site.hixview.domain.vo.Word.ERROR_SINGLE;
 import static site.hixview.domain.vo.manager.RequestURL.ADD_COMPANY_ARTICLE_WITH_STRING_URL;
 import static site.hixview.domain.vo.manager.RequestURL.ADD_INDUSTRY_ARTICLE_WITH_STRING_URL;
 import static site.hixview.domain.vo.name.EntityName.Article.*;
-import static site.hixview.domain.vo.name.ExceptionName.IS_BEAN_VALIDATION_ERROR;
 
 @SpringBootTest(properties = "junit.jupiter.execution.parallel.mode.classes.default=same_thread")
 @AutoConfigureMockMvc
@@ -50,6 +48,9 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ImportResultStore importResultStore;
+
     @Autowired
     private CompanyArticleService companyArticleService;
 
@@ -85,8 +86,6 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
 
         List<String> nameList = Stream.of(article1, article2)
                 .map(CompanyArticle::getName).collect(Collectors.toList());
-        String nameListForURL = toStringForUrl(nameList);
-        String nameListString = "nameList";
 
         String articleStringLeftSpace = articleBuffer.getNameDatePressString()
                 .replace(article1.getName(), " " + article1.getName());
@@ -105,7 +104,7 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
         // then
         for (String articleString : List.of(articleStringLeftSpace, articleStringRightSpace,
                 articleStringKorean, articleStringLowercase)) {
-            ModelMap modelMapPost = requireNonNull(mockMvc.perform(postWithMultipleParams(
+            ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(
                             ADD_COMPANY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                                 put(nameDatePressString, articleString);
                                 put(SUBJECT_COMPANY, articleBuffer.getSubjectCompany());
@@ -113,11 +112,11 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
                             }}))
                     .andExpectAll(status().isFound(),
                             redirectedUrlPattern(ADD_COMPANY_ARTICLE_WITH_STRING_URL + FINISH_URL + ALL_QUERY_STRING))
-                    .andReturn().getModelAndView()).getModelMap();
+                    .andReturn());
 
-            assertThat(modelMapPost.get(nameListString)).usingRecursiveComparison().isEqualTo(nameListForURL);
-            assertThat(modelMapPost.get(IS_BEAN_VALIDATION_ERROR)).isEqualTo(String.valueOf(false));
-            assertThat(modelMapPost.get(ERROR_SINGLE)).isEqualTo(null);
+            assertThat(result.getNameList()).isEqualTo(nameList);
+            assertThat(result.isBeanValidationError()).isFalse();
+            assertThat(result.getErrorSingle()).isNull();
 
             companyArticleService.removeArticleByName(article1.getName());
             companyArticleService.removeArticleByName(article2.getName());
@@ -134,8 +133,6 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
 
         List<String> nameList = Stream.of(article1, article2)
                 .map(IndustryArticle::getName).collect(Collectors.toList());
-        String nameListForURL = toStringForUrl(nameList);
-        String nameListString = "nameList";
 
         String articleStringLeftSpace = articleBuffer.getNameDatePressString()
                 .replace(article1.getName(), " " + article1.getName());
@@ -151,7 +148,7 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
         // then
         for (String articleString : List.of(articleStringLeftSpace, articleStringRightSpace,
                 articleStringKorean, articleStringLowercase)) {
-            ModelMap modelMapPost = requireNonNull(mockMvc.perform(postWithMultipleParams(
+            ImportResult result = getImportResult(importResultStore, mockMvc.perform(postWithMultipleParams(
                             ADD_INDUSTRY_ARTICLE_WITH_STRING_URL, new HashMap<>() {{
                                 put(nameDatePressString, articleString);
                                 put(linkString, articleBuffer.getLinkString());
@@ -160,11 +157,11 @@ class FilterTest implements CompanyArticleTestUtils, IndustryArticleTestUtils, A
                             }}))
                     .andExpectAll(status().isFound(),
                             redirectedUrlPattern(ADD_INDUSTRY_ARTICLE_WITH_STRING_URL + FINISH_URL + ALL_QUERY_STRING))
-                    .andReturn().getModelAndView()).getModelMap();
+                    .andReturn());
 
-            assertThat(modelMapPost.get(nameListString)).usingRecursiveComparison().isEqualTo(nameListForURL);
-            assertThat(modelMapPost.get(IS_BEAN_VALIDATION_ERROR)).isEqualTo(String.valueOf(false));
-            assertThat(modelMapPost.get(ERROR_SINGLE)).isEqualTo(null);
+            assertThat(result.getNameList()).isEqualTo(nameList);
+            assertThat(result.isBeanValidationError()).isFalse();
+            assertThat(result.getErrorSingle()).isNull();
 
             industryArticleService.removeArticleByName(article1.getName());
             industryArticleService.removeArticleByName(article2.getName());